@@ -0,0 +1,173 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.AbstractBitInput;
+import com.github.jinahya.bit.io.BitOrder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * A bit input reads bits straight from a {@link MemorySegment}, on or off the heap, addressed with {@code long}
+ * offsets so that segments larger than {@value java.lang.Integer#MAX_VALUE} bytes can be read.
+ *
+ * <p>The segment's lifetime is governed by its {@link java.lang.foreign.Arena arena}; once the arena is closed, reading
+ * throws an {@link IllegalStateException}.</p>
+ *
+ * <blockquote><pre>{@code
+ * try (Arena arena = Arena.ofConfined()) {
+ *     final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size(), arena);
+ *     final SegmentBitInput input = new SegmentBitInput(segment);
+ *     ...
+ * } // unmapped here, deterministically
+ * }</pre></blockquote>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see SegmentBitOutput
+ * @see SegmentByteInput
+ */
+public class SegmentBitInput
+        extends AbstractBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading from specified segment, starting at offset {@code 0}.
+     *
+     * @param source the segment from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public SegmentBitInput(final MemorySegment source) {
+        this(source, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading from specified segment, starting at offset {@code 0}.
+     *
+     * @param source   the segment from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public SegmentBitInput(final MemorySegment source, final BitOrder bitOrder) {
+        super(bitOrder);
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "source=" + source
+               + ",position=" + position
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code SegmentBitInput} class returns the next byte of the segment as
+     * an unsigned 8-bit value.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the segment has no more bytes.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentBitOutput#write(int)
+     */
+    @Override
+    protected int read() throws IOException {
+        requireRemaining(1L);
+        return source.get(ValueLayout.JAVA_BYTE, position++) & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code SegmentBitInput} class copies bytes from the
+     * segment using {@link MemorySegment#copy(MemorySegment, ValueLayout, long, Object, int, int)}.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the segment has fewer than {@code len} bytes left; no byte is copied in that case.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentBitOutput#write(byte[], int, int)
+     */
+    @Override
+    protected void read(final byte[] dst, final int off, final int len) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        Objects.checkFromIndexSize(off, len, dst.length);
+        requireRemaining(len);
+        MemorySegment.copy(source, ValueLayout.JAVA_BYTE, position, dst, off, len);
+        position += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code SegmentBitInput} class advances the position in the
+     * segment by {@code n}.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if the segment has fewer than {@code n} bytes left; the position is not changed in that
+     *                      case.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        requireRemaining(n);
+        position += n;
+    }
+
+    /**
+     * Checks that the segment has at least specified number of bytes left.
+     *
+     * @param n the number of bytes required.
+     * @throws EOFException if the segment has fewer than {@code n} bytes left.
+     */
+    private void requireRemaining(final long n) throws EOFException {
+        if (n > source.byteSize() - position) {
+            throw new EOFException("n(" + n + ") > remaining(" + (source.byteSize() - position) + ")");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The segment from which bytes are read.
+     */
+    private final MemorySegment source;
+
+    /**
+     * The offset in the {@link #source} from which the next byte is read.
+     */
+    private long position;
+}
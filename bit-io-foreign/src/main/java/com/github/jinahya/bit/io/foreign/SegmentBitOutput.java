@@ -0,0 +1,197 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.AbstractBitOutput;
+import com.github.jinahya.bit.io.BitOrder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * A bit output writes bits straight to a {@link MemorySegment}, on or off the heap, addressed with {@code long}
+ * offsets so that segments larger than {@value java.lang.Integer#MAX_VALUE} bytes can be written.
+ *
+ * <p>The segment's lifetime is governed by its {@link Arena arena}; once the arena is closed, writing throws an
+ * {@link IllegalStateException}. {@link #close()} pads the partially-written octet but leaves the segment alone.</p>
+ *
+ * <blockquote><pre>{@code
+ * try (Arena arena = Arena.ofConfined()) {
+ *     final SegmentBitOutput output = SegmentBitOutput.allocate(arena, 1L << 32);
+ *     ...
+ *     output.close();
+ *     channel.write(output.getWritten().asByteBuffer());
+ * } // freed here, deterministically
+ * }</pre></blockquote>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see SegmentBitInput
+ * @see SegmentByteOutput
+ */
+public class SegmentBitOutput
+        extends AbstractBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing to a segment of specified size allocated from specified arena. The segment is
+     * freed when the arena is closed.
+     *
+     * @param arena    the arena from which the segment is allocated; must not be {@code null}.
+     * @param byteSize the size of the segment, in bytes; must not be negative.
+     * @return a new instance.
+     * @throws NullPointerException     if {@code arena} is {@code null}.
+     * @throws IllegalArgumentException if {@code byteSize} is negative.
+     * @see Arena#allocate(long)
+     */
+    public static SegmentBitOutput allocate(final Arena arena, final long byteSize) {
+        if (arena == null) {
+            throw new NullPointerException("arena is null");
+        }
+        return new SegmentBitOutput(arena.allocate(byteSize));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing to specified segment, starting at offset {@code 0}.
+     *
+     * @param target the segment to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException     if {@code target} is {@code null}.
+     * @throws IllegalArgumentException if {@code target} is {@link MemorySegment#isReadOnly() read-only}.
+     */
+    public SegmentBitOutput(final MemorySegment target) {
+        this(target, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, writing to specified segment, starting at offset {@code 0}.
+     *
+     * @param target   the segment to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @throws NullPointerException     if {@code target} or {@code bitOrder} is {@code null}.
+     * @throws IllegalArgumentException if {@code target} is {@link MemorySegment#isReadOnly() read-only}.
+     */
+    public SegmentBitOutput(final MemorySegment target, final BitOrder bitOrder) {
+        super(bitOrder);
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        if (target.isReadOnly()) {
+            throw new IllegalArgumentException("target is read-only");
+        }
+        this.target = target;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "target=" + target
+               + ",position=" + position
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code SegmentBitOutput} class sets the next byte of the segment.
+     *
+     * @param value {@inheritDoc}
+     * @throws EOFException if the segment has no more space.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentBitInput#read()
+     */
+    @Override
+    protected void write(final int value) throws IOException {
+        requireRemaining(1L);
+        target.set(ValueLayout.JAVA_BYTE, position++, (byte) value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code SegmentBitOutput} class copies bytes to the
+     * segment using {@link MemorySegment#copy(Object, int, MemorySegment, ValueLayout, long, int)}.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the segment has less than {@code len} bytes of space left; no byte is copied in that
+     *                      case.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentBitInput#read(byte[], int, int)
+     */
+    @Override
+    protected void write(final byte[] src, final int off, final int len) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        Objects.checkFromIndexSize(off, len, src.length);
+        requireRemaining(len);
+        MemorySegment.copy(src, off, target, ValueLayout.JAVA_BYTE, position, len);
+        position += len;
+    }
+
+    /**
+     * Checks that the segment has space for at least specified number of bytes.
+     *
+     * @param n the number of bytes required.
+     * @throws EOFException if the segment has less than {@code n} bytes of space left.
+     */
+    private void requireRemaining(final long n) throws EOFException {
+        if (n > target.byteSize() - position) {
+            throw new EOFException("n(" + n + ") > remaining(" + (target.byteSize() - position) + ")");
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------------------- written
+
+    /**
+     * Returns a slice of the segment holding the octets written so far; bits of a partially-written octet are not
+     * included until the octet is completed, e.g. by {@link #close()}.
+     *
+     * @return a slice of the segment from offset {@code 0} to the last complete octet written.
+     */
+    public MemorySegment getWritten() {
+        return target.asSlice(0L, position);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The segment to which bytes are written.
+     */
+    private final MemorySegment target;
+
+    /**
+     * The offset in the {@link #target} to which the next byte is written.
+     */
+    private long position;
+}
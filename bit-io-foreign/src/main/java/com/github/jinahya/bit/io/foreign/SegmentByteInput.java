@@ -0,0 +1,204 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.AbstractByteInput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+/**
+ * A byte input reads bytes from a {@link MemorySegment}, on or off the heap, addressed with {@code long} offsets so
+ * that segments larger than {@value java.lang.Integer#MAX_VALUE} bytes can be read.
+ *
+ * <p>The segment's lifetime is governed by its {@link java.lang.foreign.Arena arena}; once the arena is closed, reading
+ * throws an {@link IllegalStateException}.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see SegmentByteOutput
+ * @see SegmentBitInput
+ */
+public class SegmentByteInput
+        extends AbstractByteInput<MemorySegment> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading from specified segment, starting at offset {@code 0}.
+     *
+     * @param source the segment from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public SegmentByteInput(final MemorySegment source) {
+        super(source);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "position=" + position
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code SegmentByteInput} class returns the byte at the
+     * {@link #getPosition() position} of the {@link #source source} as an unsigned 8-bit value and increases the
+     * position by {@code 1}.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the segment has no more bytes.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentByteOutput#write(int)
+     */
+    @Override
+    public int read() throws IOException {
+        requireRemaining(1L);
+        return source.get(ValueLayout.JAVA_BYTE, position++) & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code SegmentByteInput} class copies bytes from the
+     * {@link #source source} using {@link MemorySegment#copy(MemorySegment, ValueLayout, long, Object, int, int)}.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the segment has fewer than {@code len} bytes left; no byte is copied in that case.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        Objects.checkFromIndexSize(off, len, dst.length);
+        requireRemaining(len);
+        MemorySegment.copy(source, ValueLayout.JAVA_BYTE, position, dst, off, len);
+        position += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(ByteBuffer)} method of {@code SegmentByteInput} class copies bytes from the
+     * {@link #source source} into a segment {@link MemorySegment#ofBuffer(java.nio.Buffer) viewing} the buffer's
+     * remaining space, whether the buffer is direct or not.
+     *
+     * @param dst {@inheritDoc}
+     * @throws ReadOnlyBufferException if {@code dst} is read-only.
+     * @throws EOFException            if the segment has fewer bytes left than {@code dst} has remaining space; no
+     *                                 byte is copied in that case.
+     * @throws IOException             {@inheritDoc}
+     * @see SegmentByteOutput#write(ByteBuffer)
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        final int len = dst.remaining();
+        requireRemaining(len);
+        MemorySegment.ofBuffer(dst).copyFrom(source.asSlice(position, len));
+        dst.position(dst.position() + len);
+        position += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code SegmentByteInput} class increases the
+     * {@link #getPosition() position} by {@code n}.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if the segment has fewer than {@code n} bytes left; the position is not changed in that
+     *                      case.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void skip(final long n) throws IOException {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n(" + n + ") < 0");
+        }
+        requireRemaining(n);
+        position += n;
+    }
+
+    /**
+     * Checks that the {@link #source source} has at least specified number of bytes left.
+     *
+     * @param n the number of bytes required.
+     * @throws EOFException if the segment has fewer than {@code n} bytes left.
+     */
+    private void requireRemaining(final long n) throws EOFException {
+        if (n > source.byteSize() - position) {
+            throw new EOFException("n(" + n + ") > remaining(" + (source.byteSize() - position) + ")");
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    /**
+     * Returns the offset in the {@link #source source} from which the next byte is read.
+     *
+     * @return the offset from which the next byte is read.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Moves to specified offset in the {@link #source source}.
+     *
+     * @param position the offset from which the next byte is read; between {@code 0} and the segment's
+     *                 {@link MemorySegment#byteSize() size}, both inclusive.
+     * @throws IllegalArgumentException if {@code position} is not valid.
+     */
+    public void setPosition(final long position) {
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") < 0");
+        }
+        if (position > source.byteSize()) {
+            throw new IllegalArgumentException("position(" + position + ") > " + source.byteSize());
+        }
+        this.position = position;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The offset in the {@link #source source} from which the next byte is read.
+     */
+    private long position;
+}
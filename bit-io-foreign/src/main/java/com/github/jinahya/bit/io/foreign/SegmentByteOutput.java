@@ -0,0 +1,178 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.AbstractByteOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A byte output writes bytes to a {@link MemorySegment}, on or off the heap, addressed with {@code long} offsets so
+ * that segments larger than {@value java.lang.Integer#MAX_VALUE} bytes can be written.
+ *
+ * <p>The segment's lifetime is governed by its {@link java.lang.foreign.Arena arena}; once the arena is closed, writing
+ * throws an {@link IllegalStateException}. Neither {@link #flush()} nor {@link #close()} affects the segment.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see SegmentByteInput
+ * @see SegmentBitOutput
+ */
+public class SegmentByteOutput
+        extends AbstractByteOutput<MemorySegment> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing to specified segment, starting at offset {@code 0}.
+     *
+     * @param target the segment to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException     if {@code target} is {@code null}.
+     * @throws IllegalArgumentException if {@code target} is {@link MemorySegment#isReadOnly() read-only}.
+     */
+    public SegmentByteOutput(final MemorySegment target) {
+        super(target);
+        if (target.isReadOnly()) {
+            throw new IllegalArgumentException("target is read-only");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "position=" + position
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code SegmentByteOutput} class sets the byte at the
+     * {@link #getPosition() position} of the {@link #target target} and increases the position by {@code 1}.
+     *
+     * @param value {@inheritDoc}
+     * @throws EOFException if the segment has no more space.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentByteInput#read()
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        requireRemaining(1L);
+        target.set(ValueLayout.JAVA_BYTE, position++, (byte) value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code SegmentByteOutput} class copies bytes to the
+     * {@link #target target} using {@link MemorySegment#copy(Object, int, MemorySegment, ValueLayout, long, int)}.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the segment has less than {@code len} bytes of space left; no byte is copied in that
+     *                      case.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentByteInput#read(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        Objects.checkFromIndexSize(off, len, src.length);
+        requireRemaining(len);
+        MemorySegment.copy(src, off, target, ValueLayout.JAVA_BYTE, position, len);
+        position += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(ByteBuffer)} method of {@code SegmentByteOutput} class copies bytes to the
+     * {@link #target target} from a segment {@link MemorySegment#ofBuffer(java.nio.Buffer) viewing} the buffer's
+     * remaining bytes, whether the buffer is direct or not.
+     *
+     * @param src {@inheritDoc}
+     * @throws EOFException if the segment has less space left than {@code src} has remaining bytes; no byte is copied
+     *                      in that case.
+     * @throws IOException  {@inheritDoc}
+     * @see SegmentByteInput#read(ByteBuffer)
+     */
+    @Override
+    public void write(final ByteBuffer src) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        final int len = src.remaining();
+        requireRemaining(len);
+        MemorySegment.copy(MemorySegment.ofBuffer(src), 0L, target, position, len);
+        src.position(src.position() + len);
+        position += len;
+    }
+
+    /**
+     * Checks that the {@link #target target} has space for at least specified number of bytes.
+     *
+     * @param n the number of bytes required.
+     * @throws EOFException if the segment has less than {@code n} bytes of space left.
+     */
+    private void requireRemaining(final long n) throws EOFException {
+        if (n > target.byteSize() - position) {
+            throw new EOFException("n(" + n + ") > remaining(" + (target.byteSize() - position) + ")");
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    /**
+     * Returns the offset in the {@link #target target} to which the next byte is written; the number of bytes
+     * written so far.
+     *
+     * @return the offset to which the next byte is written.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns a slice of the {@link #target target} holding the bytes written so far.
+     *
+     * @return a slice of the target from offset {@code 0} to the {@link #getPosition() position}.
+     */
+    public MemorySegment getWritten() {
+        return target.asSlice(0L, position);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The offset in the {@link #target target} to which the next byte is written.
+     */
+    private long position;
+}
@@ -0,0 +1,73 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.ArrayBitInput;
+import com.github.jinahya.bit.io.BitOrder;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link SegmentBitInput} class.
+ *
+ * @see SegmentBitOutputTest
+ */
+class SegmentBitInputTest {
+
+    @Test
+    void readsAsArrayDoes() throws IOException {
+        final byte[] bytes = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            try (Arena arena = Arena.ofConfined()) {
+                final MemorySegment segment = arena.allocate(bytes.length);
+                segment.copyFrom(MemorySegment.ofArray(bytes));
+                final SegmentBitInput actual = new SegmentBitInput(segment, bitOrder);
+                final ArrayBitInput expected = new ArrayBitInput(bytes, 0, bytes.length, bitOrder);
+                while (expected.getCount() < bytes.length - 24) {
+                    final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                    assertEquals(expected.readUnsignedLong(size), actual.readUnsignedLong(size));
+                    if (size % 3 == 0) {
+                        assertEquals(expected.readLong64(), actual.readLong64());
+                    }
+                }
+                assertEquals(expected.getCount(), actual.getCount());
+                actual.align(1);
+                actual.skip((bytes.length - actual.getCount()) * Byte.SIZE);
+                assertThrows(EOFException.class, actual::readBoolean);
+            }
+        }
+    }
+
+    @Test
+    void rejectsNullArguments() {
+        assertThrows(NullPointerException.class, () -> new SegmentBitInput(null));
+        assertThrows(NullPointerException.class, () -> new SegmentBitInput(MemorySegment.ofArray(new byte[1]), null));
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.ArrayBitOutput;
+import com.github.jinahya.bit.io.BitOrder;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link SegmentBitOutput} class.
+ *
+ * @see SegmentBitInputTest
+ */
+class SegmentBitOutputTest {
+
+    @Test
+    void writesAsArrayDoes() throws IOException {
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            try (Arena arena = Arena.ofConfined()) {
+                final byte[] bytes = new byte[4096];
+                final ArrayBitOutput expected = new ArrayBitOutput(bytes, 0, bytes.length, bitOrder);
+                final SegmentBitOutput actual = new SegmentBitOutput(arena.allocate(bytes.length), bitOrder);
+                for (int i = 0; i < 256; i++) {
+                    final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                    final long value = ThreadLocalRandom.current().nextLong();
+                    expected.writeLong(size, value);
+                    actual.writeLong(size, value);
+                    if (i % 5 == 0) {
+                        expected.writeLong64(value);
+                        actual.writeLong64(value);
+                    }
+                }
+                expected.align(1);
+                actual.close();
+                assertEquals(expected.getCount(), actual.getCount());
+                assertArrayEquals(Arrays.copyOf(bytes, (int) expected.getCount()),
+                                  actual.getWritten().toArray(ValueLayout.JAVA_BYTE));
+            }
+        }
+    }
+
+    @Test
+    void allocatedSegmentIsBoundedAndFreedWithArena() throws IOException {
+        final Arena arena = Arena.ofConfined();
+        final SegmentBitOutput output = SegmentBitOutput.allocate(arena, 2L);
+        output.writeUnsignedInt(16, 0xCAFE);
+        assertThrows(EOFException.class, () -> output.writeUnsignedInt(8, 0));
+        arena.close();
+        assertThrows(IllegalStateException.class, () -> output.getWritten().get(ValueLayout.JAVA_BYTE, 0L));
+        assertThrows(NullPointerException.class, () -> SegmentBitOutput.allocate(null, 1L));
+    }
+}
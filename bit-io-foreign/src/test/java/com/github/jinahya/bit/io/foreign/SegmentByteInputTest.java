@@ -0,0 +1,81 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link SegmentByteInput} class.
+ *
+ * @see SegmentByteOutputTest
+ */
+class SegmentByteInputTest {
+
+    @Test
+    void readsBytesArraysAndBuffersFromSegment() throws IOException {
+        final byte[] bytes = new byte[1024];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(bytes.length);
+            segment.copyFrom(MemorySegment.ofArray(bytes));
+            final SegmentByteInput input = new SegmentByteInput(segment);
+            assertEquals(bytes[0] & 0xFF, input.read());
+            final byte[] array = new byte[100];
+            input.read(array, 0, array.length);
+            assertArrayEquals(Arrays.copyOfRange(bytes, 1, 101), array);
+            final ByteBuffer direct = ByteBuffer.allocateDirect(100);
+            input.read(direct);
+            assertEquals(0, direct.remaining());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(bytes[101 + i], direct.get(i));
+            }
+            input.skip(bytes.length - 202L);
+            assertEquals(bytes.length - 1L, input.getPosition());
+            assertThrows(EOFException.class, () -> input.read(new byte[2], 0, 2));
+            assertEquals(bytes[bytes.length - 1] & 0xFF, input.read());
+            assertThrows(EOFException.class, input::read);
+            input.setPosition(0L);
+            assertEquals(bytes[0] & 0xFF, input.read());
+            assertThrows(IllegalArgumentException.class, () -> input.setPosition(bytes.length + 1L));
+            assertThrows(IllegalArgumentException.class, () -> input.skip(-1L));
+        }
+    }
+
+    @Test
+    void readAfterArenaClosedThrowsIllegalStateException() {
+        final Arena arena = Arena.ofConfined();
+        final SegmentByteInput input = new SegmentByteInput(arena.allocate(8L));
+        arena.close();
+        assertThrows(IllegalStateException.class, input::read);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.jinahya.bit.io.foreign;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link SegmentByteOutput} class.
+ *
+ * @see SegmentByteInputTest
+ */
+class SegmentByteOutputTest {
+
+    @Test
+    void writesBytesArraysAndBuffersToSegment() throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            final SegmentByteOutput output = new SegmentByteOutput(arena.allocate(8L));
+            output.write(0x01);
+            output.write(new byte[]{0x02, 0x03, 0x04}, 0, 3);
+            final ByteBuffer direct = ByteBuffer.allocateDirect(3).put(new byte[]{0x05, 0x06, 0x07});
+            direct.flip();
+            output.write(direct);
+            assertEquals(0, direct.remaining());
+            assertEquals(7L, output.getPosition());
+            assertArrayEquals(new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07},
+                              output.getWritten().toArray(ValueLayout.JAVA_BYTE));
+            assertThrows(EOFException.class, () -> output.write(new byte[2], 0, 2));
+            output.write(0x08);
+            assertThrows(EOFException.class, () -> output.write(0x09));
+            output.close(); // leaves the segment alone
+            assertEquals(8L, output.getWritten().byteSize());
+        }
+    }
+
+    @Test
+    void rejectsReadOnlySegment() {
+        final MemorySegment segment = MemorySegment.ofArray(new byte[1]).asReadOnly();
+        assertThrows(IllegalArgumentException.class, () -> new SegmentByteOutput(segment));
+        assertThrows(NullPointerException.class, () -> new SegmentByteOutput(null));
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.jinahya.bit.io.vector;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.ArrayBitOutput;
+import com.github.jinahya.bit.io.BitPacker;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bit packer which packs values with the {@code jdk.incubator.vector} API, one
+ * {@link IntVector#SPECIES_PREFERRED preferred} vector of values at a time.
+ *
+ * <p>The vector lanes mask each value to its size and, for signed values, move the sign into the top bit of the value.
+ * For {@code int} values of a size which divides {@value java.lang.Integer#SIZE}, i.e. {@code 1}, {@code 2}, {@code 4},
+ * {@code 8} or {@code 16}, each lane is then shifted to its place in a group of up to {@value java.lang.Integer#SIZE}
+ * bits and the lanes of each group are OR-reduced into the group; the groups are stored through a {@code 64}-bit
+ * accumulator. Values of other sizes, {@code long} values, and the values of the tail, are stored through the
+ * accumulator one after another. Each octet is stored once, without a read-modify-write of the target.</p>
+ *
+ * <blockquote><pre>{@code
+ * final ArrayBitOutput output = new ArrayBitOutput(bytes);
+ * output.setPacker(new VectorBitPacker());
+ * output.writeUnsignedInts(11, values, 0, values.length);
+ * }</pre></blockquote>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitOutput#setPacker(BitPacker)
+ * @see VectorBitUnpacker
+ */
+public final class VectorBitPacker
+        implements BitPacker {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Left shifts, indexed by the size, which move each value to its place in its group; {@code null} for sizes which
+     * do not divide {@value java.lang.Integer#SIZE}.
+     */
+    private static final IntVector[] SHIFTS;
+
+    /**
+     * Masks, indexed as {@link #SHIFTS}, each selecting the lanes of a group, in order.
+     */
+    private static final VectorMask<Integer>[][] GROUPS;
+
+    static {
+        final int lanes = INTS.length();
+        final IntVector[] shifts = new IntVector[Integer.SIZE];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final VectorMask<Integer>[][] groups = new VectorMask[Integer.SIZE][];
+        final int[] lefts = new int[lanes];
+        final boolean[] bits = new boolean[lanes];
+        for (int size = 1; size < Integer.SIZE; size <<= 1) {
+            final int width = Math.min(lanes, Integer.SIZE / size); // lanes of a group
+            for (int j = 0; j < lanes; j++) {
+                lefts[j] = (width - 1 - j % width) * size;
+            }
+            shifts[size] = IntVector.fromArray(INTS, lefts, 0);
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final VectorMask<Integer>[] masks = new VectorMask[lanes / width];
+            for (int k = 0; k < masks.length; k++) {
+                for (int j = 0; j < lanes; j++) {
+                    bits[j] = j / width == k;
+                }
+                masks[k] = VectorMask.fromArray(INTS, bits, 0);
+            }
+            groups[size] = masks;
+        }
+        SHIFTS = shifts;
+        GROUPS = groups;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    public VectorBitPacker() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @Override
+    public void pack(final int size, final boolean signed, final int[] src, final int off, final int len,
+                     final byte[] dst, final int index) {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        pack(VectorBitUnpacker.requireValidSize(size, Integer.SIZE), signed, src, null, off, len, dst, null, index);
+    }
+
+    @Override
+    public void pack(final int size, final boolean signed, final long[] src, final int off, final int len,
+                     final byte[] dst, final int index) {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        pack(VectorBitUnpacker.requireValidSize(size, Long.SIZE), signed, null, src, off, len, dst, null, index);
+    }
+
+    /**
+     * Packs specified number of values of specified size from specified array of {@code int}s into specified buffer.
+     * The position of the buffer is neither used nor changed; a memory segment can be packed through its
+     * {@code asByteBuffer()} view.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for packing each value with its sign flag; {@code false} otherwise.
+     * @param src    the array whose values are packed.
+     * @param off    the offset in {@code src}.
+     * @param len    the number of values to pack.
+     * @param dst    the buffer to which octets are written.
+     * @param index  the absolute index, in {@code dst}, of the first octet.
+     * @see #pack(int, boolean, int[], int, int, byte[], int)
+     */
+    public void pack(final int size, final boolean signed, final int[] src, final int off, final int len,
+                     final ByteBuffer dst, final int index) {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        pack(VectorBitUnpacker.requireValidSize(size, Integer.SIZE), signed, src, null, off, len, null, dst, index);
+    }
+
+    /**
+     * Packs specified number of values of specified size from specified array of {@code long}s into specified buffer.
+     * The position of the buffer is neither used nor changed; a memory segment can be packed through its
+     * {@code asByteBuffer()} view.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for packing each value with its sign flag; {@code false} otherwise.
+     * @param src    the array whose values are packed.
+     * @param off    the offset in {@code src}.
+     * @param len    the number of values to pack.
+     * @param dst    the buffer to which octets are written.
+     * @param index  the absolute index, in {@code dst}, of the first octet.
+     * @see #pack(int, boolean, long[], int, int, byte[], int)
+     */
+    public void pack(final int size, final boolean signed, final long[] src, final int off, final int len,
+                     final ByteBuffer dst, final int index) {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        pack(VectorBitUnpacker.requireValidSize(size, Long.SIZE), signed, null, src, off, len, null, dst, index);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private static void pack(final int size, final boolean signed, final int[] ints, final long[] longs, final int off,
+                             final int len, final byte[] array, final ByteBuffer buffer, final int index) {
+        final int lanes = ints != null ? INTS.length() : LONGS.length();
+        final int[] prepared = ints != null ? new int[lanes] : null;
+        final long[] chunk = new long[lanes];
+        final long mask = size == Long.SIZE ? -1L : (1L << size) - 1L;
+        final long flag = 1L << (size - 1);
+        final VectorMask<Integer>[] groups = ints != null && size < Integer.SIZE ? GROUPS[size] : null;
+        long window = 0L;
+        int available = 0; // bits in the window not yet stored
+        int p = index;
+        for (int i = 0; i < len; i += lanes) {
+            final int n = Math.min(lanes, len - i);
+            int pieces = n; // the number of pieces, in the chunk, to store
+            int bits = size; // the number of bits of each piece
+            if (n == lanes && groups != null) {
+                group(signed, ints, off + i, size, (int) mask, (int) flag, groups, chunk);
+                pieces = groups.length;
+                bits = size * (lanes / pieces);
+            } else if (n == lanes) {
+                prepare(signed, ints, longs, off + i, mask, flag, prepared, chunk);
+            } else {
+                for (int j = 0; j < n; j++) {
+                    final long value = ints != null ? ints[off + i + j] : longs[off + i + j];
+                    chunk[j] = (value & mask & ~(signed ? flag : 0L)) | (signed && value < 0L ? flag : 0L);
+                }
+            }
+            for (int j = 0; j < pieces; j++) {
+                final long value = chunk[j];
+                // at most 31 bits of a piece at a time so that the window, still holding up to 7 bits, never overflows
+                for (int remaining = bits; remaining > 0; ) {
+                    final int take = Math.min(remaining, Integer.SIZE - 1);
+                    remaining -= take;
+                    window = (window << take) | ((value >>> remaining) & ((1L << take) - 1L));
+                    available += take;
+                    while (available >= Byte.SIZE) {
+                        available -= Byte.SIZE;
+                        final byte octet = (byte) (window >>> available);
+                        if (array != null) {
+                            array[p++] = octet;
+                        } else {
+                            buffer.put(p++, octet);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Masks, shifts and OR-reduces, in vector lanes, a whole vector of {@code int} values, starting at specified
+     * offset, into specified chunk, one group of values for each mask of specified groups.
+     */
+    private static void group(final boolean signed, final int[] ints, final int off, final int size, final int mask,
+                              final int flag, final VectorMask<Integer>[] groups, final long[] chunk) {
+        final IntVector values = mask(signed, IntVector.fromArray(INTS, ints, off), mask, flag)
+                .lanewise(VectorOperators.LSHL, SHIFTS[size]);
+        for (int k = 0; k < groups.length; k++) {
+            chunk[k] = values.reduceLanes(VectorOperators.OR, groups[k]) & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * Masks, in vector lanes, a whole vector of values, starting at specified offset, into specified chunk.
+     */
+    private static void prepare(final boolean signed, final int[] ints, final long[] longs, final int off,
+                                final long mask, final long flag, final int[] prepared, final long[] chunk) {
+        if (ints != null) {
+            mask(signed, IntVector.fromArray(INTS, ints, off), (int) mask, (int) flag).intoArray(prepared, 0);
+            for (int j = 0; j < chunk.length; j++) {
+                chunk[j] = prepared[j] & 0xFFFFFFFFL;
+            }
+            return;
+        }
+        final LongVector values = LongVector.fromArray(LONGS, longs, off);
+        if (signed) {
+            values.and(mask & ~flag)
+                    .lanewise(VectorOperators.OR, flag, values.compare(VectorOperators.LT, 0L))
+                    .intoArray(chunk, 0);
+        } else {
+            values.and(mask).intoArray(chunk, 0);
+        }
+    }
+
+    /**
+     * Masks specified values to specified mask and, for signed values, sets specified flag of negative values.
+     */
+    private static IntVector mask(final boolean signed, final IntVector values, final int mask, final int flag) {
+        if (signed) {
+            return values.and(mask & ~flag).lanewise(VectorOperators.OR, flag, values.compare(VectorOperators.LT, 0));
+        }
+        return values.and(mask);
+    }
+}
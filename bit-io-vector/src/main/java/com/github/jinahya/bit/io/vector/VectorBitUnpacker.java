@@ -0,0 +1,275 @@
+package com.github.jinahya.bit.io.vector;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.ArrayBitInput;
+import com.github.jinahya.bit.io.BitUnpacker;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bit unpacker which unpacks values of up to {@value #MAX_VECTOR_SIZE} bits with the {@code jdk.incubator.vector}
+ * API, one {@link IntVector#SPECIES_PREFERRED preferred} vector of values at a time.
+ *
+ * <p>For each lane, the four octets holding the bits of the value are shuffled, in big endian order, into the lane;
+ * then the lane is shifted left by the bit offset of the value in its first octet and shifted right by
+ * {@code 32 - size}. Values longer than {@value #MAX_VECTOR_SIZE} bits, which may span five octets, and the values of
+ * the tail are unpacked one after another. So are the values of a buffer which does not
+ * {@link ByteBuffer#hasArray() expose its array}, such as a direct buffer.</p>
+ *
+ * <blockquote><pre>{@code
+ * final ArrayBitInput input = new ArrayBitInput(bytes);
+ * input.setUnpacker(new VectorBitUnpacker());
+ * input.readUnsignedInts(11, values, 0, values.length);
+ * }</pre></blockquote>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitInput#setUnpacker(BitUnpacker)
+ * @see VectorBitPacker
+ */
+public final class VectorBitUnpacker
+        implements BitUnpacker {
+
+    /**
+     * The maximum number of bits of a value unpacked in vector lanes.
+     */
+    public static final int MAX_VECTOR_SIZE = Integer.SIZE - Byte.SIZE + 1;
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Byte> BYTES = VectorSpecies.of(byte.class, INTS.vectorShape());
+
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, INTS.vectorShape());
+
+    /**
+     * Shuffles, indexed by the size and by the bit offset, in its first octet, of the first value of a vector, which
+     * move the octets of each value into its lane.
+     */
+    private static final VectorShuffle<Byte>[][] SHUFFLES;
+
+    /**
+     * Left shifts, indexed as {@link #SHUFFLES}, which move the first bit of each value to the top of its lane.
+     */
+    private static final IntVector[][] SHIFTS;
+
+    static {
+        final int lanes = INTS.length();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final VectorShuffle<Byte>[][] shuffles = new VectorShuffle[MAX_VECTOR_SIZE + 1][Byte.SIZE];
+        final IntVector[][] shifts = new IntVector[MAX_VECTOR_SIZE + 1][Byte.SIZE];
+        final int[] map = new int[BYTES.length()];
+        final int[] lefts = new int[lanes];
+        for (int size = 1; size <= MAX_VECTOR_SIZE; size++) {
+            for (int r = 0; r < Byte.SIZE; r++) {
+                for (int j = 0; j < lanes; j++) {
+                    final int bit = r + j * size;
+                    for (int k = 0; k < Integer.BYTES; k++) {
+                        map[j * Integer.BYTES + k] = (bit >> 3) + Integer.BYTES - 1 - k; // lanes are little endian
+                    }
+                    lefts[j] = bit & (Byte.SIZE - 1);
+                }
+                shuffles[size][r] = VectorShuffle.fromArray(BYTES, map, 0);
+                shifts[size][r] = IntVector.fromArray(INTS, lefts, 0);
+            }
+        }
+        SHUFFLES = shuffles;
+        SHIFTS = shifts;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance.
+     */
+    public VectorBitUnpacker() {
+        super();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @Override
+    public void unpack(final int size, final boolean signed, final byte[] src, final int index, final int[] dst,
+                       final int off, final int len) {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        unpack(requireValidSize(size, Integer.SIZE), signed, src, null, index, dst, null, off, len);
+    }
+
+    @Override
+    public void unpack(final int size, final boolean signed, final byte[] src, final int index, final long[] dst,
+                       final int off, final int len) {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        unpack(requireValidSize(size, Long.SIZE), signed, src, null, index, null, dst, off, len);
+    }
+
+    /**
+     * Unpacks specified number of values of specified size from specified buffer into specified array of
+     * {@code int}s. The position of the buffer is neither used nor changed. Values of a buffer which does not
+     * {@link ByteBuffer#hasArray() expose its array}, such as a direct buffer, are unpacked one after another.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for sign-extending each value; {@code false} otherwise.
+     * @param src    the buffer from which octets are read.
+     * @param index  the absolute index, in {@code src}, of the first octet.
+     * @param dst    the array into which values are unpacked.
+     * @param off    the offset in {@code dst}.
+     * @param len    the number of values to unpack.
+     * @see #unpack(int, boolean, byte[], int, int[], int, int)
+     */
+    public void unpack(final int size, final boolean signed, final ByteBuffer src, final int index, final int[] dst,
+                       final int off, final int len) {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        unpack(requireValidSize(size, Integer.SIZE), signed, null, src, index, dst, null, off, len);
+    }
+
+    /**
+     * Unpacks specified number of values of specified size from specified buffer into specified array of
+     * {@code long}s. The position of the buffer is neither used nor changed. Values of a buffer which does not
+     * {@link ByteBuffer#hasArray() expose its array}, such as a direct buffer, are unpacked one after another.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for sign-extending each value; {@code false} otherwise.
+     * @param src    the buffer from which octets are read.
+     * @param index  the absolute index, in {@code src}, of the first octet.
+     * @param dst    the array into which values are unpacked.
+     * @param off    the offset in {@code dst}.
+     * @param len    the number of values to unpack.
+     * @see #unpack(int, boolean, byte[], int, long[], int, int)
+     */
+    public void unpack(final int size, final boolean signed, final ByteBuffer src, final int index, final long[] dst,
+                       final int off, final int len) {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        unpack(requireValidSize(size, Long.SIZE), signed, null, src, index, null, dst, off, len);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    static int requireValidSize(final int size, final int max) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size(" + size + ") <= 0");
+        }
+        if (size > max) {
+            throw new IllegalArgumentException("size(" + size + ") > " + max);
+        }
+        return size;
+    }
+
+    private static void unpack(final int size, final boolean signed, final byte[] array, final ByteBuffer buffer,
+                               final int index, final int[] ints, final long[] longs, final int off, final int len) {
+        int unpacked = 0;
+        if (size <= MAX_VECTOR_SIZE) {
+            if (array != null) {
+                unpacked = vector(size, signed, array, index, array.length, ints, longs, off, len);
+            } else if (buffer.hasArray()) {
+                final int offset = buffer.arrayOffset();
+                unpacked = vector(size, signed, buffer.array(), offset + index, offset + buffer.limit(), ints, longs,
+                                  off, len);
+            }
+        }
+        scalar(size, signed, array, buffer, index, ints, longs, off, unpacked, len);
+    }
+
+    /**
+     * Unpacks leading values, a vector of them at a time, while a whole byte vector can be loaded from specified array
+     * below specified limit.
+     *
+     * @return the number of values unpacked.
+     */
+    private static int vector(final int size, final boolean signed, final byte[] array, final int index,
+                              final int limit, final int[] ints, final long[] longs, final int off, final int len) {
+        final int lanes = INTS.length();
+        final VectorShuffle<Byte>[] shuffles = SHUFFLES[size];
+        final IntVector[] shifts = SHIFTS[size];
+        final VectorOperators.Binary right = signed ? VectorOperators.ASHR : VectorOperators.LSHR;
+        int i = 0;
+        for (; i + lanes <= len; i += lanes) {
+            final long bit = (long) i * size;
+            final int p = index + (int) (bit >> 3);
+            if (p + BYTES.length() > limit) {
+                break;
+            }
+            final int r = (int) bit & (Byte.SIZE - 1);
+            final IntVector values = ByteVector.fromArray(BYTES, array, p).rearrange(shuffles[r]).reinterpretAsInts()
+                    .lanewise(VectorOperators.LSHL, shifts[r])
+                    .lanewise(right, Integer.SIZE - size);
+            if (ints != null) {
+                values.intoArray(ints, off + i);
+                continue;
+            }
+            ((LongVector) values.convertShape(VectorOperators.I2L, LONGS, 0)).intoArray(longs, off + i);
+            ((LongVector) values.convertShape(VectorOperators.I2L, LONGS, 1)).intoArray(longs, off + i + (lanes >> 1));
+        }
+        return i;
+    }
+
+    /**
+     * Unpacks values, starting at specified value, one after another.
+     */
+    private static void scalar(final int size, final boolean signed, final byte[] array, final ByteBuffer buffer,
+                               final int index, final int[] ints, final long[] longs, final int off, final int from,
+                               final int len) {
+        final long bit = (long) from * size;
+        int p = index + (int) (bit >> 3);
+        int octet = 0;
+        int available = 0;
+        if ((bit & (Byte.SIZE - 1)) != 0) {
+            octet = (array != null ? array[p++] : buffer.get(p++)) & 0xFF;
+            available = Byte.SIZE - (int) (bit & (Byte.SIZE - 1));
+        }
+        final int shift = Long.SIZE - size;
+        for (int i = from; i < len; i++) {
+            long value = 0L;
+            for (int need = size; need > 0; ) {
+                if (available == 0) {
+                    octet = (array != null ? array[p++] : buffer.get(p++)) & 0xFF;
+                    available = Byte.SIZE;
+                }
+                final int take = Math.min(need, available);
+                available -= take;
+                value = (value << take) | ((octet >> available) & ((1 << take) - 1));
+                need -= take;
+            }
+            if (signed) {
+                value = (value << shift) >> shift;
+            }
+            if (ints != null) {
+                ints[off + i] = (int) value;
+            } else {
+                longs[off + i] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.jinahya.bit.io.vector;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.ArrayBitOutput;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A class for testing {@link VectorBitPacker} class.
+ *
+ * @see VectorBitUnpackerTest
+ */
+class VectorBitPackerTest {
+
+    @Test
+    void packMatchesWritingValuesOneAfterAnother() throws IOException {
+        final VectorBitPacker packer = new VectorBitPacker();
+        for (int size = 1; size <= Long.SIZE; size++) {
+            for (final boolean signed : new boolean[]{false, true}) {
+                if (!signed && size == Long.SIZE) {
+                    continue; // no 64-bit unsigned long
+                }
+                final int len = 8 * 13;
+                final long[] longs = new long[len + 2];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = ThreadLocalRandom.current().nextLong() >> ThreadLocalRandom.current().nextInt(64);
+                }
+                final byte[] expected = new byte[len * size / Byte.SIZE + 2];
+                final ArrayBitOutput output = new ArrayBitOutput(expected, 2, expected.length - 2);
+                for (int i = 2; i < len + 2; i++) {
+                    if (signed) {
+                        output.writeLong(size, longs[i]);
+                    } else {
+                        output.writeUnsignedLong(size, longs[i]);
+                    }
+                }
+                final byte[] actual = new byte[expected.length];
+                packer.pack(size, signed, longs, 2, len, actual, 2);
+                assertArrayEquals(expected, actual, "size: " + size);
+                final ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+                packer.pack(size, signed, longs, 2, len, buffer, 2);
+                final byte[] buffered = new byte[expected.length];
+                buffer.get(buffered);
+                assertArrayEquals(expected, buffered);
+                if (size > (signed ? Integer.SIZE : Integer.SIZE - 1)) {
+                    continue;
+                }
+                final int[] ints = new int[len];
+                for (int i = 0; i < len; i++) {
+                    ints[i] = (int) longs[i + 2];
+                }
+                final byte[] expectedInts = new byte[expected.length - 2];
+                final ArrayBitOutput intOutput = new ArrayBitOutput(expectedInts);
+                for (final int value : ints) {
+                    if (signed) {
+                        intOutput.writeInt(size, value);
+                    } else {
+                        intOutput.writeUnsignedInt(size, value);
+                    }
+                }
+                final byte[] actualInts = new byte[expectedInts.length];
+                packer.pack(size, signed, ints, 0, len, actualInts, 0);
+                assertArrayEquals(expectedInts, actualInts);
+            }
+        }
+    }
+
+    @Test
+    void writesOfArrayBitOutputHandedToPacker() throws IOException {
+        final byte[] expectedTarget = new byte[4096];
+        final byte[] actualTarget = new byte[4096];
+        final ArrayBitOutput expected = new ArrayBitOutput(expectedTarget);
+        final ArrayBitOutput actual = new ArrayBitOutput(actualTarget);
+        actual.setPacker(new VectorBitPacker());
+        for (int size = 3; size <= 20; size++) {
+            final int[] values = new int[101];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ThreadLocalRandom.current().nextInt() >>> (Integer.SIZE - size);
+            }
+            expected.writeUnsignedInts(size, values, 0, values.length);
+            actual.writeUnsignedInts(size, values, 0, values.length);
+            assertEquals(expected.getCount(), actual.getCount());
+        }
+        assertEquals(expected.align(1), actual.align(1));
+        assertArrayEquals(expectedTarget, actualTarget);
+    }
+}
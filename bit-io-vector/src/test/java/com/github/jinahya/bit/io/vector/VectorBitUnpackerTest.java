@@ -0,0 +1,109 @@
+package com.github.jinahya.bit.io.vector;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.ArrayBitInput;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link VectorBitUnpacker} class.
+ *
+ * @see VectorBitPackerTest
+ */
+class VectorBitUnpackerTest {
+
+    @Test
+    void unpackMatchesReadingValuesOneAfterAnother() throws IOException {
+        final VectorBitUnpacker unpacker = new VectorBitUnpacker();
+        final byte[] source = new byte[1024];
+        ThreadLocalRandom.current().nextBytes(source);
+        final byte[] padded = new byte[source.length + 10];
+        System.arraycopy(source, 0, padded, 5, source.length);
+        final ByteBuffer sliced = ByteBuffer.wrap(padded, 5, source.length).slice(); // a non-zero array offset
+        final ByteBuffer direct = ByteBuffer.allocateDirect(source.length);
+        direct.put(source);
+        for (int size = 1; size <= Long.SIZE; size++) {
+            for (final boolean signed : new boolean[]{false, true}) {
+                if (!signed && size == Long.SIZE) {
+                    continue; // no 64-bit unsigned long
+                }
+                final int len = (source.length - 3) * Byte.SIZE / size / 8 * 8; // whole octets
+                final long[] expected = new long[len];
+                final ArrayBitInput input = new ArrayBitInput(source, 3, source.length - 3);
+                for (int i = 0; i < len; i++) {
+                    expected[i] = signed ? input.readLong(size) : input.readUnsignedLong(size);
+                }
+                final long[] longs = new long[len + 1];
+                unpacker.unpack(size, signed, source, 3, longs, 1, len);
+                assertArrayEquals(expected, Arrays.copyOfRange(longs, 1, len + 1), "size: " + size);
+                for (final ByteBuffer buffer : new ByteBuffer[]{sliced, direct, sliced.asReadOnlyBuffer()}) {
+                    final long[] buffered = new long[len];
+                    unpacker.unpack(size, signed, buffer, 3, buffered, 0, len);
+                    assertArrayEquals(expected, buffered, buffer.toString());
+                }
+                if (size > (signed ? Integer.SIZE : Integer.SIZE - 1)) {
+                    continue;
+                }
+                final int[] ints = new int[len];
+                unpacker.unpack(size, signed, source, 3, ints, 0, len);
+                for (int i = 0; i < len; i++) {
+                    assertEquals((int) expected[i], ints[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void readsOfArrayBitInputHandedToUnpacker() throws IOException {
+        final byte[] source = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(source);
+        final ArrayBitInput expected = new ArrayBitInput(source);
+        final ArrayBitInput actual = new ArrayBitInput(source);
+        actual.setUnpacker(new VectorBitUnpacker());
+        for (int size = 3; size <= 20; size++) {
+            final int[] expectedValues = new int[101];
+            final int[] actualValues = new int[101];
+            expected.readUnsignedInts(size, expectedValues, 0, expectedValues.length);
+            actual.readUnsignedInts(size, actualValues, 0, actualValues.length);
+            assertArrayEquals(expectedValues, actualValues);
+            assertEquals(expected.getCount(), actual.getCount());
+        }
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        final VectorBitUnpacker unpacker = new VectorBitUnpacker();
+        assertThrows(IllegalArgumentException.class, () -> unpacker.unpack(0, false, new byte[1], 0, new int[1], 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> unpacker.unpack(Integer.SIZE + 1, false, new byte[8], 0, new int[1], 0, 1));
+        assertThrows(NullPointerException.class,
+                     () -> unpacker.unpack(1, false, (byte[]) null, 0, new long[1], 0, 1));
+    }
+}
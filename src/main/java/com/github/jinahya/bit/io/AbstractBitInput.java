@@ -30,6 +30,7 @@ import static com.github.jinahya.bit.io.BitIoUtils.requireValidFractionSizeDoubl
 import static com.github.jinahya.bit.io.BitIoUtils.requireValidFractionSizeFloat;
 import static com.github.jinahya.bit.io.BitIoUtils.requireValidFractionSizeHalf;
 import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeChar;
+import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeForPeek;
 import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeForSignedByte;
 import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeForSignedInt;
 import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeForSignedLong;
@@ -42,7 +43,15 @@ import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeForUnsignedSh
 /**
  * An abstract class for implementing {@link BitInput} interface.
  *
- * <p>Instances are <strong>not</strong> thread-safe: they hold mutable bit-position state ({@code octet},
+ * <p>Bits are served from a {@code 64}-bit window which is refilled, octet by octet, with only as many octets as the
+ * current read requires; no octet is read ahead of need, so {@link #getCount()} and {@link #align(int)} behave as if
+ * octets were read one at a time. Octets taken in by {@link #peekUnsignedLong(int) peeking} stay in the window, and
+ * are not counted, until they are consumed.</p>
+ *
+ * <p>Bits are read in either {@link BitOrder bit order}; {@link BitOrder#LSB_FIRST} fills the window from its least
+ * significant end so that both orders cost the same shift and mask per read.</p>
+ *
+ * <p>Instances are <strong>not</strong> thread-safe: they hold mutable bit-position state ({@code window},
  * {@code available}, {@code count}) that is updated without synchronization, so an instance must be confined to a
  * single thread.</p>
  *
@@ -56,10 +65,25 @@ public abstract class AbstractBitInput
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Creates a new instance.
+     * Creates a new instance which reads bits in {@link BitOrder#MSB_FIRST} order.
      */
     protected AbstractBitInput() {
+        this(BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance which reads bits in specified order.
+     *
+     * @param bitOrder the order in which bits are packed into octets; must not be {@code null}.
+     * @throws NullPointerException if {@code bitOrder} is {@code null}.
+     */
+    protected AbstractBitInput(final BitOrder bitOrder) {
         super();
+        if (bitOrder == null) {
+            throw new NullPointerException("bitOrder is null");
+        }
+        this.bitOrder = bitOrder;
+        this.lsbFirst = bitOrder == BitOrder.LSB_FIRST;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -73,39 +97,164 @@ public abstract class AbstractBitInput
      */
     protected abstract int read() throws IOException;
 
+    /**
+     * Reads specified number of bytes into specified array starting at specified offset. The {@code read(byte[], int,
+     * int)} method of {@code AbstractBitInput} class invokes {@link #read()} method for each byte. Subclasses backed by
+     * a source capable of bulk transfers are encouraged to override this method.
+     *
+     * @param dst the array to which bytes are read.
+     * @param off the offset in {@code dst}.
+     * @param len the number of bytes to read.
+     * @throws IOException if an I/O error occurs.
+     * @see AbstractBitOutput#write(byte[], int, int)
+     */
+    protected void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off; i < off + len; i++) {
+            final int octet = read();
+            if (octet < 0 || octet > 255) {
+                throw new IOException("read() returned an out-of-range value: " + octet
+                                      + "; must be between 0 and 255, both inclusive");
+            }
+            dst[i] = (byte) octet;
+        }
+    }
+
+    /**
+     * Skips specified number of bytes of the source. The {@code skipBytes(long)} method of {@code AbstractBitInput}
+     * class reads and discards bytes, in blocks, using {@link #read(byte[], int, int)} method. Subclasses backed by a
+     * source whose position can be moved directly are encouraged to override this method.
+     *
+     * @param n the number of bytes to skip; must be positive.
+     * @throws IOException if an I/O error occurs.
+     * @see #skip(long)
+     */
+    protected void skipBytes(final long n) throws IOException {
+        final byte[] discarded = new byte[(int) Math.min(n, ByteIoUtils.DISCARD_BUFFER_SIZE)];
+        for (long remaining = n; remaining > 0L; ) {
+            final int length = (int) Math.min(remaining, discarded.length);
+            read(discarded, 0, length);
+            remaining -= length;
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Reads an unsigned {@code int} value of specified bit size which is, in maximum, {@value java.lang.Byte#SIZE}.
+     * Makes the {@link #window} hold at least specified number of unread bits by shifting in as many octets as
+     * required, and no more, from {@link #read()}, or, when more than one octet is required, from a single
+     * {@link #read(byte[], int, int)}.
      *
-     * @param size the number of bits for the value; between {@code 1} and {@value java.lang.Byte#SIZE}, both
-     *             inclusive.
-     * @return an unsigned byte value.
+     * @param size the number of bits required; between {@code 1} and {@value #MAX_WINDOW_READ}, both inclusive.
      * @throws IOException if an I/O error occurs.
      * @see #read()
+     * @see #read(byte[], int, int)
      */
-    private int unsigned8(final int size) throws IOException {
-        if (available == 0) {
-            octet = read();
+    private void fill(final int size) throws IOException {
+        final int required = (size - available + Byte.SIZE - 1) >> 3;
+        if (required == 1) {
+            final int octet = read();
             if (octet < 0 || octet > 255) {
                 throw new IOException("read() returned an out-of-range value: " + octet
                                       + "; must be between 0 and 255, both inclusive");
             }
-            count++;
-            available = Byte.SIZE;
+            window = lsbFirst ? window | ((long) octet << available) : (window << Byte.SIZE) | octet;
+        } else {
+            read(octets, 0, required);
+            for (int i = 0; i < required; i++) {
+                window = lsbFirst ? window | ((octets[i] & 0xFFL) << (available + (i << 3)))
+                                  : (window << Byte.SIZE) | (octets[i] & 0xFF);
+            }
         }
-        final int required = size - available;
-        if (required > 0) {
-            return (unsigned8(available) << required) | unsigned8(required);
+        available += required << 3;
+        count += required;
+    }
+
+    /**
+     * Reads an unsigned value of specified bit size which is, in maximum, {@value #MAX_WINDOW_READ}, with a single
+     * shift and mask of the {@link #window}.
+     *
+     * @param size the number of bits for the value; between {@code 1} and {@value #MAX_WINDOW_READ}, both inclusive.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     * @see #fill(int)
+     */
+    private long unsigned(final int size) throws IOException {
+        if (available < size) {
+            fill(size);
+        }
+        if (lsbFirst) {
+            final long value = window & ((1L << size) - 1L);
+            window >>>= size;
+            available -= size;
+            return value;
         }
         available -= size;
-        return (octet >> available) & ((1 << size) - 1);
+        return (window >>> available) & ((1L << size) - 1L);
+    }
+
+    /**
+     * Discards specified number of unread bits in the {@link #window}.
+     *
+     * @param bits the number of bits to discard; between {@code 0} and {@link #available}, both inclusive.
+     */
+    private void drop(final int bits) {
+        if (lsbFirst) {
+            window = bits == Long.SIZE ? 0L : window >>> bits; // keeps the bits above the available ones cleared
+        }
+        available -= bits;
+    }
+
+    /**
+     * Reads an unsigned value of specified bit size, splitting the read in two when {@code size} exceeds
+     * {@value #MAX_WINDOW_READ}.
+     *
+     * @param size the number of bits for the value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *             inclusive; not checked.
+     * @return an unsigned value of {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     * @see BitReaders#unsignedLongReader(int)
+     */
+    final long unsigned64(final int size) throws IOException {
+        if (size <= MAX_WINDOW_READ) {
+            return unsigned(size);
+        }
+        if (lsbFirst) {
+            return unsigned(Integer.SIZE) | (unsigned(size - Integer.SIZE) << Integer.SIZE);
+        }
+        return (unsigned(size - Integer.SIZE) << Integer.SIZE) | unsigned(Integer.SIZE);
+    }
+
+    /**
+     * Checks whether the current bit position is octet-aligned with no unread bits, including peeked ones, in the
+     * {@link #window}.
+     *
+     * @return {@code true} if the current position is octet-aligned and the window is empty; {@code false} otherwise.
+     */
+    private boolean aligned() {
+        return available == 0;
+    }
+
+    /**
+     * Reads, while {@link #aligned() aligned}, specified number of whole octets with a single
+     * {@link #read(byte[], int, int)}, bypassing the {@link #window}, and assembles them in specified byte order.
+     *
+     * @param bytes        the number of octets to read; between {@code 1} and {@value java.lang.Long#SIZE}{@code  / }
+     *                     {@value java.lang.Byte#SIZE}, both inclusive.
+     * @param littleEndian {@code true} for the little endian byte order; {@code false} for the big endian byte order.
+     * @return an unsigned value of {@code bytes} octets.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long octets(final int bytes, final boolean littleEndian) throws IOException {
+        read(octets, 0, bytes);
+        count += bytes;
+        return BinaryUtils.getOctets(octets, bytes, littleEndian);
     }
 
     // --------------------------------------------------------------------------------------------------------- boolean
     @Override
     public boolean readBoolean() throws IOException {
-        return readUnsignedInt(FLAG_SIZE) == 1;
+        return unsigned(FLAG_SIZE) == 1L;
     }
 
     // ------------------------------------------------------------------------------------------------------------ byte
@@ -149,11 +298,17 @@ public abstract class AbstractBitInput
 
     @Override
     public short readShort16() throws IOException {
+        if (aligned()) {
+            return (short) octets(Short.SIZE / Byte.SIZE, lsbFirst);
+        }
         return readShort(Short.SIZE);
     }
 
     @Override
     public short readShort16Le() throws IOException {
+        if (aligned()) {
+            return (short) octets(Short.SIZE / Byte.SIZE, true);
+        }
         return (short) (readByte8() & 0xFF | readByte8() << Byte.SIZE);
     }
 
@@ -165,39 +320,29 @@ public abstract class AbstractBitInput
     }
 
     @Override
-    public int readUnsignedInt(int size) throws IOException {
-        requireValidSizeForUnsignedInt(size);
-        int value = 0;
-        for (; size >= Byte.SIZE; size -= Byte.SIZE) {
-            value <<= Byte.SIZE;
-            value |= unsigned8(Byte.SIZE);
-        }
-        if (size > 0) {
-            value <<= size;
-            value |= unsigned8(size);
-        }
-        return value;
+    public int readUnsignedInt(final int size) throws IOException {
+        return (int) unsigned(requireValidSizeForUnsignedInt(size));
     }
 
     @Override
-    public int readInt(int size) throws IOException {
-        requireValidSizeForSignedInt(size);
-        int value = 0;
-        value -= readUnsignedInt(FLAG_SIZE);
-        if (--size > 0) {
-            value <<= size;
-            value |= readUnsignedInt(size);
-        }
-        return value;
+    public int readInt(final int size) throws IOException {
+        final int shift = Long.SIZE - requireValidSizeForSignedInt(size);
+        return (int) ((unsigned(size) << shift) >> shift); // the highest bit of the value is the sign bit
     }
 
     @Override
     public int readInt32() throws IOException {
+        if (aligned()) {
+            return (int) octets(Integer.SIZE / Byte.SIZE, lsbFirst);
+        }
         return readInt(Integer.SIZE);
     }
 
     @Override
     public int readInt32Le() throws IOException {
+        if (aligned()) {
+            return (int) octets(Integer.SIZE / Byte.SIZE, true);
+        }
         return readShort16Le() & 0xFFFF | readShort16Le() << Short.SIZE;
     }
 
@@ -209,42 +354,143 @@ public abstract class AbstractBitInput
     }
 
     @Override
-    public long readUnsignedLong(int size) throws IOException {
-        requireValidSizeForUnsignedLong(size);
-        long value = 0L;
-        if (size >= Integer.SIZE) {
-            value = (readInt(Integer.SIZE) & 0xFFFFFFFFL);
-            size -= Integer.SIZE;
-        }
-        if (size > 0) {
-            value <<= size;
-            value |= readUnsignedInt(size);
-        }
-        return value;
+    public long readUnsignedLong(final int size) throws IOException {
+        return unsigned64(requireValidSizeForUnsignedLong(size));
     }
 
     @Override
-    public long readLong(int size) throws IOException {
-        requireValidSizeForSignedLong(size);
-        long value = 0L;
-        value -= readUnsignedLong(FLAG_SIZE);
-        if (--size > 0) {
-            value <<= size;
-            value |= readUnsignedLong(size);
-        }
-        return value;
+    public long readLong(final int size) throws IOException {
+        final int shift = Long.SIZE - requireValidSizeForSignedLong(size);
+        return (unsigned64(size) << shift) >> shift; // the highest bit of the value is the sign bit
     }
 
     @Override
     public long readLong64() throws IOException {
+        if (aligned()) {
+            return octets(Long.SIZE / Byte.SIZE, lsbFirst);
+        }
         return readLong(Long.SIZE);
     }
 
     @Override
     public long readLong64Le() throws IOException {
+        if (aligned()) {
+            return octets(Long.SIZE / Byte.SIZE, true);
+        }
         return readInt32Le() & 0xFFFFFFFFL | ((long) readInt32Le()) << Integer.SIZE;
     }
 
+    // ----------------------------------------------------------------------------------------------------------- array
+    @Override
+    public void readUnsignedInts(final int size, final int[] dst, final int off, final int len) throws IOException {
+        requireValidSizeForUnsignedInt(size);
+        BitIoUtils.requireValidRange(dst, off, len);
+        values(size, false, dst, null, off, len);
+    }
+
+    @Override
+    public void readInts(final int size, final int[] dst, final int off, final int len) throws IOException {
+        requireValidSizeForSignedInt(size);
+        BitIoUtils.requireValidRange(dst, off, len);
+        values(size, true, dst, null, off, len);
+    }
+
+    @Override
+    public void readUnsignedLongs(final int size, final long[] dst, final int off, final int len) throws IOException {
+        requireValidSizeForUnsignedLong(size);
+        BitIoUtils.requireValidRange(dst, off, len);
+        values(size, false, null, dst, off, len);
+    }
+
+    @Override
+    public void readLongs(final int size, final long[] dst, final int off, final int len) throws IOException {
+        requireValidSizeForSignedLong(size);
+        BitIoUtils.requireValidRange(dst, off, len);
+        values(size, true, null, dst, off, len);
+    }
+
+    /**
+     * Reads specified number of consecutive values of specified, already validated, bit size into either of specified
+     * arrays. While {@link #aligned() aligned}, values are first {@link #unpack(int, boolean, int[], long[], int, int)
+     * unpacked} by the backend, if it can; then, with a size of whole octets, the octets of many values are read with a
+     * single {@link #read(byte[], int, int)}; otherwise values are taken from the {@link #window} one after another.
+     *
+     * @param size   the number of bits for each value.
+     * @param signed {@code true} for sign-extending each value; {@code false} otherwise.
+     * @param ints   the array into which values are read; {@code null} for {@code longs}.
+     * @param longs  the array into which values are read; {@code null} for {@code ints}.
+     * @param off    the offset in the array.
+     * @param len    the number of values to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void values(final int size, final boolean signed, final int[] ints, final long[] longs, final int off,
+                        final int len)
+            throws IOException {
+        final int unpacked = aligned() ? unpack(size, signed, ints, longs, off, len) : 0;
+        count += ((long) unpacked * size) >> 3;
+        final int from = off + unpacked;
+        final int to = off + len;
+        final int shift = Long.SIZE - size;
+        if (aligned() && (size & (Byte.SIZE - 1)) == 0) {
+            final int bytes = size >> 3;
+            final byte[] chunk = new byte[Math.min(to - from, MAX_VALUES_CHUNK) * bytes];
+            for (int i = from, j = to; i < j; ) {
+                final int n = Math.min(j - i, MAX_VALUES_CHUNK);
+                read(chunk, 0, n * bytes);
+                count += n * bytes;
+                for (int k = 0, l = n * bytes; k < l; i++) {
+                    long value = 0L;
+                    for (int b = 0; b < bytes; b++) {
+                        value = lsbFirst ? value | ((chunk[k++] & 0xFFL) << (b << 3))
+                                         : (value << Byte.SIZE) | (chunk[k++] & 0xFF);
+                    }
+                    if (signed) {
+                        value = (value << shift) >> shift;
+                    }
+                    if (ints != null) {
+                        ints[i] = (int) value;
+                    } else {
+                        longs[i] = value;
+                    }
+                }
+            }
+            return;
+        }
+        for (int i = from, j = to; i < j; i++) {
+            long value = unsigned64(size);
+            if (signed) {
+                value = (value << shift) >> shift;
+            }
+            if (ints != null) {
+                ints[i] = (int) value;
+            } else {
+                longs[i] = value;
+            }
+        }
+    }
+
+    /**
+     * Unpacks, while {@link #aligned() aligned}, leading values of a bulk array read directly from the backend,
+     * bypassing the {@link #window}, and advances the backend by the octets of the values unpacked. The
+     * {@code unpack} method of {@code AbstractBitInput} class unpacks nothing and returns {@code 0}.
+     *
+     * @param size   the number of bits for each value.
+     * @param signed {@code true} for sign-extending each value; {@code false} otherwise.
+     * @param ints   the array into which values are unpacked; {@code null} for {@code longs}.
+     * @param longs  the array into which values are unpacked; {@code null} for {@code ints}.
+     * @param off    the offset in the array.
+     * @param len    the number of values requested.
+     * @return the number of values unpacked, whose bits fill whole octets; between {@code 0} and {@code len}, both
+     *         inclusive.
+     * @throws IOException if an I/O error occurs.
+     * @see BitUnpacker
+     */
+    int unpack(final int size, final boolean signed, final int[] ints, final long[] longs, final int off,
+               final int len)
+            throws IOException {
+        return 0;
+    }
+
     // ------------------------------------------------------------------------------------------------------------ char
     @Override
     public char readChar(final int size) throws IOException {
@@ -312,12 +558,58 @@ public abstract class AbstractBitInput
     public float readFloat(final int exponentSize, final int fractionSize) throws IOException {
         requireValidExponentSizeFloat(exponentSize);
         requireValidFractionSizeFloat(fractionSize);
-        final int sign = readUnsignedInt(FLAG_SIZE);
-        final int storedExp = readUnsignedInt(exponentSize);
-        final int storedFrac = readUnsignedInt(fractionSize);
-        final int expMask = (1 << exponentSize) - 1;
-        final int newBias = (1 << (exponentSize - 1)) - 1;
-        final int fracShift = 23 - fractionSize;
+        return floatValue(exponentSize, fractionSize, fields(exponentSize, fractionSize));
+    }
+
+    /**
+     * Reads the sign flag, the exponent and the fraction of a floating-point value, of specified, already validated,
+     * sizes. The fields are returned packed as they are laid out in {@link BitOrder#MSB_FIRST} order, the sign flag
+     * highest; in that order they are read with a single {@link #unsigned64(int)}.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @return the fields packed in the lower {@code 1 + exponentSize + fractionSize} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    final long fields(final int exponentSize, final int fractionSize) throws IOException {
+        if (!lsbFirst) {
+            return unsigned64(FLAG_SIZE + exponentSize + fractionSize);
+        }
+        final long sign = unsigned(FLAG_SIZE);
+        final long exponent = unsigned(exponentSize);
+        return (sign << (exponentSize + fractionSize)) | (exponent << fractionSize) | unsigned64(fractionSize);
+    }
+
+    /**
+     * Decodes specified fields of a reduced {@code float} value of specified, already validated, sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param fields       the fields packed as returned by {@link #fields(int, int)}.
+     * @return the decoded value.
+     */
+    static float floatValue(final int exponentSize, final int fractionSize, final long fields) {
+        return floatValue(exponentSize, fractionSize, (1 << exponentSize) - 1, (1 << (exponentSize - 1)) - 1,
+                          23 - fractionSize, fields);
+    }
+
+    /**
+     * Decodes specified fields of a reduced {@code float} value of specified, already validated, sizes with the
+     * parameters derived from the sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param expMask      the mask of the exponent; {@code (1 << exponentSize) - 1}.
+     * @param newBias      the bias of the exponent; {@code (1 << (exponentSize - 1)) - 1}.
+     * @param fracShift    the distance to the native fraction; {@code 23 - fractionSize}.
+     * @param fields       the fields packed as returned by {@link #fields(int, int)}.
+     * @return the decoded value.
+     */
+    static float floatValue(final int exponentSize, final int fractionSize, final int expMask, final int newBias,
+                            final int fracShift, final long fields) {
+        final int sign = (int) (fields >>> (exponentSize + fractionSize)) & 0x01;
+        final int storedExp = (int) (fields >>> fractionSize) & expMask;
+        final int storedFrac = (int) fields & ((1 << fractionSize) - 1);
         final int rawExp;
         if (storedExp == 0) {                    // signed zero / native subnormal
             rawExp = 0;
@@ -346,12 +638,39 @@ public abstract class AbstractBitInput
     public double readDouble(final int exponentSize, final int fractionSize) throws IOException {
         requireValidExponentSizeDouble(exponentSize);
         requireValidFractionSizeDouble(fractionSize);
-        final long sign = readUnsignedInt(FLAG_SIZE);
-        final int storedExp = readUnsignedInt(exponentSize);
-        final long storedFrac = readUnsignedLong(fractionSize);
-        final int expMask = (1 << exponentSize) - 1;
-        final int newBias = (1 << (exponentSize - 1)) - 1;
-        final int fracShift = 52 - fractionSize;
+        return doubleValue(exponentSize, fractionSize, fields(exponentSize, fractionSize));
+    }
+
+    /**
+     * Decodes specified fields of a reduced {@code double} value of specified, already validated, sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param fields       the fields packed as returned by {@link #fields(int, int)}.
+     * @return the decoded value.
+     */
+    static double doubleValue(final int exponentSize, final int fractionSize, final long fields) {
+        return doubleValue(exponentSize, fractionSize, (1 << exponentSize) - 1, (1 << (exponentSize - 1)) - 1,
+                           52 - fractionSize, fields);
+    }
+
+    /**
+     * Decodes specified fields of a reduced {@code double} value of specified, already validated, sizes with the
+     * parameters derived from the sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param expMask      the mask of the exponent; {@code (1 << exponentSize) - 1}.
+     * @param newBias      the bias of the exponent; {@code (1 << (exponentSize - 1)) - 1}.
+     * @param fracShift    the distance to the native fraction; {@code 52 - fractionSize}.
+     * @param fields       the fields packed as returned by {@link #fields(int, int)}.
+     * @return the decoded value.
+     */
+    static double doubleValue(final int exponentSize, final int fractionSize, final int expMask, final int newBias,
+                              final int fracShift, final long fields) {
+        final long sign = (fields >>> (exponentSize + fractionSize)) & 0x01L;
+        final int storedExp = (int) (fields >>> fractionSize) & expMask;
+        final long storedFrac = fields & ((1L << fractionSize) - 1L);
         final long rawExp;
         if (storedExp == 0) {                    // signed zero / native subnormal
             rawExp = 0L;
@@ -375,6 +694,79 @@ public abstract class AbstractBitInput
         return Double.longBitsToDouble(readLong64Le());
     }
 
+    // ----------------------------------------------------------------------------------------------------------- unary
+    @Override
+    public long readUnary(final int stopBit) throws IOException {
+        return readUnary(stopBit, Long.MAX_VALUE - 1L);
+    }
+
+    @Override
+    public long readUnary(final int stopBit, final long maxRun) throws IOException {
+        if (stopBit != 0 && stopBit != 1) {
+            throw new IllegalArgumentException("stopBit(" + stopBit + ") is neither 0 nor 1");
+        }
+        if (maxRun < 0L) {
+            throw new IllegalArgumentException("maxRun(" + maxRun + ") < 0");
+        }
+        final long flip = stopBit == 1 ? 0L : -1L; // turns run bits into zeros
+        long run = 0L;
+        while (true) {
+            if (available == 0) {
+                fill(Byte.SIZE);
+            }
+            final long unread = lsbFirst
+                                ? (window ^ flip) & (available == Long.SIZE ? -1L : (1L << available) - 1L)
+                                : (window ^ flip) << (Long.SIZE - available);
+            if (unread == 0L) { // no stop bit in the window; take it all at once
+                if (available > maxRun - run) {
+                    drop((int) (maxRun - run) + 1);
+                    throw new IOException("unary run exceeds maxRun(" + maxRun + ")");
+                }
+                run += available;
+                drop(available);
+                continue;
+            }
+            final int zeros = lsbFirst
+                              ? BitIoUtils.highestOneBitIndex(unread & -unread)
+                              : Long.SIZE - 1 - BitIoUtils.highestOneBitIndex(unread);
+            if (zeros > maxRun - run) {
+                drop((int) (maxRun - run) + 1);
+                throw new IOException("unary run exceeds maxRun(" + maxRun + ")");
+            }
+            drop(zeros + 1);
+            return run + zeros;
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ peek
+    @Override
+    public int peekUnsignedInt(final int size) throws IOException {
+        return (int) peekUnsignedLong(requireValidSizeForUnsignedInt(size));
+    }
+
+    @Override
+    public long peekUnsignedLong(final int size) throws IOException {
+        if (available < requireValidSizeForPeek(size)) {
+            fill(size);
+        }
+        if (lsbFirst) {
+            return window & ((1L << size) - 1L);
+        }
+        return (window >>> (available - size)) & ((1L << size) - 1L);
+    }
+
+    @Override
+    public void consume(final int bits) throws IOException {
+        if (bits <= 0) {
+            throw new IllegalArgumentException("bits(" + bits + ") <= 0");
+        }
+        if (bits <= available) {
+            drop(bits);
+            return;
+        }
+        skip(bits);
+    }
+
     // ------------------------------------------------------------------------------------------------------- primitive
     @Override
     public boolean readBoolean(final BooleanBitReader reader) throws IOException {
@@ -438,15 +830,36 @@ public abstract class AbstractBitInput
 
     // -----------------------------------------------------------------------------------------------------------------
     @Override
-    public void skip(int bits) throws IOException {
-        if (bits <= 0) {
+    public void skip(final int bits) throws IOException {
+        skip((long) bits);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code AbstractBitInput} class discards unread bits in the
+     * {@link #window} first, skips whole octets with {@link #skipBytes(long)} method, and reads the remaining bits.
+     *
+     * @param bits {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(long bits) throws IOException {
+        if (bits <= 0L) {
             throw new IllegalArgumentException("bits(" + bits + ") <= 0");
         }
-        for (; bits >= Integer.SIZE; bits -= Integer.SIZE) {
-            readInt(Integer.SIZE);
+        if (bits <= available) {
+            drop((int) bits);
+            return;
+        }
+        bits -= available;
+        drop(available);
+        final long bytes = bits >> 3;
+        if (bytes > 0L) {
+            skipBytes(bytes);
+            count += bytes;
         }
-        if (bits > 0) {
-            readUnsignedInt(bits);
+        final int rest = (int) (bits & (Byte.SIZE - 1));
+        if (rest > 0) {
+            unsigned(rest);
         }
     }
 
@@ -455,25 +868,39 @@ public abstract class AbstractBitInput
         if (bytes <= 0) {
             throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
         }
-        long bits = 0; // number of bits to discard
-        if (available > 0) {
-            bits += available;
-            readUnsignedInt(available);
-        }
+        long bits = available & (Byte.SIZE - 1); // number of bits to discard; whole peeked octets are kept
+        drop((int) bits);
         if (bytes == 1) {
             return bits;
         }
-        for (bytes = (bytes - (int) (count % bytes)) % bytes; bytes > 0L; bytes--) {
-            readUnsignedInt(Byte.SIZE);
-            bits += Byte.SIZE;
+        long padding = (bytes - getCount() % bytes) % bytes; // number of octets to discard
+        bits += padding << 3;
+        final int held = (int) Math.min(padding, available >> 3); // peeked octets
+        drop(held << 3);
+        padding -= held;
+        if (padding > 0L) {
+            skipBytes(padding);
+            count += padding;
         }
         return bits;
     }
 
+    // ------------------------------------------------------------------------------------------------------- bit order
+
+    /**
+     * Returns the order in which this input reads bits.
+     *
+     * @return the order in which this input reads bits.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
     // ----------------------------------------------------------------------------------------------------------- count
 
     /**
-     * Returns the number of bytes read so far.
+     * Returns the number of bytes read so far; whole octets held in the {@link #window} only by peeking are not
+     * counted.
      *
      * @return the number of bytes read so far.
      * @see #read()
@@ -481,23 +908,93 @@ public abstract class AbstractBitInput
      */
     @Override
     public long getCount() {
-        return count;
+        return count - (available >> 3);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    /**
+     * Returns the number of bits read so far; bits held in the {@link #window} only by peeking are not counted.
+     *
+     * @return the number of bits read so far.
+     * @see SeekableBitInput#getPosition()
+     */
+    final long position() {
+        return (count << 3) - available;
+    }
+
+    /**
+     * Discards the {@link #window} and starts over, as if this input were newly created, for a subclass which has
+     * been re-targeted to another source.
+     */
+    final void clear() {
+        window = 0L;
+        available = 0;
+        count = 0L;
+    }
+
+    /**
+     * Discards the {@link #window} and continues at specified bit position. A subclass invokes this method right after
+     * moving its source to the octet at {@code position >> 3}; bits preceding {@code position} in that octet are read
+     * and discarded.
+     *
+     * @param position the bit position to continue at; must not be negative.
+     * @throws IOException if an I/O error occurs.
+     * @see SeekableBitInput#seek(long)
+     */
+    final void reposition(final long position) throws IOException {
+        window = 0L;
+        available = 0;
+        count = position >> 3;
+        final int rest = (int) (position & (Byte.SIZE - 1));
+        if (rest > 0) {
+            unsigned(rest);
+        }
     }
 
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * The current octet.
+     * The maximum number of bits, inclusive, which a single {@link #unsigned(int)} can take from the {@link #window};
+     * a window holding {@value java.lang.Byte#SIZE}{@code  - 1} unread bits can take in this many more bits, rounded up
+     * to whole octets, without overflowing {@value java.lang.Long#SIZE} bits.
+     */
+    private static final int MAX_WINDOW_READ = Long.SIZE - Byte.SIZE + 1;
+
+    /**
+     * The maximum number of whole-octet values whose octets are read with a single {@link #read(byte[], int, int)}.
+     */
+    private static final int MAX_VALUES_CHUNK = 512;
+
+    /**
+     * The order in which bits are read.
+     */
+    private final BitOrder bitOrder;
+
+    /**
+     * A flag for {@link BitOrder#LSB_FIRST}, tested on every read.
      */
-    private int octet;
+    private final boolean lsbFirst;
 
     /**
-     * The number of available bits in {@link #octet} for reading.
+     * The bit window; the lower {@link #available} bits are unread. In {@link BitOrder#MSB_FIRST} order the most
+     * significant of them is the next bit; in {@link BitOrder#LSB_FIRST} order the least significant of them is the
+     * next bit and the bits above them are all cleared.
+     */
+    private long window;
+
+    /**
+     * The number of available bits in {@link #window} for reading.
      */
     private int available = 0;
 
     /**
-     * The number of bytes read so far.
+     * The number of bytes taken into the {@link #window} so far.
      */
     private long count;
+
+    /**
+     * A scratch array for refilling the {@link #window}, and for reading aligned octets, in bulk.
+     */
+    private final byte[] octets = new byte[Long.SIZE / Byte.SIZE];
 }
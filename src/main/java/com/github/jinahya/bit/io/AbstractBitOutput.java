@@ -42,8 +42,15 @@ import static com.github.jinahya.bit.io.BitIoUtils.requireValidSizeForUnsignedSh
 /**
  * An abstract class for implementing {@link BitOutput} interface.
  *
- * <p>Instances are <strong>not</strong> thread-safe: they hold mutable bit-position state ({@code octet},
- * {@code available}, {@code count}) that is updated without synchronization, so an instance must be confined to a
+ * <p>Each value is shifted, as a whole, into a {@code 64}-bit window, and every octet it completes is written right
+ * away; at most {@value java.lang.Byte#SIZE}{@code  - 1} bits of an incomplete octet stay in the window, so
+ * {@link #getCount()} and {@link #align(int)} behave as if octets were written one at a time.</p>
+ *
+ * <p>Bits are written in either {@link BitOrder bit order}; {@link BitOrder#LSB_FIRST} fills the window from its
+ * least significant end so that both orders cost the same shift and mask per write.</p>
+ *
+ * <p>Instances are <strong>not</strong> thread-safe: they hold mutable bit-position state ({@code window},
+ * {@code buffered}, {@code count}) that is updated without synchronization, so an instance must be confined to a
  * single thread.</p>
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
@@ -56,10 +63,25 @@ public abstract class AbstractBitOutput
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Creates a new instance.
+     * Creates a new instance which writes bits in {@link BitOrder#MSB_FIRST} order.
      */
     protected AbstractBitOutput() {
+        this(BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance which writes bits in specified order.
+     *
+     * @param bitOrder the order in which bits are packed into octets; must not be {@code null}.
+     * @throws NullPointerException if {@code bitOrder} is {@code null}.
+     */
+    protected AbstractBitOutput(final BitOrder bitOrder) {
         super();
+        if (bitOrder == null) {
+            throw new NullPointerException("bitOrder is null");
+        }
+        this.bitOrder = bitOrder;
+        this.lsbFirst = bitOrder == BitOrder.LSB_FIRST;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -73,40 +95,151 @@ public abstract class AbstractBitOutput
      */
     protected abstract void write(int value) throws IOException;
 
+    /**
+     * Writes specified number of bytes from specified array starting at specified offset. The {@code write(byte[],
+     * int, int)} method of {@code AbstractBitOutput} class invokes {@link #write(int)} method for each byte. Subclasses
+     * backed by a target capable of bulk transfers are encouraged to override this method.
+     *
+     * @param src the array from which bytes are written.
+     * @param off the offset in {@code src}.
+     * @param len the number of bytes to write.
+     * @throws IOException if an I/O error occurs.
+     * @see AbstractBitInput#read(byte[], int, int)
+     */
+    protected void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off; i < off + len; i++) {
+            write(src[i] & 0xFF);
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * Writes an unsigned {@code int} value of specified bit size which is, in maximum, {@value java.lang.Byte#SIZE}.
+     * Writes every complete octet of the {@link #window} to the {@link #write(int)} method, or, when there are more
+     * than one, to a single {@link #write(byte[], int, int)}.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see #write(int)
+     * @see #write(byte[], int, int)
+     */
+    private void drain() throws IOException {
+        final int complete = buffered >> 3;
+        if (complete == 1) {
+            write((int) octet() & 0xFF);
+        } else {
+            for (int i = 0; i < complete; i++) {
+                octets[i] = (byte) octet();
+            }
+            write(octets, 0, complete);
+        }
+        count += complete;
+    }
+
+    /**
+     * Takes the next complete octet out of the {@link #window}.
      *
-     * @param size  the number of lower bits to write; between {@code 1} and {@value java.lang.Byte#SIZE}, both
+     * @return the next complete octet in its lower {@value java.lang.Byte#SIZE} bits.
+     */
+    private long octet() {
+        buffered -= Byte.SIZE;
+        if (lsbFirst) {
+            final long octet = window;
+            window >>>= Byte.SIZE;
+            return octet;
+        }
+        return window >>> buffered;
+    }
+
+    /**
+     * Writes an unsigned value of specified bit size which is, in maximum, {@value #MAX_WINDOW_WRITE}, by shifting it
+     * into the {@link #window} as a whole, and drains the octets it completes.
+     *
+     * @param size  the number of lower bits to write; between {@code 1} and {@value #MAX_WINDOW_WRITE}, both
      *              inclusive.
      * @param value the value to write.
      * @throws IOException if an I/O error occurs.
-     * @see #write(int)
+     * @see #drain()
+     */
+    private void unsigned(final int size, final long value) throws IOException {
+        if (lsbFirst) {
+            window |= (value & ((1L << size) - 1L)) << buffered;
+        } else {
+            window = (window << size) | (value & ((1L << size) - 1L));
+        }
+        buffered += size;
+        if (buffered >= Byte.SIZE) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes an unsigned value of specified bit size, splitting the write in two when {@code size} exceeds
+     * {@value #MAX_WINDOW_WRITE}.
+     *
+     * @param size  the number of lower bits to write; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *              inclusive; not checked.
+     * @param value the value to write.
+     * @throws IOException if an I/O error occurs.
+     * @see BitWriters#unsignedLongWriter(int)
      */
-    private void unsigned8(final int size, final int value) throws IOException {
-        final int required = size - available;
-        if (required > 0) {
-            unsigned8(available, value >> required);
-            unsigned8(required, value);
+    final void unsigned64(final int size, final long value) throws IOException {
+        if (size <= MAX_WINDOW_WRITE) {
+            unsigned(size, value);
             return;
         }
-        octet <<= size;
-        octet |= value & ((1 << size) - 1);
-        available -= size;
-        if (available == 0) {
-            assert octet >= 0 && octet < 256;
-            write(octet);
-            count++;
-            octet = 0x00;
-            available = Byte.SIZE;
+        if (lsbFirst) {
+            unsigned(Integer.SIZE, value);
+            unsigned(size - Integer.SIZE, value >> Integer.SIZE);
+            return;
         }
+        unsigned(size - Integer.SIZE, value >> Integer.SIZE);
+        unsigned(Integer.SIZE, value);
+    }
+
+    /**
+     * Checks whether the current bit position is octet-aligned; that is, the {@link #window} has no undrained bits.
+     *
+     * @return {@code true} if the current position is octet-aligned; {@code false} otherwise.
+     */
+    private boolean aligned() {
+        return buffered == 0;
+    }
+
+    /**
+     * Writes, while {@link #aligned() aligned}, specified number of lower octets of specified value in specified byte
+     * order with a single {@link #write(byte[], int, int)}, bypassing the {@link #window}.
+     *
+     * @param bytes        the number of octets to write; between {@code 1} and {@value java.lang.Long#SIZE}{@code  / }
+     *                     {@value java.lang.Byte#SIZE}, both inclusive.
+     * @param value        the value whose lower {@code bytes} octets are written.
+     * @param littleEndian {@code true} for the little endian byte order; {@code false} for the big endian byte order.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void octets(final int bytes, final long value, final boolean littleEndian) throws IOException {
+        BinaryUtils.putOctets(octets, bytes, value, littleEndian);
+        write(octets, 0, bytes);
+        count += bytes;
+    }
+
+    /**
+     * Returns the bits of a signed value of specified size; the sign flag followed by the lower {@code size - 1} bits
+     * of the value.
+     *
+     * @param size  the number of bits for the value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *              inclusive.
+     * @param value the value.
+     * @return the bits of {@code value}, in the lower {@code size} bits.
+     */
+    static long signed(final int size, final long value) {
+        final long flag = 1L << (size - 1);
+        return (value & (flag - 1L)) | (value < 0L ? flag : 0L);
     }
 
     // --------------------------------------------------------------------------------------------------------- boolean
     @Override
     public void writeBoolean(final boolean value) throws IOException {
-        writeUnsignedInt(FLAG_SIZE, value ? 1 : 0);
+        unsigned(FLAG_SIZE, value ? 1L : 0L);
     }
 
     // ------------------------------------------------------------------------------------------------------------ byte
@@ -158,11 +291,19 @@ public abstract class AbstractBitOutput
 
     @Override
     public void writeShort16(final short value) throws IOException {
+        if (aligned()) {
+            octets(Short.SIZE / Byte.SIZE, value, lsbFirst);
+            return;
+        }
         writeShort(Short.SIZE, value);
     }
 
     @Override
     public void writeShort16Le(final short value) throws IOException {
+        if (aligned()) {
+            octets(Short.SIZE / Byte.SIZE, value, true);
+            return;
+        }
         writeByte8((byte) value);
         writeByte8((byte) (value >> Byte.SIZE));
     }
@@ -179,34 +320,30 @@ public abstract class AbstractBitOutput
     }
 
     @Override
-    public void writeUnsignedInt(int size, final int value) throws IOException {
-        requireValidSizeForUnsignedInt(size);
-        final int quotient = size >> 3;
-        final int remainder = size & 7;
-        if (remainder > 0) {
-            unsigned8(remainder, value >> (quotient << 3));
-        }
-        for (int i = Byte.SIZE * (quotient - 1); i >= 0; i -= Byte.SIZE) {
-            unsigned8(Byte.SIZE, value >> i);
-        }
+    public void writeUnsignedInt(final int size, final int value) throws IOException {
+        unsigned(requireValidSizeForUnsignedInt(size), value);
     }
 
     @Override
-    public void writeInt(int size, final int value) throws IOException {
-        requireValidSizeForSignedInt(size);
-        writeUnsignedInt(FLAG_SIZE, value < 0 ? 1 : 0);
-        if (--size > 0) {
-            writeUnsignedInt(size, value);
-        }
+    public void writeInt(final int size, final int value) throws IOException {
+        unsigned(requireValidSizeForSignedInt(size), signed(size, value));
     }
 
     @Override
     public void writeInt32(final int value) throws IOException {
+        if (aligned()) {
+            octets(Integer.SIZE / Byte.SIZE, value, lsbFirst);
+            return;
+        }
         writeInt(Integer.SIZE, value);
     }
 
     @Override
     public void writeInt32Le(final int value) throws IOException {
+        if (aligned()) {
+            octets(Integer.SIZE / Byte.SIZE, value, true);
+            return;
+        }
         writeShort16Le((short) value);
         writeShort16Le((short) (value >> Short.SIZE));
     }
@@ -223,37 +360,129 @@ public abstract class AbstractBitOutput
     }
 
     @Override
-    public void writeUnsignedLong(int size, final long value) throws IOException {
-        requireValidSizeForUnsignedLong(size);
-        if (size >= Integer.SIZE) {
-            writeInt(Integer.SIZE, (int) (value >> (size - Integer.SIZE)));
-            size -= Integer.SIZE;
-        }
-        if (size > 0) {
-            writeUnsignedInt(size, (int) value);
-        }
+    public void writeUnsignedLong(final int size, final long value) throws IOException {
+        unsigned64(requireValidSizeForUnsignedLong(size), value);
     }
 
     @Override
-    public void writeLong(int size, final long value) throws IOException {
-        requireValidSizeForSignedLong(size);
-        writeUnsignedLong(FLAG_SIZE, value < 0L ? 0x01L : 0x00L);
-        if (--size > 0) {
-            writeUnsignedLong(size, value);
-        }
+    public void writeLong(final int size, final long value) throws IOException {
+        unsigned64(requireValidSizeForSignedLong(size), signed(size, value));
     }
 
     @Override
     public void writeLong64(final long value) throws IOException {
+        if (aligned()) {
+            octets(Long.SIZE / Byte.SIZE, value, lsbFirst);
+            return;
+        }
         writeLong(Long.SIZE, value);
     }
 
     @Override
     public void writeLong64Le(final long value) throws IOException {
+        if (aligned()) {
+            octets(Long.SIZE / Byte.SIZE, value, true);
+            return;
+        }
         writeInt32Le((int) value);
         writeInt32Le((int) (value >> Integer.SIZE));
     }
 
+    // ----------------------------------------------------------------------------------------------------------- array
+    @Override
+    public void writeUnsignedInts(final int size, final int[] src, final int off, final int len) throws IOException {
+        requireValidSizeForUnsignedInt(size);
+        BitIoUtils.requireValidRange(src, off, len);
+        values(size, false, src, null, off, len);
+    }
+
+    @Override
+    public void writeInts(final int size, final int[] src, final int off, final int len) throws IOException {
+        requireValidSizeForSignedInt(size);
+        BitIoUtils.requireValidRange(src, off, len);
+        values(size, true, src, null, off, len);
+    }
+
+    @Override
+    public void writeUnsignedLongs(final int size, final long[] src, final int off, final int len) throws IOException {
+        requireValidSizeForUnsignedLong(size);
+        BitIoUtils.requireValidRange(src, off, len);
+        values(size, false, null, src, off, len);
+    }
+
+    @Override
+    public void writeLongs(final int size, final long[] src, final int off, final int len) throws IOException {
+        requireValidSizeForSignedLong(size);
+        BitIoUtils.requireValidRange(src, off, len);
+        values(size, true, null, src, off, len);
+    }
+
+    /**
+     * Writes specified number of consecutive values of specified, already validated, bit size from either of
+     * specified arrays. While {@link #aligned() aligned}, values are first
+     * {@link #pack(int, boolean, int[], long[], int, int) packed} by the backend, if it can; then, with a size of whole
+     * octets, the octets of many values are written with a single {@link #write(byte[], int, int)}; otherwise values
+     * are shifted into the {@link #window} one after another.
+     *
+     * @param size   the number of bits for each value.
+     * @param signed {@code true} for writing each value with its sign flag; {@code false} otherwise.
+     * @param ints   the array whose values are written; {@code null} for {@code longs}.
+     * @param longs  the array whose values are written; {@code null} for {@code ints}.
+     * @param off    the offset in the array.
+     * @param len    the number of values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void values(final int size, final boolean signed, final int[] ints, final long[] longs, final int off,
+                        final int len)
+            throws IOException {
+        final int packed = aligned() ? pack(size, signed, ints, longs, off, len) : 0;
+        count += ((long) packed * size) >> 3;
+        final int from = off + packed;
+        final int to = off + len;
+        if (aligned() && (size & (Byte.SIZE - 1)) == 0) {
+            final int bytes = size >> 3;
+            final byte[] chunk = new byte[Math.min(to - from, MAX_VALUES_CHUNK) * bytes];
+            for (int i = from, j = to; i < j; ) {
+                final int n = Math.min(j - i, MAX_VALUES_CHUNK);
+                for (int k = 0, l = n * bytes; k < l; i++) {
+                    final long value = ints != null ? ints[i] : longs[i];
+                    final long bits = signed ? signed(size, value) : value;
+                    for (int b = 0; b < size; b += Byte.SIZE) {
+                        chunk[k++] = (byte) (bits >> (lsbFirst ? b : size - Byte.SIZE - b));
+                    }
+                }
+                write(chunk, 0, n * bytes);
+                count += n * bytes;
+            }
+            return;
+        }
+        for (int i = from, j = to; i < j; i++) {
+            final long value = ints != null ? ints[i] : longs[i];
+            unsigned64(size, signed ? signed(size, value) : value);
+        }
+    }
+
+    /**
+     * Packs, while {@link #aligned() aligned}, leading values of a bulk array write directly to the backend, bypassing
+     * the {@link #window}, and advances the backend by the octets of the values packed. The {@code pack} method of
+     * {@code AbstractBitOutput} class packs nothing and returns {@code 0}.
+     *
+     * @param size   the number of bits for each value.
+     * @param signed {@code true} for packing each value with its sign flag; {@code false} otherwise.
+     * @param ints   the array whose values are packed; {@code null} for {@code longs}.
+     * @param longs  the array whose values are packed; {@code null} for {@code ints}.
+     * @param off    the offset in the array.
+     * @param len    the number of values requested.
+     * @return the number of values packed, whose bits fill whole octets; between {@code 0} and {@code len}, both
+     *         inclusive.
+     * @throws IOException if an I/O error occurs.
+     * @see BitPacker
+     */
+    int pack(final int size, final boolean signed, final int[] ints, final long[] longs, final int off, final int len)
+            throws IOException {
+        return 0;
+    }
+
     // ------------------------------------------------------------------------------------------------------------ char
     @Override
     public void writeChar(final int size, final char value) throws IOException {
@@ -351,13 +580,60 @@ public abstract class AbstractBitOutput
     public void writeFloat(final int exponentSize, final int fractionSize, final float value) throws IOException {
         requireValidExponentSizeFloat(exponentSize);
         requireValidFractionSizeFloat(fractionSize);
+        fields(exponentSize, fractionSize, floatFields(exponentSize, fractionSize, value));
+    }
+
+    /**
+     * Writes specified sign flag, exponent and fraction of a floating-point value, of specified, already validated,
+     * sizes. The fields are packed as they are laid out in {@link BitOrder#MSB_FIRST} order, the sign flag highest; in
+     * that order they are written with a single {@link #unsigned64(int, long)}.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param fields       the fields packed in the lower {@code 1 + exponentSize + fractionSize} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    final void fields(final int exponentSize, final int fractionSize, final long fields) throws IOException {
+        if (!lsbFirst) {
+            unsigned64(FLAG_SIZE + exponentSize + fractionSize, fields);
+            return;
+        }
+        unsigned(FLAG_SIZE, fields >>> (exponentSize + fractionSize));
+        unsigned(exponentSize, fields >>> fractionSize);
+        unsigned64(fractionSize, fields);
+    }
+
+    /**
+     * Encodes specified {@code float} value into the fields of a reduced value of specified, already validated, sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param value        the value to encode.
+     * @return the fields packed as accepted by {@link #fields(int, int, long)}.
+     */
+    static long floatFields(final int exponentSize, final int fractionSize, final float value) {
+        return floatFields(exponentSize, fractionSize, (1 << exponentSize) - 1, (1 << (exponentSize - 1)) - 1,
+                           23 - fractionSize, value);
+    }
+
+    /**
+     * Encodes specified {@code float} value into the fields of a reduced value of specified, already validated, sizes
+     * with the parameters derived from the sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param expMask      the mask of the exponent; {@code (1 << exponentSize) - 1}.
+     * @param newBias      the bias of the exponent; {@code (1 << (exponentSize - 1)) - 1}.
+     * @param fracShift    the distance to the native fraction; {@code 23 - fractionSize}.
+     * @param value        the value to encode.
+     * @return the fields packed as accepted by {@link #fields(int, int, long)}.
+     */
+    static long floatFields(final int exponentSize, final int fractionSize, final int expMask, final int newBias,
+                            final int fracShift, final float value) {
         final int bits = Float.floatToRawIntBits(value);
         final int sign = (bits >>> 31) & 0x01;
         final int rawExp = (bits >>> 23) & 0xFF;
         final int rawFrac = bits & 0x7FFFFF;
-        final int expMask = (1 << exponentSize) - 1;
-        final int newBias = (1 << (exponentSize - 1)) - 1;
-        final int fracShift = 23 - fractionSize;
         int storedFrac = rawFrac >>> fracShift; // keep the high fractionSize bits
         final int storedExp;
         if (rawExp == 0xFF) {                    // Infinity / NaN
@@ -387,9 +663,7 @@ public abstract class AbstractBitOutput
                 storedExp = stored;
             }
         }
-        writeUnsignedInt(FLAG_SIZE, sign);
-        writeUnsignedInt(exponentSize, storedExp);
-        writeUnsignedInt(fractionSize, storedFrac);
+        return ((long) sign << (exponentSize + fractionSize)) | ((long) storedExp << fractionSize) | storedFrac;
     }
 
     @Override
@@ -407,13 +681,41 @@ public abstract class AbstractBitOutput
     public void writeDouble(final int exponentSize, final int fractionSize, final double value) throws IOException {
         requireValidExponentSizeDouble(exponentSize);
         requireValidFractionSizeDouble(fractionSize);
+        fields(exponentSize, fractionSize, doubleFields(exponentSize, fractionSize, value));
+    }
+
+    /**
+     * Encodes specified {@code double} value into the fields of a reduced value of specified, already validated,
+     * sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param value        the value to encode.
+     * @return the fields packed as accepted by {@link #fields(int, int, long)}.
+     */
+    static long doubleFields(final int exponentSize, final int fractionSize, final double value) {
+        return doubleFields(exponentSize, fractionSize, (1 << exponentSize) - 1, (1 << (exponentSize - 1)) - 1,
+                            52 - fractionSize, value);
+    }
+
+    /**
+     * Encodes specified {@code double} value into the fields of a reduced value of specified, already validated, sizes
+     * with the parameters derived from the sizes.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @param expMask      the mask of the exponent; {@code (1 << exponentSize) - 1}.
+     * @param newBias      the bias of the exponent; {@code (1 << (exponentSize - 1)) - 1}.
+     * @param fracShift    the distance to the native fraction; {@code 52 - fractionSize}.
+     * @param value        the value to encode.
+     * @return the fields packed as accepted by {@link #fields(int, int, long)}.
+     */
+    static long doubleFields(final int exponentSize, final int fractionSize, final int expMask, final int newBias,
+                             final int fracShift, final double value) {
         final long bits = Double.doubleToRawLongBits(value);
         final int sign = (int) ((bits >>> 63) & 0x01L);
         final int rawExp = (int) ((bits >>> 52) & 0x7FFL);
         final long rawFrac = bits & 0x000FFFFFFFFFFFFFL;
-        final int expMask = (1 << exponentSize) - 1;
-        final int newBias = (1 << (exponentSize - 1)) - 1;
-        final int fracShift = 52 - fractionSize;
         long storedFrac = rawFrac >>> fracShift; // keep the high fractionSize bits
         final int storedExp;
         if (rawExp == 0x7FF) {                   // Infinity / NaN
@@ -443,9 +745,7 @@ public abstract class AbstractBitOutput
                 storedExp = stored;
             }
         }
-        writeUnsignedInt(FLAG_SIZE, sign);
-        writeUnsignedInt(exponentSize, storedExp);
-        writeUnsignedLong(fractionSize, storedFrac);
+        return ((long) sign << (exponentSize + fractionSize)) | ((long) storedExp << fractionSize) | storedFrac;
     }
 
     @Override
@@ -519,6 +819,27 @@ public abstract class AbstractBitOutput
         writer.write(this, value);
     }
 
+    // ----------------------------------------------------------------------------------------------------------- unary
+    @Override
+    public void writeUnary(long count, final int bit) throws IOException {
+        if (count < 0L) {
+            throw new IllegalArgumentException("count(" + count + ") < 0");
+        }
+        if (bit != 0 && bit != 1) {
+            throw new IllegalArgumentException("bit(" + bit + ") is neither 0 nor 1");
+        }
+        final long run = bit == 0 ? 0L : -1L;
+        for (; count >= MAX_WINDOW_WRITE; count -= MAX_WINDOW_WRITE) {
+            unsigned(MAX_WINDOW_WRITE, run);
+        }
+        final long stop = bit ^ 0x01;
+        if (lsbFirst) {
+            unsigned((int) count + 1, (run & ((1L << count) - 1L)) | (stop << count)); // the rest, and the stop bit
+            return;
+        }
+        unsigned((int) count + 1, (run << 1) | stop); // the rest of the run, and the stop bit
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     @Override
     public void skip(int bits) throws IOException {
@@ -539,20 +860,72 @@ public abstract class AbstractBitOutput
             throw new IllegalArgumentException("bytes(" + bytes + ") <= 0");
         }
         long bits = 0L; // number of bits padded
-        if (available < Byte.SIZE) {
-            bits += available; // must be prior to the below
-            writeUnsignedInt(available, 0x00);
+        if (buffered > 0) {
+            bits += Byte.SIZE - buffered; // must be prior to the below
+            unsigned(Byte.SIZE - buffered, 0L);
         }
         if (bytes == 1) {
             return bits;
         }
         for (bytes = (bytes - (int) (count % bytes)) % bytes; bytes > 0; bytes--) {
-            writeUnsignedInt(Byte.SIZE, 0x00);
+            unsigned(Byte.SIZE, 0L);
             bits += Byte.SIZE;
         }
         return bits;
     }
 
+    // ------------------------------------------------------------------------------------------------------- lifecycle
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code AbstractBitOutput} class does nothing, for every complete
+     * octet is already written via {@link #write(int)}. Subclasses writing to a buffering target override this method
+     * to flush the target.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        // does nothing
+    }
+
+    /**
+     * {@inheritDoc} The {@code close()} method of {@code AbstractBitOutput} class pads the partially-written octet, if
+     * any, and invokes {@link #flush()} method. Subclasses writing to a closeable target override this method to close
+     * the target.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffered > 0) {
+            align(1);
+        }
+        flush();
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- clear
+
+    /**
+     * Discards the {@link #window} and starts over, as if this output were newly created, for a subclass which has
+     * been re-targeted to another target. Bits written but not yet {@link #align(int) aligned} are lost.
+     */
+    final void clear() {
+        window = 0L;
+        buffered = 0;
+        count = 0L;
+    }
+
+    // ------------------------------------------------------------------------------------------------------- bit order
+
+    /**
+     * Returns the order in which this output writes bits.
+     *
+     * @return the order in which this output writes bits.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
     // ----------------------------------------------------------------------------------------------------------- count
 
     /**
@@ -570,17 +943,46 @@ public abstract class AbstractBitOutput
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
-     * The current octet.
+     * The maximum number of bits, inclusive, which a single {@link #unsigned(int, long)} can put into the
+     * {@link #window}; a window holding {@value java.lang.Byte#SIZE}{@code  - 1} undrained bits can take in this many
+     * more bits without overflowing {@value java.lang.Long#SIZE} bits.
+     */
+    private static final int MAX_WINDOW_WRITE = Long.SIZE - Byte.SIZE + 1;
+
+    /**
+     * The maximum number of whole-octet values whose octets are written with a single
+     * {@link #write(byte[], int, int)}.
      */
-    private int octet;
+    private static final int MAX_VALUES_CHUNK = 512;
 
     /**
-     * The number of available bits in {@link #octet} for writing.
+     * The order in which bits are written.
      */
-    private int available = Byte.SIZE;
+    private final BitOrder bitOrder;
+
+    /**
+     * A flag for {@link BitOrder#LSB_FIRST}, tested on every write.
+     */
+    private final boolean lsbFirst;
+
+    /**
+     * The bit window; the lower {@link #buffered} bits are written but not yet drained. In {@link BitOrder#LSB_FIRST}
+     * order the bits above them are all cleared.
+     */
+    private long window;
+
+    /**
+     * The number of bits buffered in {@link #window}; always less than {@value java.lang.Byte#SIZE} between writes.
+     */
+    private int buffered;
 
     /**
      * The number of bytes written so far.
      */
     private long count;
+
+    /**
+     * A scratch array for draining the {@link #window}, and for writing aligned octets, in bulk.
+     */
+    private final byte[] octets = new byte[Long.SIZE / Byte.SIZE];
 }
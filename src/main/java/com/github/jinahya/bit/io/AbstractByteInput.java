@@ -20,10 +20,19 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * A skeletal implementation of {@link ByteInput} that holds the byte source. Subclasses implement
  * {@link ByteInput#read()} by reading from the {@link #source} field.
  *
+ * <p>This class also defines bulk methods, {@link #read(byte[], int, int)} and {@link #read(ByteBuffer)}, whose
+ * default implementations fall back to {@link ByteInput#read()}; subclasses override them with the native bulk
+ * operations of their sources. {@link DefaultBitInput} uses these methods to refill its bits in blocks. Likewise,
+ * {@link #skip(long)} discards bytes in blocks, and is overridden by subclasses whose sources can move their positions
+ * directly.</p>
+ *
  * @param <T> byte source type parameter
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see AbstractByteOutput
@@ -61,10 +70,87 @@ public abstract class AbstractByteInput<T>
                + "}";
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads specified number of bytes into specified array, starting at specified offset. Exhaustion of the source is
+     * signalled in the same way as by {@link ByteInput#read()}.
+     *
+     * <p>The {@code read(byte[], int, int)} method of {@code AbstractByteInput} class invokes {@link ByteInput#read()}
+     * method for each byte. Subclasses are encouraged to override this method with a bulk operation on the
+     * {@link #source}.</p>
+     *
+     * @param dst the array into which bytes are read; must not be {@code null}.
+     * @param off the offset in {@code dst} at which the first byte is stored; must not be negative.
+     * @param len the number of bytes to read; must not be negative and must not exceed {@code dst.length - off}.
+     * @throws NullPointerException      if {@code dst} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see AbstractByteOutput#write(byte[], int, int)
+     */
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        ByteIoUtils.read(this, dst, off, len);
+    }
+
+    /**
+     * Reads bytes into specified buffer until it has no {@link ByteBuffer#remaining() remaining} space. Exhaustion of
+     * the source is signalled in the same way as by {@link ByteInput#read()}.
+     *
+     * <p>The {@code read(ByteBuffer)} method of {@code AbstractByteInput} class, for a buffer backed by an accessible
+     * array, invokes {@link #read(byte[], int, int)} method with the array and, otherwise, invokes
+     * {@link ByteInput#read()} method for each byte.</p>
+     *
+     * @param dst the buffer into which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code dst} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see AbstractByteOutput#write(ByteBuffer)
+     */
+    public void read(final ByteBuffer dst) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        if (dst.hasArray()) {
+            final int remaining = dst.remaining();
+            read(dst.array(), dst.arrayOffset() + dst.position(), remaining);
+            dst.position(dst.position() + remaining);
+            return;
+        }
+        while (dst.hasRemaining()) {
+            dst.put((byte) read());
+        }
+    }
+
+    /**
+     * Skips specified number of bytes. Exhaustion of the source is signalled in the same way as by
+     * {@link ByteInput#read()}.
+     *
+     * <p>The {@code skip(long)} method of {@code AbstractByteInput} class reads and discards bytes, in blocks, using
+     * {@link #read(byte[], int, int)} method. Subclasses are encouraged to override this method by moving the position
+     * of the {@link #source}.</p>
+     *
+     * @param n the number of bytes to skip; must not be negative.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     * @throws IOException              if an I/O error occurs.
+     */
+    public void skip(final long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        if (n == 0L) {
+            return;
+        }
+        final byte[] discarded = new byte[(int) Math.min(n, ByteIoUtils.DISCARD_BUFFER_SIZE)];
+        for (long remaining = n; remaining > 0L; ) {
+            final int length = (int) Math.min(remaining, discarded.length);
+            read(discarded, 0, length);
+            remaining -= length;
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------- source
 
     /**
-     * The byte source from which bytes are read.
+     * The byte source from which bytes are read. Subclasses which can be re-targeted, such as
+     * {@link ArrayByteInput#retarget(byte[], int, int)}, replace it.
      */
-    protected final T source;
+    protected T source;
 }
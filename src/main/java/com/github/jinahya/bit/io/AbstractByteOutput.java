@@ -20,16 +20,28 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * A skeletal implementation of {@link ByteOutput} that holds the byte target. Subclasses implement
  * {@link ByteOutput#write(int)} by writing to the {@link #target} field.
  *
+ * <p>This class also defines bulk methods, {@link #write(byte[], int, int)} and {@link #write(ByteBuffer)}, whose
+ * default implementations fall back to {@link ByteOutput#write(int)}; subclasses override them with the native bulk
+ * operations of their targets. {@link DefaultBitOutput} uses these methods to write its bits in blocks.</p>
+ *
+ * <p>This class is also {@link Flushable} and {@link Closeable}; {@link #flush()} writes every byte buffered on the way
+ * to the target, and {@link #close()} flushes and closes the target.</p>
+ *
  * @param <T> byte target type parameter
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see AbstractByteInput
  */
 public abstract class AbstractByteOutput<T>
-        implements ByteOutput {
+        implements ByteOutput, Flushable, Closeable {
 
     // -----------------------------------------------------------------------------------------------------------------
 
@@ -61,10 +73,95 @@ public abstract class AbstractByteOutput<T>
                + "}";
     }
 
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes specified number of bytes from specified array, starting at specified offset. A full target is signalled
+     * in the same way as by {@link ByteOutput#write(int)}.
+     *
+     * <p>The {@code write(byte[], int, int)} method of {@code AbstractByteOutput} class invokes
+     * {@link ByteOutput#write(int)} method for each byte. Subclasses are encouraged to override this method with a bulk
+     * operation on the {@link #target}.</p>
+     *
+     * @param src the array whose bytes are written; must not be {@code null}.
+     * @param off the offset in {@code src} of the first byte to write; must not be negative.
+     * @param len the number of bytes to write; must not be negative and must not exceed {@code src.length - off}.
+     * @throws NullPointerException      if {@code src} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see AbstractByteInput#read(byte[], int, int)
+     */
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        ByteIoUtils.write(this, src, off, len);
+    }
+
+    /**
+     * Writes all {@link ByteBuffer#remaining() remaining} bytes of specified buffer. A full target is signalled in the
+     * same way as by {@link ByteOutput#write(int)}.
+     *
+     * <p>The {@code write(ByteBuffer)} method of {@code AbstractByteOutput} class, for a buffer backed by an accessible
+     * array, invokes {@link #write(byte[], int, int)} method with the array and, otherwise, invokes
+     * {@link ByteOutput#write(int)} method for each byte.</p>
+     *
+     * @param src the buffer whose remaining bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code src} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see AbstractByteInput#read(ByteBuffer)
+     */
+    public void write(final ByteBuffer src) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        if (src.hasArray()) {
+            final int remaining = src.remaining();
+            write(src.array(), src.arrayOffset() + src.position(), remaining);
+            src.position(src.position() + remaining);
+            return;
+        }
+        while (src.hasRemaining()) {
+            write(src.get());
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------- lifecycle
+
+    /**
+     * Writes all bytes buffered by this output, if any, to the {@link #target} and flushes the target.
+     *
+     * <p>The {@code flush()} method of {@code AbstractByteOutput} class flushes the {@link #target}, if it is an
+     * instance of {@link Flushable}. Subclasses buffering bytes override this method to write them first.</p>
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (target instanceof Flushable) {
+            ((Flushable) target).flush();
+        }
+    }
+
+    /**
+     * Flushes this output and closes the {@link #target}. This output must not be written to afterwards.
+     *
+     * <p>The {@code close()} method of {@code AbstractByteOutput} class invokes {@link #flush()} method and closes the
+     * {@link #target}, if it is an instance of {@link Closeable}.</p>
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (target instanceof Closeable) {
+            ((Closeable) target).close();
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------- target
 
     /**
-     * The byte target to which bytes are written.
+     * The byte target to which bytes are written. Subclasses which can be re-targeted, such as
+     * {@link ArrayByteOutput#retarget(byte[], int, int)}, replace it.
      */
-    protected final T target;
+    protected T target;
 }
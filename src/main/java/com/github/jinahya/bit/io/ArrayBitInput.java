@@ -0,0 +1,302 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * A bit input reads bits directly from a range of a byte array.
+ *
+ * <p>Unlike a {@link DefaultBitInput} bound to an {@link ArrayByteInput}, this class holds the array, the index and
+ * the limit itself and reads octets inline, without going through a {@link ByteInput}.</p>
+ *
+ * <p>Positions, for {@link #seek(long) seeking}, are counted from the start of the range.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitOutput
+ */
+public final class ArrayBitInput
+        extends AbstractBitInput
+        implements SeekableBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading from whole specified array.
+     *
+     * @param source the array from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public ArrayBitInput(final byte[] source) {
+        this(source, 0, source == null ? 0 : source.length);
+    }
+
+    /**
+     * Creates a new instance reading from specified range of specified array.
+     *
+     * @param source the array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @throws NullPointerException      if {@code source} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public ArrayBitInput(final byte[] source, final int offset, final int length) {
+        this(source, offset, length, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading from specified range of specified array.
+     *
+     * @param source the array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException      if {@code source} or {@code bitOrder} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public ArrayBitInput(final byte[] source, final int offset, final int length, final BitOrder bitOrder) {
+        super(bitOrder);
+        ByteIoUtils.requireValidRange(source, offset, length);
+        this.source = source;
+        this.start = offset;
+        this.index = offset;
+        this.limit = offset + length;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "index=" + index
+               + ",limit=" + limit
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code ArrayBitInput} class returns the byte at the {@code index} as
+     * an unsigned 8-bit value and increases the {@code index} by {@code 1}.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the {@code index} has reached the limit.
+     * @throws IOException  {@inheritDoc}
+     * @see ArrayBitOutput#write(int)
+     */
+    @Override
+    protected int read() throws IOException {
+        if (index == limit) {
+            throw new EOFException("end of array reached");
+        }
+        return source[index++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code ArrayBitInput} class copies bytes, starting at
+     * the {@code index}, using {@link System#arraycopy(Object, int, Object, int, int)}, and increases the
+     * {@code index} by {@code len}.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if fewer than {@code len} bytes are left; no byte is copied in that case.
+     * @throws IOException  {@inheritDoc}
+     * @see ArrayBitOutput#write(byte[], int, int)
+     */
+    @Override
+    protected void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (len > limit - index) {
+            throw new EOFException("end of array reached");
+        }
+        System.arraycopy(source, index, dst, off, len);
+        index += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code ArrayBitInput} class increases the {@code index} by
+     * {@code n}.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if fewer than {@code n} bytes are left; the {@code index} is not changed in that case.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        if (n > limit - index) {
+            throw new EOFException("end of array reached");
+        }
+        index += (int) n;
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    @Override
+    public long getPosition() {
+        return position();
+    }
+
+    /**
+     * {@inheritDoc} The {@code seek(long)} method of {@code ArrayBitInput} class sets the {@code index} to the octet
+     * containing specified position.
+     *
+     * @param position {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws IOException              {@inheritDoc}
+     */
+    @Override
+    public void seek(final long position) throws IOException {
+        BitIoUtils.requireValidPosition(position, limit - start);
+        index = start + (int) (position >> 3);
+        reposition(position);
+    }
+
+    @Override
+    public void mark() {
+        mark = position();
+    }
+
+    @Override
+    public void reset() throws IOException {
+        seek(mark);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this input to specified range of specified array and starts over, as if this input were newly
+     * created, so that an instance can be reused for another source without allocating a new one. The
+     * {@link #mark() mark} is moved to the start of the range.
+     *
+     * @param source the array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @throws NullPointerException      if {@code source} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public void retarget(final byte[] source, final int offset, final int length) {
+        ByteIoUtils.requireValidRange(source, offset, length);
+        this.source = source;
+        this.start = offset;
+        this.index = offset;
+        this.limit = offset + length;
+        this.mark = 0L;
+        clear();
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- unpack
+
+    /**
+     * {@inheritDoc} The {@code unpack} method of {@code ArrayBitInput} class, while the bit order is
+     * {@link BitOrder#MSB_FIRST MSB-first} and an {@link #setUnpacker(BitUnpacker) unpacker} is set, hands as many of
+     * the values as fill whole octets of the remaining range to the unpacker and increases the {@code index} by the
+     * octets of them.
+     */
+    @Override
+    int unpack(final int size, final boolean signed, final int[] ints, final long[] longs, final int off,
+               final int len) {
+        if (unpacker == null || getBitOrder() != BitOrder.MSB_FIRST) {
+            return 0;
+        }
+        final int n = BitIoUtils.octetFillingCount(size, len, limit - index);
+        if (n == 0) {
+            return 0;
+        }
+        if (ints != null) {
+            unpacker.unpack(size, signed, source, index, ints, off, n);
+        } else {
+            unpacker.unpack(size, signed, source, index, longs, off, n);
+        }
+        index += (int) (((long) n * size) >> 3);
+        return n;
+    }
+
+    /**
+     * Returns the current value of the {@code unpacker} attribute.
+     *
+     * @return the current value of the {@code unpacker} attribute; {@code null} if not set.
+     */
+    public BitUnpacker getUnpacker() {
+        return unpacker;
+    }
+
+    /**
+     * Replaces the current value of the {@code unpacker} attribute with specified value. While set, octet-aligned bulk
+     * array reads, such as {@link #readUnsignedInts(int, int[], int, int)}, in {@link BitOrder#MSB_FIRST MSB-first}
+     * order are handed to the unpacker.
+     *
+     * @param unpacker new value for the {@code unpacker} attribute; {@code null} for reading values one after another.
+     */
+    public void setUnpacker(final BitUnpacker unpacker) {
+        this.unpacker = unpacker;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- index
+
+    /**
+     * Returns the current value of the {@code index} attribute; the position in the array from which the next byte is
+     * read.
+     *
+     * @return the current value of the {@code index} attribute.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The array from which bytes are read.
+     */
+    private byte[] source;
+
+    /**
+     * The index in the {@link #source} at which the range starts.
+     */
+    private int start;
+
+    /**
+     * The index in the {@link #source} to read.
+     */
+    private int index;
+
+    /**
+     * The index, exclusive, in the {@link #source} up to which bytes are read.
+     */
+    private int limit;
+
+    /**
+     * The bit position {@link #mark() marked} last.
+     */
+    private long mark;
+
+    /**
+     * The kernel to which octet-aligned bulk array reads are handed.
+     */
+    private BitUnpacker unpacker;
+}
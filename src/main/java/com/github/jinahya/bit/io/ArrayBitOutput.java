@@ -0,0 +1,234 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * A bit output writes bits directly to a range of a byte array.
+ *
+ * <p>Unlike a {@link DefaultBitOutput} bound to an {@link ArrayByteOutput}, this class holds the array, the index and
+ * the limit itself and writes octets inline, without going through a {@link ByteOutput}.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitInput
+ */
+public final class ArrayBitOutput
+        extends AbstractBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing to whole specified array.
+     *
+     * @param target the array to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public ArrayBitOutput(final byte[] target) {
+        this(target, 0, target == null ? 0 : target.length);
+    }
+
+    /**
+     * Creates a new instance writing to specified range of specified array.
+     *
+     * @param target the array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @throws NullPointerException      if {@code target} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public ArrayBitOutput(final byte[] target, final int offset, final int length) {
+        this(target, offset, length, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, writing to specified range of specified array.
+     *
+     * @param target the array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @throws NullPointerException      if {@code target} or {@code bitOrder} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public ArrayBitOutput(final byte[] target, final int offset, final int length, final BitOrder bitOrder) {
+        super(bitOrder);
+        ByteIoUtils.requireValidRange(target, offset, length);
+        this.target = target;
+        this.index = offset;
+        this.limit = offset + length;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "index=" + index
+               + ",limit=" + limit
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code ArrayBitOutput} class sets the byte at the {@code index}
+     * with given value and increases the {@code index} by {@code 1}.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException if the {@code index} has reached the limit.
+     * @see ArrayBitInput#read()
+     */
+    @Override
+    protected void write(final int value) throws IOException {
+        if (index == limit) {
+            throw new IOException("end of array reached");
+        }
+        target[index++] = (byte) value;
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code ArrayBitOutput} class copies bytes, starting
+     * at the {@code index}, using {@link System#arraycopy(Object, int, Object, int, int)}, and increases the
+     * {@code index} by {@code len}.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException if fewer than {@code len} bytes of room are left; no byte is copied in that case.
+     * @see ArrayBitInput#read(byte[], int, int)
+     */
+    @Override
+    protected void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (len > limit - index) {
+            throw new IOException("end of array reached");
+        }
+        System.arraycopy(src, off, target, index, len);
+        index += len;
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this output to specified range of specified array and starts over, as if this output were newly
+     * created, so that an instance can be reused for another target without allocating a new one. Bits written but not
+     * yet {@link #align(int) aligned} are lost.
+     *
+     * @param target the array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @throws NullPointerException      if {@code target} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public void retarget(final byte[] target, final int offset, final int length) {
+        ByteIoUtils.requireValidRange(target, offset, length);
+        this.target = target;
+        this.index = offset;
+        this.limit = offset + length;
+        clear();
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ pack
+
+    /**
+     * {@inheritDoc} The {@code pack} method of {@code ArrayBitOutput} class, while the bit order is
+     * {@link BitOrder#MSB_FIRST MSB-first} and a {@link #setPacker(BitPacker) packer} is set, hands as many of the
+     * values as fill whole octets of the remaining range to the packer and increases the {@code index} by the octets of
+     * them.
+     */
+    @Override
+    int pack(final int size, final boolean signed, final int[] ints, final long[] longs, final int off, final int len) {
+        if (packer == null || getBitOrder() != BitOrder.MSB_FIRST) {
+            return 0;
+        }
+        final int n = BitIoUtils.octetFillingCount(size, len, limit - index);
+        if (n == 0) {
+            return 0;
+        }
+        if (ints != null) {
+            packer.pack(size, signed, ints, off, n, target, index);
+        } else {
+            packer.pack(size, signed, longs, off, n, target, index);
+        }
+        index += (int) (((long) n * size) >> 3);
+        return n;
+    }
+
+    /**
+     * Returns the current value of the {@code packer} attribute.
+     *
+     * @return the current value of the {@code packer} attribute; {@code null} if not set.
+     */
+    public BitPacker getPacker() {
+        return packer;
+    }
+
+    /**
+     * Replaces the current value of the {@code packer} attribute with specified value. While set, octet-aligned bulk
+     * array writes, such as {@link #writeUnsignedInts(int, int[], int, int)}, in {@link BitOrder#MSB_FIRST MSB-first}
+     * order are handed to the packer.
+     *
+     * @param packer new value for the {@code packer} attribute; {@code null} for writing values one after another.
+     */
+    public void setPacker(final BitPacker packer) {
+        this.packer = packer;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- index
+
+    /**
+     * Returns the current value of the {@code index} attribute; the position in the array to which the next byte is
+     * written.
+     *
+     * @return the current value of the {@code index} attribute.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The array to which bytes are written.
+     */
+    private byte[] target;
+
+    /**
+     * The index in the {@link #target} to write.
+     */
+    private int index;
+
+    /**
+     * The index, exclusive, in the {@link #target} up to which bytes are written.
+     */
+    private int limit;
+
+    /**
+     * The kernel to which octet-aligned bulk array writes are handed.
+     */
+    private BitPacker packer;
+}
@@ -43,6 +43,7 @@ public class ArrayByteInput
     public ArrayByteInput(final byte[] source) {
         super(source);
         this.index = source.length == 0 ? -1 : 0;
+        this.limit = source.length;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -56,6 +57,7 @@ public class ArrayByteInput
     public String toString() {
         return super.toString() + "{"
                + "index=" + index
+               + ",limit=" + limit
                + "}";
     }
 
@@ -67,13 +69,83 @@ public class ArrayByteInput
      *
      * @return {@inheritDoc}
      * @throws IOException                    {@inheritDoc}
-     * @throws ArrayIndexOutOfBoundsException if the {@code index} is out of the {@code source}'s bounds; that is, when
-     *                                        the {@code source} has been exhausted (or was empty).
+     * @throws ArrayIndexOutOfBoundsException if the {@code index} is out of the range; that is, when the range has
+     *                                        been exhausted (or was empty).
      * @see ArrayByteOutput#write(int)
      */
     @Override
     public int read() throws IOException {
-        return source[index++] & 0xFF;
+        final int i = index++;
+        if (i >= limit) {
+            throw new ArrayIndexOutOfBoundsException("index(" + i + ") >= limit(" + limit + ")");
+        }
+        return source[i] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code ArrayByteInput} class copies bytes from the
+     * {@link #source source}, starting at the {@code index}, using {@link System#arraycopy(Object, int, Object, int,
+     * int)}, and increases the {@code index} by {@code len}.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException                    {@inheritDoc}
+     * @throws ArrayIndexOutOfBoundsException if the {@code source} has fewer than {@code len} bytes left; no byte is
+     *                                        copied in that case.
+     * @see ArrayByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (len == 0) {
+            return;
+        }
+        if (len > limit - index) {
+            throw new ArrayIndexOutOfBoundsException("len(" + len + ") > remaining(" + (limit - index) + ")");
+        }
+        System.arraycopy(source, index, dst, off, len);
+        index += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code ArrayByteInput} class increases the {@code index} by
+     * {@code n}.
+     *
+     * @param n {@inheritDoc}
+     * @throws IOException                    {@inheritDoc}
+     * @throws ArrayIndexOutOfBoundsException if the {@code source} has fewer than {@code n} bytes left; the
+     *                                        {@code index} is not changed in that case.
+     */
+    @Override
+    public void skip(final long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        final int start = Math.max(index, 0);
+        if (n > limit - start) {
+            throw new ArrayIndexOutOfBoundsException("n(" + n + ") > remaining(" + (limit - start) + ")");
+        }
+        if (n > 0L) {
+            index = start + (int) n;
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this input to specified range of specified array, so that an instance can be reused for another
+     * source without allocating a new one.
+     *
+     * @param source the array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @throws NullPointerException      if {@code source} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public void retarget(final byte[] source, final int offset, final int length) {
+        ByteIoUtils.requireValidRange(source, offset, length);
+        this.source = source;
+        this.index = offset;
+        this.limit = offset + length;
     }
 
     // ----------------------------------------------------------------------------------------------------------- index
@@ -94,4 +166,9 @@ public class ArrayByteInput
      * The index in the {@code source} to read.
      */
     int index;
+
+    /**
+     * The index, exclusive, in the {@code source} up to which bytes are read.
+     */
+    private int limit;
 }
@@ -43,6 +43,7 @@ public class ArrayByteOutput
     public ArrayByteOutput(final byte[] target) {
         super(target);
         this.index = target.length == 0 ? -1 : 0;
+        this.limit = target.length;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -56,6 +57,7 @@ public class ArrayByteOutput
     public String toString() {
         return super.toString() + "{"
                + "index=" + index
+               + ",limit=" + limit
                + "}";
     }
 
@@ -67,13 +69,62 @@ public class ArrayByteOutput
      *
      * @param value {@inheritDoc}
      * @throws IOException                    {@inheritDoc}
-     * @throws ArrayIndexOutOfBoundsException if the {@code index} is out of the {@code target}'s bounds; that is, when
-     *                                        the {@code target} has been filled (or was empty).
+     * @throws ArrayIndexOutOfBoundsException if the {@code index} is out of the range; that is, when the range has
+     *                                        been filled (or was empty).
      * @see ArrayByteInput#read()
      */
     @Override
     public void write(final int value) throws IOException {
-        target[index++] = (byte) value;
+        final int i = index++;
+        if (i >= limit) {
+            throw new ArrayIndexOutOfBoundsException("index(" + i + ") >= limit(" + limit + ")");
+        }
+        target[i] = (byte) value;
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code ArrayByteOutput} class copies bytes to the
+     * {@link #target target}, starting at the {@code index}, using {@link System#arraycopy(Object, int, Object, int,
+     * int)}, and increases the {@code index} by {@code len}.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException                    {@inheritDoc}
+     * @throws ArrayIndexOutOfBoundsException if the {@code target} has room for fewer than {@code len} bytes; no byte
+     *                                        is copied in that case.
+     * @see ArrayByteInput#read(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (len == 0) {
+            return;
+        }
+        if (len > limit - index) {
+            throw new ArrayIndexOutOfBoundsException("len(" + len + ") > remaining(" + (limit - index) + ")");
+        }
+        System.arraycopy(src, off, target, index, len);
+        index += len;
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this output to specified range of specified array, so that an instance can be reused for another
+     * target without allocating a new one.
+     *
+     * @param target the array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @throws NullPointerException      if {@code target} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public void retarget(final byte[] target, final int offset, final int length) {
+        ByteIoUtils.requireValidRange(target, offset, length);
+        this.target = target;
+        this.index = offset;
+        this.limit = offset + length;
     }
 
     // ----------------------------------------------------------------------------------------------------------- index
@@ -94,4 +145,9 @@ public class ArrayByteOutput
      * The index in the {@code target} to write.
      */
     int index;
+
+    /**
+     * The index, exclusive, in the {@code target} up to which bytes are written.
+     */
+    private int limit;
 }
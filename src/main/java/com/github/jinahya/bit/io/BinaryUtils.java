@@ -22,6 +22,10 @@ package com.github.jinahya.bit.io;
 
 /**
  * Utilities for low-level binary manipulation.
+ *
+ * <p>This class is one of the overlays of the multi-release artifact; the {@code META-INF/versions/9} variant
+ * implements the same methods with {@link Integer#numberOfLeadingZeros(int)}, {@link Long#reverseBytes(long)} and
+ * byte-array view var-handles, and must keep exactly the same members as this class.</p>
  */
 final class BinaryUtils {
 
@@ -95,6 +99,90 @@ final class BinaryUtils {
         return (char) ((value << 8) | (value >>> 8));
     }
 
+    /**
+     * Returns the zero-based index of the highest set bit in specified value.
+     *
+     * @param value the value.
+     * @return the index of the highest set bit, between {@code 0} and {@code 31}, both inclusive; {@code -1} when
+     *         {@code value} is {@code 0}.
+     * @see BitIoUtils#highestOneBitIndex(int)
+     */
+    public static int highestOneBitIndex(final int value) {
+        // equivalent to 31 - Integer#numberOfLeadingZeros(int), open-coded for the retrotranslated (1.3/1.4)
+        // artifacts.
+        return highestOneBitIndex(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the zero-based index of the highest set bit in specified value.
+     *
+     * @param value the value.
+     * @return the index of the highest set bit, between {@code 0} and {@code 63}, both inclusive; {@code -1} when
+     *         {@code value} is {@code 0}.
+     * @see BitIoUtils#highestOneBitIndex(long)
+     */
+    public static int highestOneBitIndex(final long value) {
+        // equivalent to 63 - Long#numberOfLeadingZeros(long), open-coded for the retrotranslated (1.3/1.4) artifacts.
+        if (value == 0L) {
+            return -1;
+        }
+        int index = 0;
+        long v = value;
+        if ((v >>> 32) != 0L) {
+            index += 32;
+            v >>>= 32;
+        }
+        if ((v >>> 16) != 0L) {
+            index += 16;
+            v >>>= 16;
+        }
+        if ((v >>> 8) != 0L) {
+            index += 8;
+            v >>>= 8;
+        }
+        if ((v >>> 4) != 0L) {
+            index += 4;
+            v >>>= 4;
+        }
+        if ((v >>> 2) != 0L) {
+            index += 2;
+            v >>>= 2;
+        }
+        return index + (int) (v >>> 1);
+    }
+
+    /**
+     * Assembles specified number of leading octets of specified array into an unsigned value.
+     *
+     * @param array        the array whose leading octets are assembled.
+     * @param bytes        the number of octets to assemble; between {@code 1} and
+     *                     {@value java.lang.Long#SIZE}{@code  / }{@value java.lang.Byte#SIZE}, both inclusive.
+     * @param littleEndian {@code true} for the little endian byte order; {@code false} for the big endian byte order.
+     * @return an unsigned value of {@code bytes} octets.
+     */
+    public static long getOctets(final byte[] array, final int bytes, final boolean littleEndian) {
+        long value = 0L;
+        for (int i = 0; i < bytes; i++) {
+            value = (value << Byte.SIZE) | (array[littleEndian ? bytes - 1 - i : i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Disassembles specified number of lower octets of specified value into the leading octets of specified array.
+     *
+     * @param array        the array to which the octets are stored.
+     * @param bytes        the number of octets to store; between {@code 1} and {@value java.lang.Long#SIZE}{@code  / }
+     *                     {@value java.lang.Byte#SIZE}, both inclusive.
+     * @param value        the value whose lower {@code bytes} octets are stored.
+     * @param littleEndian {@code true} for the little endian byte order; {@code false} for the big endian byte order.
+     */
+    public static void putOctets(final byte[] array, final int bytes, final long value, final boolean littleEndian) {
+        for (int i = 0; i < bytes; i++) {
+            array[littleEndian ? i : bytes - 1 - i] = (byte) (value >> (i << 3));
+        }
+    }
+
     private BinaryUtils() {
         throw new AssertionError("instantiation is not allowed");
     }
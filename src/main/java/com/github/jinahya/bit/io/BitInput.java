@@ -265,6 +265,80 @@ public interface BitInput {
      */
     long readLong64Le() throws IOException;
 
+    // ----------------------------------------------------------------------------------------------------------- array
+
+    /**
+     * Reads specified number of consecutive unsigned {@code int} values of specified number of bits each into
+     * specified range of specified array. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and ({@value java.lang.Integer#SIZE} -
+     *             {@code 1}), both inclusive.
+     * @param dst  the array into which values are read; must not be {@code null}.
+     * @param off  the offset in {@code dst}.
+     * @param len  the number of values to read.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code dst} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #readUnsignedInt(int)
+     * @see BitOutput#writeUnsignedInts(int, int[], int, int)
+     */
+    void readUnsignedInts(int size, int[] dst, int off, int len) throws IOException;
+
+    /**
+     * Reads specified number of consecutive signed {@code int} values of specified number of bits each into
+     * specified range of specified array. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *             inclusive.
+     * @param dst  the array into which values are read; must not be {@code null}.
+     * @param off  the offset in {@code dst}.
+     * @param len  the number of values to read.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code dst} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #readInt(int)
+     * @see BitOutput#writeInts(int, int[], int, int)
+     */
+    void readInts(int size, int[] dst, int off, int len) throws IOException;
+
+    /**
+     * Reads specified number of consecutive unsigned {@code long} values of specified number of bits each into
+     * specified range of specified array. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and ({@value java.lang.Long#SIZE} - {@code 1}),
+     *             both inclusive.
+     * @param dst  the array into which values are read; must not be {@code null}.
+     * @param off  the offset in {@code dst}.
+     * @param len  the number of values to read.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code dst} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #readUnsignedLong(int)
+     * @see BitOutput#writeUnsignedLongs(int, long[], int, int)
+     */
+    void readUnsignedLongs(int size, long[] dst, int off, int len) throws IOException;
+
+    /**
+     * Reads specified number of consecutive signed {@code long} values of specified number of bits each into
+     * specified range of specified array. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *             inclusive.
+     * @param dst  the array into which values are read; must not be {@code null}.
+     * @param off  the offset in {@code dst}.
+     * @param len  the number of values to read.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code dst} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #readLong(int)
+     * @see BitOutput#writeLongs(int, long[], int, int)
+     */
+    void readLongs(int size, long[] dst, int off, int len) throws IOException;
+
     // ------------------------------------------------------------------------------------------------------------ char
 
     /**
@@ -481,6 +555,79 @@ public interface BitInput {
      */
     <T> T readObject(BitReader<? extends T> reader) throws IOException;
 
+    // ----------------------------------------------------------------------------------------------------------- unary
+
+    /**
+     * Reads a unary-coded run; bits are read until a bit equal to specified stop bit is read, and the number of bits
+     * read before the stop bit is returned. The stop bit itself is consumed.
+     *
+     * @param stopBit the bit terminating the run; either {@code 0} or {@code 1}.
+     * @return the number of bits, not equal to {@code stopBit}, read before the stop bit.
+     * @throws IllegalArgumentException if {@code stopBit} is neither {@code 0} nor {@code 1}.
+     * @throws IOException              if an I/O error occurs.
+     * @see BitOutput#writeUnary(long, int)
+     */
+    long readUnary(int stopBit) throws IOException;
+
+    /**
+     * Reads a unary-coded run of at most specified length; bits are read until a bit equal to specified stop bit is
+     * read, or until {@code maxRun + 1} bits not equal to the stop bit are read, in which case an {@link IOException}
+     * is thrown. At most {@code maxRun + 1} bits are consumed, so that a malformed run fails without scanning the
+     * rest of the input.
+     *
+     * @param stopBit the bit terminating the run; either {@code 0} or {@code 1}.
+     * @param maxRun  the maximum number of bits, not equal to {@code stopBit}, allowed before the stop bit; must not be
+     *                negative.
+     * @return the number of bits, not equal to {@code stopBit}, read before the stop bit.
+     * @throws IllegalArgumentException if {@code stopBit} is neither {@code 0} nor {@code 1}, or if {@code maxRun} is
+     *                                  negative.
+     * @throws IOException              if the run exceeds {@code maxRun}, or if an I/O error occurs.
+     * @see #readUnary(int)
+     */
+    long readUnary(int stopBit, long maxRun) throws IOException;
+
+    // ------------------------------------------------------------------------------------------------------------ peek
+
+    /**
+     * Returns, without consuming, an unsigned {@code int} value of specified number of next bits. The bits stay
+     * available for subsequent reads; use {@link #consume(int)} to discard them after the look-up.
+     *
+     * @param size the number of bits to peek; between {@code 1} and ({@value java.lang.Integer#SIZE} - {@code 1}),
+     *             both inclusive.
+     * @return an unsigned {@code int} value of next {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @throws IOException              if an I/O error occurs.
+     * @see #readUnsignedInt(int)
+     * @see #consume(int)
+     */
+    int peekUnsignedInt(int size) throws IOException;
+
+    /**
+     * Returns, without consuming, an unsigned {@code long} value of specified number of next bits. The bits stay
+     * available for subsequent reads; use {@link #consume(int)} to discard them after the look-up.
+     *
+     * @param size the number of bits to peek; between {@code 1} and {@value BitIoConstants#SIZE_MAX_PEEK}, both
+     *             inclusive.
+     * @return an unsigned {@code long} value of next {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @throws IOException              if an I/O error occurs.
+     * @see #readUnsignedLong(int)
+     * @see #consume(int)
+     */
+    long peekUnsignedLong(int size) throws IOException;
+
+    /**
+     * Consumes specified number of bits; typically the actual length of a symbol found with bits peeked by
+     * {@link #peekUnsignedInt(int)} or {@link #peekUnsignedLong(int)}. Consuming more bits than peeked discards the
+     * surplus as {@link #skip(int)} does.
+     *
+     * @param bits the number of bits to consume; must be positive.
+     * @throws IllegalArgumentException if {@code bits} is not positive.
+     * @throws IOException              if an I/O error occurs.
+     * @see #skip(int)
+     */
+    void consume(int bits) throws IOException;
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -492,6 +639,16 @@ public interface BitInput {
      */
     void skip(int bits) throws IOException;
 
+    /**
+     * Skips specified number of bits by discarding bits. Implementations backed by a source whose position can be
+     * moved directly may skip whole octets without reading them.
+     *
+     * @param bits the number of bit to skip; must be positive.
+     * @throws IllegalArgumentException if {@code bits} is not positive.
+     * @throws IOException              if an I/O error occurs.
+     */
+    void skip(long bits) throws IOException;
+
     /**
      * Aligns to specified number of bytes by discarding bits.
      *
@@ -21,15 +21,18 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.DataInput;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * Static factory methods for creating {@link BitInput} instances over various byte sources.
  *
- * <p>Each method wraps the source in the appropriate {@link ByteInput} implementation and returns a
- * {@link DefaultBitInput} bound to it, hiding the two-level construction
- * ({@code new DefaultBitInput(new XxxByteInput(...))}).</p>
+ * <p>Byte arrays and byte buffers are read by the dedicated {@link ArrayBitInput} and {@link BufferBitInput} classes,
+ * and file channels are mapped into memory and read by the {@link MappedFileBitInput} class.
+ * Other sources are wrapped in the appropriate {@link ByteInput} implementation and read by a {@link DefaultBitInput}
+ * bound to it, hiding the two-level construction ({@code new DefaultBitInput(new XxxByteInput(...))}).</p>
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see BitOutputs
@@ -50,14 +53,40 @@ public final class BitInputs {
     }
 
     /**
-     * Creates a new bit input reading from specified input stream.
+     * Creates a new bit input, in specified bit order, reading from specified byte input.
+     *
+     * @param source the byte input from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new bit input.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public static BitInput from(final ByteInput source, final BitOrder bitOrder) {
+        return new DefaultBitInput(source, bitOrder);
+    }
+
+    /**
+     * Creates a new bit input reading from specified input stream through a {@link BufferedStreamByteInput}, which
+     * reads ahead of the bits returned.
      *
      * @param source the input stream from which bytes are read; must not be {@code null}.
      * @return a new bit input.
      * @throws NullPointerException if {@code source} is {@code null}.
      */
     public static BitInput from(final InputStream source) {
-        return from(new StreamByteInput(source));
+        return from(new BufferedStreamByteInput(source));
+    }
+
+    /**
+     * Creates a new bit input, in specified bit order, reading from specified input stream through a
+     * {@link BufferedStreamByteInput}, which reads ahead of the bits returned.
+     *
+     * @param source the input stream from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new bit input.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public static BitInput from(final InputStream source, final BitOrder bitOrder) {
+        return from(new BufferedStreamByteInput(source), bitOrder);
     }
 
     /**
@@ -68,7 +97,48 @@ public final class BitInputs {
      * @throws NullPointerException if {@code source} is {@code null}.
      */
     public static BitInput from(final byte[] source) {
-        return from(new ArrayByteInput(source));
+        return new ArrayBitInput(source);
+    }
+
+    /**
+     * Creates a new bit input, in specified bit order, reading from specified byte array.
+     *
+     * @param source the byte array from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new bit input.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public static BitInput from(final byte[] source, final BitOrder bitOrder) {
+        return new ArrayBitInput(source, 0, source == null ? 0 : source.length, bitOrder);
+    }
+
+    /**
+     * Creates a new bit input reading from specified range of specified byte array.
+     *
+     * @param source the byte array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return a new bit input.
+     * @throws NullPointerException      if {@code source} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public static BitInput from(final byte[] source, final int offset, final int length) {
+        return new ArrayBitInput(source, offset, length);
+    }
+
+    /**
+     * Creates a new bit input, in specified bit order, reading from specified range of specified byte array.
+     *
+     * @param source the byte array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new bit input.
+     * @throws NullPointerException      if {@code source} or {@code bitOrder} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public static BitInput from(final byte[] source, final int offset, final int length, final BitOrder bitOrder) {
+        return new ArrayBitInput(source, offset, length, bitOrder);
     }
 
     /**
@@ -79,7 +149,19 @@ public final class BitInputs {
      * @throws NullPointerException if {@code source} is {@code null}.
      */
     public static BitInput from(final ByteBuffer source) {
-        return from(new BufferByteInput(source));
+        return new BufferBitInput(source);
+    }
+
+    /**
+     * Creates a new bit input, in specified bit order, reading from specified byte buffer.
+     *
+     * @param source the byte buffer from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new bit input.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public static BitInput from(final ByteBuffer source, final BitOrder bitOrder) {
+        return new BufferBitInput(source, bitOrder);
     }
 
     /**
@@ -93,6 +175,45 @@ public final class BitInputs {
         return from(new DataByteInput(source));
     }
 
+    /**
+     * Creates a new bit input, in specified bit order, reading from specified data input.
+     *
+     * @param source the data input from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new bit input.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public static BitInput from(final DataInput source, final BitOrder bitOrder) {
+        return from(new DataByteInput(source), bitOrder);
+    }
+
+    /**
+     * Creates a new seekable bit input reading from specified file channel mapped into memory.
+     *
+     * @param source the file channel from which bytes are read; must not be {@code null}.
+     * @return a new seekable bit input.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see MappedFileBitInput
+     */
+    public static SeekableBitInput from(final FileChannel source) throws IOException {
+        return new MappedFileBitInput(source);
+    }
+
+    /**
+     * Creates a new seekable bit input, in specified bit order, reading from specified file channel mapped into memory.
+     *
+     * @param source the file channel from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @return a new seekable bit input.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see MappedFileBitInput
+     */
+    public static SeekableBitInput from(final FileChannel source, final BitOrder bitOrder) throws IOException {
+        return new MappedFileBitInput(source, bitOrder);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     private BitInputs() {
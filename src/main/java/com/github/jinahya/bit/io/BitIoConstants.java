@@ -39,6 +39,16 @@ public final class BitIoConstants {
     // ------------------------------------------------------------------------------------------------------------ long
     static final int SIZE_MAX_LONG_UNSIGNED = 63;
 
+    // ------------------------------------------------------------------------------------------------------------ peek
+
+    /**
+     * The maximum size, inclusive, of bits which can be peeked at once; the number of bits a {@code 64}-bit window
+     * holding {@value java.lang.Byte#SIZE}{@code  - 1} unread bits can take in without overflowing.
+     *
+     * @see BitInput#peekUnsignedLong(int)
+     */
+    public static final int SIZE_MAX_PEEK = Long.SIZE - Byte.SIZE + 1;
+
     // ---------------------------------------------------------------------------------------------------- float/double
 
     /**
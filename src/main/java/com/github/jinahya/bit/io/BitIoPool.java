@@ -0,0 +1,327 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+/**
+ * A small, bounded pool of re-targetable bit inputs and outputs over arrays and buffers.
+ *
+ * <p>Each {@code input}/{@code output} method takes a released instance, if any, and
+ * {@link ArrayBitInput#retarget(byte[], int, int) re-targets} it, or creates a new instance otherwise. A
+ * {@code release} method returns an instance to the pool, which keeps up to its {@link #getCapacity() capacity} of
+ * instances per kind and drops the rest. Decoding many small messages thus reuses a few instances rather than
+ * allocating new ones for each message.</p>
+ *
+ * <p>This class is not thread-safe; an instance is meant to be confined to a single thread, e.g. held in a
+ * {@link ThreadLocal}, and an instance taken from it must not be used after it has been released. A released instance
+ * keeps a reference to its last source or target until it is taken again.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class BitIoPool {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * A bounded stack of released instances.
+     *
+     * @param <T> instance type parameter
+     */
+    private static final class Stack<T> {
+
+        private Stack(final int capacity) {
+            super();
+            elements = new Object[capacity];
+        }
+
+        @SuppressWarnings({"unchecked"})
+        private T pop() {
+            if (size == 0) {
+                return null;
+            }
+            final T element = (T) elements[--size];
+            elements[size] = null;
+            return element;
+        }
+
+        private void push(final T element) {
+            for (int i = 0; i < size; i++) {
+                if (elements[i] == element) {
+                    throw new IllegalStateException("already released: " + element);
+                }
+            }
+            if (size < elements.length) {
+                elements[size++] = element;
+            }
+        }
+
+        private final Object[] elements;
+
+        private int size;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new pool which keeps up to specified number of instances per kind, in {@link BitOrder#MSB_FIRST}
+     * order.
+     *
+     * @param capacity the maximum number of released instances kept per kind; must be positive.
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    public BitIoPool(final int capacity) {
+        this(capacity, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new pool which keeps up to specified number of instances per kind, in specified bit order.
+     *
+     * @param capacity the maximum number of released instances kept per kind; must be positive.
+     * @param bitOrder the order in which pooled instances read and write bits; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     * @throws NullPointerException     if {@code bitOrder} is {@code null}.
+     */
+    public BitIoPool(final int capacity, final BitOrder bitOrder) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+        }
+        if (bitOrder == null) {
+            throw new NullPointerException("bitOrder is null");
+        }
+        this.capacity = capacity;
+        this.bitOrder = bitOrder;
+        arrayInputs = new Stack<ArrayBitInput>(capacity);
+        bufferInputs = new Stack<BufferBitInput>(capacity);
+        arrayOutputs = new Stack<ArrayBitOutput>(capacity);
+        bufferOutputs = new Stack<BufferBitOutput>(capacity);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "capacity=" + capacity
+               + ",bitOrder=" + bitOrder
+               + "}";
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- input
+
+    /**
+     * Returns a bit input reading from specified range of specified array.
+     *
+     * @param source the array from which bytes are read; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return a bit input reading from the range.
+     * @throws NullPointerException      if {@code source} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     * @see #release(ArrayBitInput)
+     */
+    public ArrayBitInput input(final byte[] source, final int offset, final int length) {
+        ByteIoUtils.requireValidRange(source, offset, length);
+        final ArrayBitInput input = arrayInputs.pop();
+        if (input == null) {
+            return new ArrayBitInput(source, offset, length, bitOrder);
+        }
+        input.retarget(source, offset, length);
+        return input;
+    }
+
+    /**
+     * Returns a bit input reading from specified buffer.
+     *
+     * @param source the buffer from which bytes are read; must not be {@code null}.
+     * @return a bit input reading from the buffer.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     * @see #release(BufferBitInput)
+     */
+    public BufferBitInput input(final ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        final BufferBitInput input = bufferInputs.pop();
+        if (input == null) {
+            return new BufferBitInput(source, bitOrder);
+        }
+        input.retarget(source);
+        return input;
+    }
+
+    /**
+     * Returns specified bit input, taken from this pool, back to this pool.
+     *
+     * @param input the bit input to release; must not be {@code null}.
+     * @throws NullPointerException     if {@code input} is {@code null}.
+     * @throws IllegalArgumentException if {@code input}'s bit order is not this pool's.
+     * @throws IllegalStateException    if {@code input} has already been released, and not taken again since.
+     */
+    public void release(final ArrayBitInput input) {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        requireBitOrder(input.getBitOrder());
+        arrayInputs.push(input);
+    }
+
+    /**
+     * Returns specified bit input, taken from this pool, back to this pool.
+     *
+     * @param input the bit input to release; must not be {@code null}.
+     * @throws NullPointerException     if {@code input} is {@code null}.
+     * @throws IllegalArgumentException if {@code input}'s bit order is not this pool's.
+     * @throws IllegalStateException    if {@code input} has already been released, and not taken again since.
+     */
+    public void release(final BufferBitInput input) {
+        if (input == null) {
+            throw new NullPointerException("input is null");
+        }
+        requireBitOrder(input.getBitOrder());
+        bufferInputs.push(input);
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- output
+
+    /**
+     * Returns a bit output writing to specified range of specified array.
+     *
+     * @param target the array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return a bit output writing to the range.
+     * @throws NullPointerException      if {@code target} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     * @see #release(ArrayBitOutput)
+     */
+    public ArrayBitOutput output(final byte[] target, final int offset, final int length) {
+        ByteIoUtils.requireValidRange(target, offset, length);
+        final ArrayBitOutput output = arrayOutputs.pop();
+        if (output == null) {
+            return new ArrayBitOutput(target, offset, length, bitOrder);
+        }
+        output.retarget(target, offset, length);
+        return output;
+    }
+
+    /**
+     * Returns a bit output writing to specified buffer.
+     *
+     * @param target the buffer to which bytes are written; must not be {@code null}.
+     * @return a bit output writing to the buffer.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     * @see #release(BufferBitOutput)
+     */
+    public BufferBitOutput output(final ByteBuffer target) {
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        final BufferBitOutput output = bufferOutputs.pop();
+        if (output == null) {
+            return new BufferBitOutput(target, bitOrder);
+        }
+        output.retarget(target);
+        return output;
+    }
+
+    /**
+     * Returns specified bit output, taken from this pool, back to this pool. Bits written to the output but not yet
+     * {@link BitOutput#align(int) aligned} are lost once the output is taken again.
+     *
+     * @param output the bit output to release; must not be {@code null}.
+     * @throws NullPointerException     if {@code output} is {@code null}.
+     * @throws IllegalArgumentException if {@code output}'s bit order is not this pool's.
+     * @throws IllegalStateException    if {@code output} has already been released, and not taken again since.
+     */
+    public void release(final ArrayBitOutput output) {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        requireBitOrder(output.getBitOrder());
+        arrayOutputs.push(output);
+    }
+
+    /**
+     * Returns specified bit output, taken from this pool, back to this pool. Bits written to the output but not yet
+     * {@link BitOutput#align(int) aligned} are lost once the output is taken again.
+     *
+     * @param output the bit output to release; must not be {@code null}.
+     * @throws NullPointerException     if {@code output} is {@code null}.
+     * @throws IllegalArgumentException if {@code output}'s bit order is not this pool's.
+     * @throws IllegalStateException    if {@code output} has already been released, and not taken again since.
+     */
+    public void release(final BufferBitOutput output) {
+        if (output == null) {
+            throw new NullPointerException("output is null");
+        }
+        requireBitOrder(output.getBitOrder());
+        bufferOutputs.push(output);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the maximum number of released instances kept per kind.
+     *
+     * @return the maximum number of released instances kept per kind.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the order in which pooled instances read and write bits.
+     *
+     * @return the order in which pooled instances read and write bits.
+     */
+    public BitOrder getBitOrder() {
+        return bitOrder;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private void requireBitOrder(final BitOrder actual) {
+        if (actual != bitOrder) {
+            throw new IllegalArgumentException("bit order(" + actual + ") != pool's bit order(" + bitOrder + ")");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final int capacity;
+
+    private final BitOrder bitOrder;
+
+    private final Stack<ArrayBitInput> arrayInputs;
+
+    private final Stack<BufferBitInput> bufferInputs;
+
+    private final Stack<ArrayBitOutput> arrayOutputs;
+
+    private final Stack<BufferBitOutput> bufferOutputs;
+}
@@ -29,6 +29,7 @@ import static com.github.jinahya.bit.io.BitIoConstants.MAX_FRACTION_SIZE_DOUBLE;
 import static com.github.jinahya.bit.io.BitIoConstants.MAX_FRACTION_SIZE_FLOAT;
 import static com.github.jinahya.bit.io.BitIoConstants.MAX_FRACTION_SIZE_HALF;
 import static com.github.jinahya.bit.io.BitIoConstants.MIN_EXPONENT_SIZE;
+import static com.github.jinahya.bit.io.BitIoConstants.SIZE_MAX_PEEK;
 
 /**
  * Internal utilities shared by the reader/writer layer.
@@ -81,11 +82,7 @@ public final class BitIoUtils {
      *         {@code value} is {@code 0}.
      */
     public static int highestOneBitIndex(final int value) {
-        int index = -1;
-        for (int v = value; v != 0; v >>>= 1) {
-            index++;
-        }
-        return index;
+        return BinaryUtils.highestOneBitIndex(value);
     }
 
     /**
@@ -98,11 +95,7 @@ public final class BitIoUtils {
      *         {@code value} is {@code 0}.
      */
     public static int highestOneBitIndex(final long value) {
-        int index = -1;
-        for (long v = value; v != 0L; v >>>= 1) {
-            index++;
-        }
-        return index;
+        return BinaryUtils.highestOneBitIndex(value);
     }
 
     private BitIoUtils() {
@@ -297,6 +290,106 @@ public final class BitIoUtils {
         return size;
     }
 
+    /**
+     * Checks that specified range is valid for specified array.
+     *
+     * @param array  the array; must not be {@code null}.
+     * @param offset the offset of the range; must not be negative.
+     * @param length the length of the range; must not be negative and must not exceed
+     *               {@code array.length - offset}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    static void requireValidRange(final int[] array, final int offset, final int length) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        requireValidRange(array.length, offset, length);
+    }
+
+    /**
+     * Checks that specified range is valid for specified array.
+     *
+     * @param array  the array; must not be {@code null}.
+     * @param offset the offset of the range; must not be negative.
+     * @param length the length of the range; must not be negative and must not exceed
+     *               {@code array.length - offset}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    static void requireValidRange(final long[] array, final int offset, final int length) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        requireValidRange(array.length, offset, length);
+    }
+
+    private static void requireValidRange(final int capacity, final int offset, final int length) {
+        if (offset < 0) {
+            throw new IndexOutOfBoundsException("offset(" + offset + ") < 0");
+        }
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("length(" + length + ") < 0");
+        }
+        if (length > capacity - offset) {
+            throw new IndexOutOfBoundsException(
+                    "length(" + length + ") > array.length(" + capacity + ") - offset(" + offset + ")");
+        }
+    }
+
+    /**
+     * Checks that the specified bit position is valid for seeking within specified number of bytes.
+     *
+     * @param position the bit position to check; between {@code 0} and {@code bytes * 8}, both inclusive.
+     * @param bytes    the number of bytes which can be sought.
+     * @return given {@code position}.
+     * @throws IllegalArgumentException if {@code position} is not valid.
+     */
+    static long requireValidPosition(final long position, final long bytes) {
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") < 0");
+        }
+        if (position > bytes << 3) {
+            throw new IllegalArgumentException("position(" + position + ") > " + (bytes << 3));
+        }
+        return position;
+    }
+
+    /**
+     * Returns the number of values of specified size, out of specified number of values and within specified number of
+     * octets, whose bits fill whole octets.
+     *
+     * @param size  the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *              inclusive.
+     * @param count the number of values available.
+     * @param bytes the number of octets available.
+     * @return the largest number, not greater than {@code count}, of values which fit in {@code bytes} octets and whose
+     *         {@code size} bits, in total, are a multiple of {@value java.lang.Byte#SIZE}.
+     */
+    static int octetFillingCount(final int size, final int count, final int bytes) {
+        final int lowest = size & -size;
+        final int group = lowest >= Byte.SIZE ? 1 : Byte.SIZE / lowest; // values per whole octets
+        final long values = Math.min(count, ((long) bytes << 3) / size);
+        return (int) (values - values % group);
+    }
+
+    /**
+     * Checks that the specified bit size is valid for peeking an <em>unsigned</em> {@code long} value.
+     *
+     * @param size the bit size to check; between {@code 1} and {@value BitIoConstants#SIZE_MAX_PEEK}, both inclusive.
+     * @return given {@code size}.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     */
+    static int requireValidSizeForPeek(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size(" + size + ") <= 0");
+        }
+        if (size > SIZE_MAX_PEEK) {
+            throw new IllegalArgumentException("invalid size(" + size + ") for peek > " + SIZE_MAX_PEEK);
+        }
+        return size;
+    }
+
     /**
      * Checks that the specified bit size is valid for a {@code char} value.
      *
@@ -0,0 +1,45 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Orders in which bits are packed into octets.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractBitInput#getBitOrder()
+ * @see AbstractBitOutput#getBitOrder()
+ */
+public enum BitOrder {
+
+    /**
+     * The most significant bit of each octet comes first, and each value is packed from its most significant bit.
+     * Multi-octet values, unless read or written as little endian, are in big endian byte order. This is the default
+     * order.
+     */
+    MSB_FIRST,
+
+    /**
+     * The least significant bit of each octet comes first, and each value is packed from its least significant bit; as
+     * used by DEFLATE, GIF/TIFF LZW and Brotli. Multi-octet values are, regardless of the byte order of the method
+     * used, in little endian byte order.
+     */
+    LSB_FIRST
+}
@@ -20,15 +20,21 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
 
 /**
  * An interface for writing values of an arbitrary number of bits.
  *
+ * <p>Bits of a partially-written octet stay in the output until the octet is completed. Call {@link #align(int)}, or
+ * {@link #close()}, to pad and write it; {@link #flush()} alone writes complete octets only.</p>
+ *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see BitInput
  */
-public interface BitOutput {
+public interface BitOutput
+        extends Flushable, Closeable {
 
     // -----------------------------------------------------------------------------------------------------------------
 
@@ -269,6 +275,80 @@ public interface BitOutput {
      */
     void writeLong64Le(long value) throws IOException;
 
+    // ----------------------------------------------------------------------------------------------------------- array
+
+    /**
+     * Writes specified range of specified array as consecutive unsigned {@code int} values of specified number of
+     * bits each. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and ({@value java.lang.Integer#SIZE} -
+     *             {@code 1}), both inclusive.
+     * @param src  the array whose values are written; must not be {@code null}.
+     * @param off  the offset in {@code src}.
+     * @param len  the number of values to write.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code src} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #writeUnsignedInt(int, int)
+     * @see BitInput#readUnsignedInts(int, int[], int, int)
+     */
+    void writeUnsignedInts(int size, int[] src, int off, int len) throws IOException;
+
+    /**
+     * Writes specified range of specified array as consecutive signed {@code int} values of specified number of
+     * bits each. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *             inclusive.
+     * @param src  the array whose values are written; must not be {@code null}.
+     * @param off  the offset in {@code src}.
+     * @param len  the number of values to write.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code src} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #writeInt(int, int)
+     * @see BitInput#readInts(int, int[], int, int)
+     */
+    void writeInts(int size, int[] src, int off, int len) throws IOException;
+
+    /**
+     * Writes specified range of specified array as consecutive unsigned {@code long} values of specified number of
+     * bits each. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and ({@value java.lang.Long#SIZE} - {@code 1}),
+     *             both inclusive.
+     * @param src  the array whose values are written; must not be {@code null}.
+     * @param off  the offset in {@code src}.
+     * @param len  the number of values to write.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code src} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #writeUnsignedLong(int, long)
+     * @see BitInput#readUnsignedLongs(int, long[], int, int)
+     */
+    void writeUnsignedLongs(int size, long[] src, int off, int len) throws IOException;
+
+    /**
+     * Writes specified range of specified array as consecutive signed {@code long} values of specified number of
+     * bits each. The size is validated once for all values.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *             inclusive.
+     * @param src  the array whose values are written; must not be {@code null}.
+     * @param off  the offset in {@code src}.
+     * @param len  the number of values to write.
+     * @throws IllegalArgumentException  if {@code size} is not valid.
+     * @throws NullPointerException      if {@code src} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     * @throws IOException               if an I/O error occurs.
+     * @see #writeLong(int, long)
+     * @see BitInput#readLongs(int, long[], int, int)
+     */
+    void writeLongs(int size, long[] src, int off, int len) throws IOException;
+
     // ------------------------------------------------------------------------------------------------------------ char
 
     /**
@@ -510,6 +590,20 @@ public interface BitOutput {
      */
     <T> void writeObject(BitWriter<? super T> writer, T value) throws IOException;
 
+    // ----------------------------------------------------------------------------------------------------------- unary
+
+    /**
+     * Writes a unary-coded run; specified number of specified bits followed by a single stop bit which is the
+     * complement of {@code bit}.
+     *
+     * @param count the number of {@code bit}s to write before the stop bit; must not be negative.
+     * @param bit   the bit of the run; either {@code 0} or {@code 1}.
+     * @throws IllegalArgumentException if {@code count} is negative or {@code bit} is neither {@code 0} nor {@code 1}.
+     * @throws IOException              if an I/O error occurs.
+     * @see BitInput#readUnary(int)
+     */
+    void writeUnary(long count, int bit) throws IOException;
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -542,4 +636,24 @@ public interface BitOutput {
      * @see BitInput#getCount()
      */
     long getCount();
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Writes all complete octets buffered by this output, and by the underlying byte output, to the ultimate target.
+     * Bits of a partially-written octet are not written; {@link #align(int) align} first to pad and write them.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    void flush() throws IOException;
+
+    /**
+     * Pads the partially-written octet, if any, as {@link #align(int) align(1)} does, {@link #flush() flushes} this
+     * output, and closes the underlying byte output. This output must not be written to afterwards.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    void close() throws IOException;
 }
@@ -21,13 +21,17 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.DataOutput;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * Static factory methods for creating {@link BitOutput} instances over various byte targets.
  *
- * <p>Each method wraps the target in the appropriate {@link ByteOutput} implementation and returns a
+ * <p>Byte arrays and byte buffers are written by the dedicated {@link ArrayBitOutput} and {@link BufferBitOutput}
+ * classes, and file channels are mapped into memory and written by the {@link MappedFileBitOutput} class. Other
+ * targets are wrapped in the appropriate {@link ByteOutput} implementation and written by a
  * {@link DefaultBitOutput} bound to it, hiding the two-level construction
  * ({@code new DefaultBitOutput(new XxxByteOutput(...))}).</p>
  *
@@ -50,14 +54,42 @@ public final class BitOutputs {
     }
 
     /**
-     * Creates a new bit output writing to specified output stream.
+     * Creates a new bit output, in specified bit order, writing to specified byte output.
+     *
+     * @param target the byte output to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     */
+    public static BitOutput from(final ByteOutput target, final BitOrder bitOrder) {
+        return new DefaultBitOutput(target, bitOrder);
+    }
+
+    /**
+     * Creates a new bit output writing to specified output stream through a {@link BufferedStreamByteOutput}. Bytes
+     * reach the stream when the buffer fills, or when the output is {@link BitOutput#flush() flushed} or
+     * {@link BitOutput#close() closed}.
      *
      * @param target the output stream to which bytes are written; must not be {@code null}.
      * @return a new bit output.
      * @throws NullPointerException if {@code target} is {@code null}.
      */
     public static BitOutput from(final OutputStream target) {
-        return from(new StreamByteOutput(target));
+        return from(new BufferedStreamByteOutput(target));
+    }
+
+    /**
+     * Creates a new bit output, in specified bit order, writing to specified output stream through a
+     * {@link BufferedStreamByteOutput}. Bytes reach the stream when the buffer fills, or when the output is
+     * {@link BitOutput#flush() flushed} or {@link BitOutput#close() closed}.
+     *
+     * @param target the output stream to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     */
+    public static BitOutput from(final OutputStream target, final BitOrder bitOrder) {
+        return from(new BufferedStreamByteOutput(target), bitOrder);
     }
 
     /**
@@ -68,7 +100,48 @@ public final class BitOutputs {
      * @throws NullPointerException if {@code target} is {@code null}.
      */
     public static BitOutput from(final byte[] target) {
-        return from(new ArrayByteOutput(target));
+        return new ArrayBitOutput(target);
+    }
+
+    /**
+     * Creates a new bit output, in specified bit order, writing to specified byte array.
+     *
+     * @param target the byte array to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     */
+    public static BitOutput from(final byte[] target, final BitOrder bitOrder) {
+        return new ArrayBitOutput(target, 0, target == null ? 0 : target.length, bitOrder);
+    }
+
+    /**
+     * Creates a new bit output writing to specified range of specified byte array.
+     *
+     * @param target the byte array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return a new bit output.
+     * @throws NullPointerException      if {@code target} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public static BitOutput from(final byte[] target, final int offset, final int length) {
+        return new ArrayBitOutput(target, offset, length);
+    }
+
+    /**
+     * Creates a new bit output, in specified bit order, writing to specified range of specified byte array.
+     *
+     * @param target the byte array to which bytes are written; must not be {@code null}.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException      if {@code target} or {@code bitOrder} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    public static BitOutput from(final byte[] target, final int offset, final int length, final BitOrder bitOrder) {
+        return new ArrayBitOutput(target, offset, length, bitOrder);
     }
 
     /**
@@ -79,7 +152,19 @@ public final class BitOutputs {
      * @throws NullPointerException if {@code target} is {@code null}.
      */
     public static BitOutput from(final ByteBuffer target) {
-        return from(new BufferByteOutput(target));
+        return new BufferBitOutput(target);
+    }
+
+    /**
+     * Creates a new bit output, in specified bit order, writing to specified byte buffer.
+     *
+     * @param target the byte buffer to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     */
+    public static BitOutput from(final ByteBuffer target, final BitOrder bitOrder) {
+        return new BufferBitOutput(target, bitOrder);
     }
 
     /**
@@ -93,6 +178,47 @@ public final class BitOutputs {
         return from(new DataByteOutput(target));
     }
 
+    /**
+     * Creates a new bit output, in specified bit order, writing to specified data output.
+     *
+     * @param target the data output to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     */
+    public static BitOutput from(final DataOutput target, final BitOrder bitOrder) {
+        return from(new DataByteOutput(target), bitOrder);
+    }
+
+    /**
+     * Creates a new bit output writing to specified file channel mapped into memory. The file is truncated to the bytes
+     * written when the output is {@link BitOutput#close() closed}.
+     *
+     * @param target the file channel to which bytes are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see MappedFileBitOutput
+     */
+    public static BitOutput from(final FileChannel target) throws IOException {
+        return new MappedFileBitOutput(target);
+    }
+
+    /**
+     * Creates a new bit output, in specified bit order, writing to specified file channel mapped into memory. The file
+     * is truncated to the bytes written when the output is {@link BitOutput#close() closed}.
+     *
+     * @param target the file channel to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @return a new bit output.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     * @throws IOException          if an I/O error occurs.
+     * @see MappedFileBitOutput
+     */
+    public static BitOutput from(final FileChannel target, final BitOrder bitOrder) throws IOException {
+        return new MappedFileBitOutput(target, bitOrder);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     private BitOutputs() {
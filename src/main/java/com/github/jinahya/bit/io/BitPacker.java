@@ -0,0 +1,64 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * A kernel which packs consecutive fixed-width values, in {@link BitOrder#MSB_FIRST MSB-first} order, into a byte
+ * array. An {@link ArrayBitOutput} {@link ArrayBitOutput#setPacker(BitPacker) given} a packer hands its bulk array
+ * writes, while octet-aligned, to the packer instead of draining values through its bit window one after another.
+ *
+ * <p>The caller guarantees that {@code len * size} is a multiple of {@value java.lang.Byte#SIZE}, so that the values
+ * occupy whole octets, and that the array has room for all of them. A signed value is packed as its sign flag followed
+ * by its lower {@code size - 1} bits, as {@link BitOutput#writeInt(int, int)} does.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BitUnpacker
+ */
+public interface BitPacker {
+
+    /**
+     * Packs specified number of values of specified size from specified array of {@code int}s.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for packing each value with its sign flag; {@code false} otherwise.
+     * @param src    the array whose values are packed.
+     * @param off    the offset in {@code src}.
+     * @param len    the number of values to pack.
+     * @param dst    the array to which octets are written.
+     * @param index  the index, in {@code dst}, of the first octet.
+     */
+    void pack(int size, boolean signed, int[] src, int off, int len, byte[] dst, int index);
+
+    /**
+     * Packs specified number of values of specified size from specified array of {@code long}s.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for packing each value with its sign flag; {@code false} otherwise.
+     * @param src    the array whose values are packed.
+     * @param off    the offset in {@code src}.
+     * @param len    the number of values to pack.
+     * @param dst    the array to which octets are written.
+     * @param index  the index, in {@code dst}, of the first octet.
+     */
+    void pack(int size, boolean signed, long[] src, int off, int len, byte[] dst, int index);
+}
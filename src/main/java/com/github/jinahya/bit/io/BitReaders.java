@@ -23,7 +23,8 @@ package com.github.jinahya.bit.io;
 import java.io.IOException;
 
 /**
- * Static factory methods for composing {@link BitReader} instances.
+ * Static factory methods for composing {@link BitReader} instances, and for pre-validated readers of fixed-width
+ * values.
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see BitWriters
@@ -59,6 +60,174 @@ public final class BitReaders {
         };
     }
 
+    // ------------------------------------------------------------------------------------------------------------- int
+
+    /**
+     * Returns a reader which reads an <em>unsigned</em> {@code int} value of specified bit size. The size is validated
+     * once, here, so that reading from an {@link AbstractBitInput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}{@code - 1},
+     *             both inclusive.
+     * @return a reader which reads an unsigned {@code int} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitInput#readUnsignedInt(int)
+     * @see BitWriters#unsignedIntWriter(int)
+     */
+    public static IntBitReader unsignedIntReader(final int size) {
+        BitIoUtils.requireValidSizeForUnsignedInt(size);
+        return new IntBitReader() {
+            @Override
+            public int readInt(final BitInput input) throws IOException {
+                if (input instanceof AbstractBitInput) {
+                    return (int) ((AbstractBitInput) input).unsigned64(size);
+                }
+                return input.readUnsignedInt(size);
+            }
+        };
+    }
+
+    /**
+     * Returns a reader which reads a <em>signed</em> {@code int} value of specified bit size. The size is validated
+     * once, here, so that reading from an {@link AbstractBitInput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *             inclusive.
+     * @return a reader which reads a signed {@code int} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitInput#readInt(int)
+     * @see BitWriters#intWriter(int)
+     */
+    public static IntBitReader intReader(final int size) {
+        BitIoUtils.requireValidSizeForSignedInt(size);
+        final int shift = Long.SIZE - size;
+        return new IntBitReader() {
+            @Override
+            public int readInt(final BitInput input) throws IOException {
+                if (input instanceof AbstractBitInput) {
+                    return (int) ((((AbstractBitInput) input).unsigned64(size) << shift) >> shift);
+                }
+                return input.readInt(size);
+            }
+        };
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ long
+
+    /**
+     * Returns a reader which reads an <em>unsigned</em> {@code long} value of specified bit size. The size is validated
+     * once, here, so that reading from an {@link AbstractBitInput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}{@code - 1},
+     *             both inclusive.
+     * @return a reader which reads an unsigned {@code long} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitInput#readUnsignedLong(int)
+     * @see BitWriters#unsignedLongWriter(int)
+     */
+    public static LongBitReader unsignedLongReader(final int size) {
+        BitIoUtils.requireValidSizeForUnsignedLong(size);
+        return new LongBitReader() {
+            @Override
+            public long readLong(final BitInput input) throws IOException {
+                if (input instanceof AbstractBitInput) {
+                    return ((AbstractBitInput) input).unsigned64(size);
+                }
+                return input.readUnsignedLong(size);
+            }
+        };
+    }
+
+    /**
+     * Returns a reader which reads a <em>signed</em> {@code long} value of specified bit size. The size is validated
+     * once, here, so that reading from an {@link AbstractBitInput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *             inclusive.
+     * @return a reader which reads a signed {@code long} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitInput#readLong(int)
+     * @see BitWriters#longWriter(int)
+     */
+    public static LongBitReader longReader(final int size) {
+        BitIoUtils.requireValidSizeForSignedLong(size);
+        final int shift = Long.SIZE - size;
+        return new LongBitReader() {
+            @Override
+            public long readLong(final BitInput input) throws IOException {
+                if (input instanceof AbstractBitInput) {
+                    return (((AbstractBitInput) input).unsigned64(size) << shift) >> shift;
+                }
+                return input.readLong(size);
+            }
+        };
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- float
+
+    /**
+     * Returns a reader which reads a {@code float} value of specified layout. The layout is validated, and its masks
+     * and shifts are computed, once, here, so that reading from an {@link AbstractBitInput} involves no argument
+     * check; the sign flag, the exponent and the fraction are read together.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @return a reader which reads a {@code float} value of the layout.
+     * @throws IllegalArgumentException if {@code exponentSize} or {@code fractionSize} is not valid.
+     * @see BitInput#readFloat(int, int)
+     * @see BitWriters#floatWriter(int, int)
+     */
+    public static FloatBitReader floatReader(final int exponentSize, final int fractionSize) {
+        BitIoUtils.requireValidExponentSizeFloat(exponentSize);
+        BitIoUtils.requireValidFractionSizeFloat(fractionSize);
+        final int expMask = (1 << exponentSize) - 1;
+        final int newBias = (1 << (exponentSize - 1)) - 1;
+        final int fracShift = 23 - fractionSize;
+        return new FloatBitReader() {
+            @Override
+            public float readFloat(final BitInput input) throws IOException {
+                if (input instanceof AbstractBitInput) {
+                    final long fields = ((AbstractBitInput) input).fields(exponentSize, fractionSize);
+                    return AbstractBitInput.floatValue(exponentSize, fractionSize, expMask, newBias, fracShift,
+                                                       fields);
+                }
+                return input.readFloat(exponentSize, fractionSize);
+            }
+        };
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- double
+
+    /**
+     * Returns a reader which reads a {@code double} value of specified layout. The layout is validated, and its masks
+     * and shifts are computed, once, here, so that reading from an {@link AbstractBitInput} involves no argument
+     * check; the sign flag, the exponent and the fraction are read together.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @return a reader which reads a {@code double} value of the layout.
+     * @throws IllegalArgumentException if {@code exponentSize} or {@code fractionSize} is not valid.
+     * @see BitInput#readDouble(int, int)
+     * @see BitWriters#doubleWriter(int, int)
+     */
+    public static DoubleBitReader doubleReader(final int exponentSize, final int fractionSize) {
+        BitIoUtils.requireValidExponentSizeDouble(exponentSize);
+        BitIoUtils.requireValidFractionSizeDouble(fractionSize);
+        final int expMask = (1 << exponentSize) - 1;
+        final int newBias = (1 << (exponentSize - 1)) - 1;
+        final int fracShift = 52 - fractionSize;
+        return new DoubleBitReader() {
+            @Override
+            public double readDouble(final BitInput input) throws IOException {
+                if (input instanceof AbstractBitInput) {
+                    final long fields = ((AbstractBitInput) input).fields(exponentSize, fractionSize);
+                    return AbstractBitInput.doubleValue(exponentSize, fractionSize, expMask, newBias, fracShift,
+                                                        fields);
+                }
+                return input.readDouble(exponentSize, fractionSize);
+            }
+        };
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     private BitReaders() {
@@ -0,0 +1,63 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * A kernel which unpacks consecutive fixed-width values, in {@link BitOrder#MSB_FIRST MSB-first} order, from a byte
+ * array. An {@link ArrayBitInput} {@link ArrayBitInput#setUnpacker(BitUnpacker) given} an unpacker hands its bulk array
+ * reads, while octet-aligned, to the unpacker instead of taking values from its bit window one after another.
+ *
+ * <p>The caller guarantees that {@code len * size} is a multiple of {@value java.lang.Byte#SIZE}, so that the values
+ * occupy whole octets, and that the array holds all of them.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BitPacker
+ */
+public interface BitUnpacker {
+
+    /**
+     * Unpacks specified number of values of specified size into specified array of {@code int}s.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for sign-extending each value; {@code false} otherwise.
+     * @param src    the array from which octets are read.
+     * @param index  the index, in {@code src}, of the first octet.
+     * @param dst    the array into which values are unpacked.
+     * @param off    the offset in {@code dst}.
+     * @param len    the number of values to unpack.
+     */
+    void unpack(int size, boolean signed, byte[] src, int index, int[] dst, int off, int len);
+
+    /**
+     * Unpacks specified number of values of specified size into specified array of {@code long}s.
+     *
+     * @param size   the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *               inclusive.
+     * @param signed {@code true} for sign-extending each value; {@code false} otherwise.
+     * @param src    the array from which octets are read.
+     * @param index  the index, in {@code src}, of the first octet.
+     * @param dst    the array into which values are unpacked.
+     * @param off    the offset in {@code dst}.
+     * @param len    the number of values to unpack.
+     */
+    void unpack(int size, boolean signed, byte[] src, int index, long[] dst, int off, int len);
+}
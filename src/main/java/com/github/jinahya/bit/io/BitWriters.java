@@ -23,7 +23,8 @@ package com.github.jinahya.bit.io;
 import java.io.IOException;
 
 /**
- * Static factory methods for composing {@link BitWriter} instances.
+ * Static factory methods for composing {@link BitWriter} instances, and for pre-validated writers of fixed-width
+ * values.
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see BitReaders
@@ -58,6 +59,178 @@ public final class BitWriters {
         };
     }
 
+    // ------------------------------------------------------------------------------------------------------------- int
+
+    /**
+     * Returns a writer which writes an <em>unsigned</em> {@code int} value of specified bit size. The size is validated
+     * once, here, so that writing to an {@link AbstractBitOutput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}{@code - 1},
+     *             both inclusive.
+     * @return a writer which writes an unsigned {@code int} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitOutput#writeUnsignedInt(int, int)
+     * @see BitReaders#unsignedIntReader(int)
+     */
+    public static IntBitWriter unsignedIntWriter(final int size) {
+        BitIoUtils.requireValidSizeForUnsignedInt(size);
+        return new IntBitWriter() {
+            @Override
+            public void writeInt(final BitOutput output, final int value) throws IOException {
+                if (output instanceof AbstractBitOutput) {
+                    ((AbstractBitOutput) output).unsigned64(size, value);
+                    return;
+                }
+                output.writeUnsignedInt(size, value);
+            }
+        };
+    }
+
+    /**
+     * Returns a writer which writes a <em>signed</em> {@code int} value of specified bit size. The size is validated
+     * once, here, so that writing to an {@link AbstractBitOutput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Integer#SIZE}, both
+     *             inclusive.
+     * @return a writer which writes a signed {@code int} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitOutput#writeInt(int, int)
+     * @see BitReaders#intReader(int)
+     */
+    public static IntBitWriter intWriter(final int size) {
+        BitIoUtils.requireValidSizeForSignedInt(size);
+        return new IntBitWriter() {
+            @Override
+            public void writeInt(final BitOutput output, final int value) throws IOException {
+                if (output instanceof AbstractBitOutput) {
+                    ((AbstractBitOutput) output).unsigned64(size, AbstractBitOutput.signed(size, value));
+                    return;
+                }
+                output.writeInt(size, value);
+            }
+        };
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ long
+
+    /**
+     * Returns a writer which writes an <em>unsigned</em> {@code long} value of specified bit size. The size is
+     * validated once, here, so that writing to an {@link AbstractBitOutput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}{@code - 1},
+     *             both inclusive.
+     * @return a writer which writes an unsigned {@code long} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitOutput#writeUnsignedLong(int, long)
+     * @see BitReaders#unsignedLongReader(int)
+     */
+    public static LongBitWriter unsignedLongWriter(final int size) {
+        BitIoUtils.requireValidSizeForUnsignedLong(size);
+        return new LongBitWriter() {
+            @Override
+            public void writeLong(final BitOutput output, final long value) throws IOException {
+                if (output instanceof AbstractBitOutput) {
+                    ((AbstractBitOutput) output).unsigned64(size, value);
+                    return;
+                }
+                output.writeUnsignedLong(size, value);
+            }
+        };
+    }
+
+    /**
+     * Returns a writer which writes a <em>signed</em> {@code long} value of specified bit size. The size is validated
+     * once, here, so that writing to an {@link AbstractBitOutput} involves no argument check.
+     *
+     * @param size the number of bits for each value; between {@code 1} and {@value java.lang.Long#SIZE}, both
+     *             inclusive.
+     * @return a writer which writes a signed {@code long} value of {@code size} bits.
+     * @throws IllegalArgumentException if {@code size} is not valid.
+     * @see BitOutput#writeLong(int, long)
+     * @see BitReaders#longReader(int)
+     */
+    public static LongBitWriter longWriter(final int size) {
+        BitIoUtils.requireValidSizeForSignedLong(size);
+        return new LongBitWriter() {
+            @Override
+            public void writeLong(final BitOutput output, final long value) throws IOException {
+                if (output instanceof AbstractBitOutput) {
+                    ((AbstractBitOutput) output).unsigned64(size, AbstractBitOutput.signed(size, value));
+                    return;
+                }
+                output.writeLong(size, value);
+            }
+        };
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- float
+
+    /**
+     * Returns a writer which writes a {@code float} value in specified layout. The layout is validated, and its masks
+     * and shifts are computed, once, here, so that writing to an {@link AbstractBitOutput} involves no argument
+     * check; the sign flag, the exponent and the fraction are written together.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @return a writer which writes a {@code float} value in the layout.
+     * @throws IllegalArgumentException if {@code exponentSize} or {@code fractionSize} is not valid.
+     * @see BitOutput#writeFloat(int, int, float)
+     * @see BitReaders#floatReader(int, int)
+     */
+    public static FloatBitWriter floatWriter(final int exponentSize, final int fractionSize) {
+        BitIoUtils.requireValidExponentSizeFloat(exponentSize);
+        BitIoUtils.requireValidFractionSizeFloat(fractionSize);
+        final int expMask = (1 << exponentSize) - 1;
+        final int newBias = (1 << (exponentSize - 1)) - 1;
+        final int fracShift = 23 - fractionSize;
+        return new FloatBitWriter() {
+            @Override
+            public void writeFloat(final BitOutput output, final float value) throws IOException {
+                if (output instanceof AbstractBitOutput) {
+                    final long fields = AbstractBitOutput.floatFields(exponentSize, fractionSize, expMask, newBias,
+                                                                      fracShift, value);
+                    ((AbstractBitOutput) output).fields(exponentSize, fractionSize, fields);
+                    return;
+                }
+                output.writeFloat(exponentSize, fractionSize, value);
+            }
+        };
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- double
+
+    /**
+     * Returns a writer which writes a {@code double} value in specified layout. The layout is validated, and its masks
+     * and shifts are computed, once, here, so that writing to an {@link AbstractBitOutput} involves no argument
+     * check; the sign flag, the exponent and the fraction are written together.
+     *
+     * @param exponentSize the number of bits for the exponent.
+     * @param fractionSize the number of bits for the fraction.
+     * @return a writer which writes a {@code double} value in the layout.
+     * @throws IllegalArgumentException if {@code exponentSize} or {@code fractionSize} is not valid.
+     * @see BitOutput#writeDouble(int, int, double)
+     * @see BitReaders#doubleReader(int, int)
+     */
+    public static DoubleBitWriter doubleWriter(final int exponentSize, final int fractionSize) {
+        BitIoUtils.requireValidExponentSizeDouble(exponentSize);
+        BitIoUtils.requireValidFractionSizeDouble(fractionSize);
+        final int expMask = (1 << exponentSize) - 1;
+        final int newBias = (1 << (exponentSize - 1)) - 1;
+        final int fracShift = 52 - fractionSize;
+        return new DoubleBitWriter() {
+            @Override
+            public void writeDouble(final BitOutput output, final double value) throws IOException {
+                if (output instanceof AbstractBitOutput) {
+                    final long fields = AbstractBitOutput.doubleFields(exponentSize, fractionSize, expMask, newBias,
+                                                                       fracShift, value);
+                    ((AbstractBitOutput) output).fields(exponentSize, fractionSize, fields);
+                    return;
+                }
+                output.writeDouble(exponentSize, fractionSize, value);
+            }
+        };
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     private BitWriters() {
@@ -0,0 +1,204 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A bit input reads bits directly from a {@link ByteBuffer}.
+ *
+ * <p>Unlike a {@link DefaultBitInput} bound to a {@link BufferByteInput}, this class holds the buffer itself and reads
+ * octets inline, without going through a {@link ByteInput}. As with {@link BufferByteInput}, the buffer is a
+ * caller-managed window; reading past its limit throws an unchecked {@link java.nio.BufferUnderflowException}.</p>
+ *
+ * <p>Positions, for {@link #seek(long) seeking}, are counted from the buffer's position at construction.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferBitOutput
+ */
+public final class BufferBitInput
+        extends AbstractBitInput
+        implements SeekableBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading from specified buffer.
+     *
+     * @param source the buffer from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public BufferBitInput(final ByteBuffer source) {
+        this(source, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading from specified buffer.
+     *
+     * @param source the buffer from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public BufferBitInput(final ByteBuffer source, final BitOrder bitOrder) {
+        super(bitOrder);
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        this.start = source.position();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "source=" + source
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code BufferBitInput} class invokes {@link ByteBuffer#get()} method,
+     * on the buffer, and returns the result as an unsigned {@code int}.
+     *
+     * @return {@inheritDoc}
+     * @throws java.nio.BufferUnderflowException if the buffer has no remaining bytes.
+     * @throws IOException                       {@inheritDoc}
+     * @see BufferBitOutput#write(int)
+     */
+    @Override
+    protected int read() throws IOException {
+        return source.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code BufferBitInput} class invokes
+     * {@link ByteBuffer#get(byte[], int, int)} method on the buffer.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws java.nio.BufferUnderflowException if the buffer has fewer than {@code len} bytes remaining; no byte is
+     *                                           transferred in that case.
+     * @throws IOException                       {@inheritDoc}
+     * @see BufferBitOutput#write(byte[], int, int)
+     */
+    @Override
+    protected void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        source.get(dst, off, len);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code BufferBitInput} class advances the buffer's
+     * {@link ByteBuffer#position() position} by {@code n}.
+     *
+     * @param n {@inheritDoc}
+     * @throws java.nio.BufferUnderflowException if the buffer has fewer than {@code n} bytes remaining; the position is
+     *                                           not changed in that case.
+     * @throws IOException                       {@inheritDoc}
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        if (n > source.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        source.position(source.position() + (int) n);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    @Override
+    public long getPosition() {
+        return position();
+    }
+
+    /**
+     * {@inheritDoc} The {@code seek(long)} method of {@code BufferBitInput} class sets the buffer's
+     * {@link ByteBuffer#position() position} to the octet containing specified position.
+     *
+     * @param position {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws IOException              {@inheritDoc}
+     */
+    @Override
+    public void seek(final long position) throws IOException {
+        BitIoUtils.requireValidPosition(position, source.limit() - start);
+        source.position(start + (int) (position >> 3));
+        reposition(position);
+    }
+
+    @Override
+    public void mark() {
+        mark = position();
+    }
+
+    @Override
+    public void reset() throws IOException {
+        seek(mark);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this input to specified buffer and starts over, as if this input were newly created, so that an
+     * instance can be reused for another source without allocating a new one. The {@link #mark() mark} is moved to
+     * the buffer's current position.
+     *
+     * @param source the buffer from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public void retarget(final ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        this.start = source.position();
+        this.mark = 0L;
+        clear();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer from which bytes are read.
+     */
+    private ByteBuffer source;
+
+    /**
+     * The buffer's position at which this input started.
+     */
+    private int start;
+
+    /**
+     * The bit position {@link #mark() marked} last.
+     */
+    private long mark;
+}
@@ -0,0 +1,138 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A bit output writes bits directly to a {@link ByteBuffer}.
+ *
+ * <p>Unlike a {@link DefaultBitOutput} bound to a {@link BufferByteOutput}, this class holds the buffer itself and
+ * writes octets inline, without going through a {@link ByteOutput}. As with {@link BufferByteOutput}, the buffer is a
+ * caller-managed window; writing past its limit throws an unchecked {@link java.nio.BufferOverflowException}.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferBitInput
+ */
+public final class BufferBitOutput
+        extends AbstractBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing to specified buffer.
+     *
+     * @param target the buffer to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public BufferBitOutput(final ByteBuffer target) {
+        this(target, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, writing to specified buffer.
+     *
+     * @param target the buffer to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     */
+    public BufferBitOutput(final ByteBuffer target, final BitOrder bitOrder) {
+        super(bitOrder);
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "target=" + target
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code BufferBitOutput} class invokes
+     * {@link ByteBuffer#put(byte)} method, on the buffer, with given value.
+     *
+     * @param value {@inheritDoc}
+     * @throws java.nio.BufferOverflowException if the buffer has no remaining space.
+     * @throws IOException                      {@inheritDoc}
+     * @see BufferBitInput#read()
+     */
+    @Override
+    protected void write(final int value) throws IOException {
+        target.put((byte) value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code BufferBitOutput} class invokes
+     * {@link ByteBuffer#put(byte[], int, int)} method on the buffer.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws java.nio.BufferOverflowException if the buffer has less than {@code len} bytes of space remaining; no
+     *                                          byte is transferred in that case.
+     * @throws IOException                      {@inheritDoc}
+     * @see BufferBitInput#read(byte[], int, int)
+     */
+    @Override
+    protected void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.put(src, off, len);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this output to specified buffer and starts over, as if this output were newly created, so that an
+     * instance can be reused for another target without allocating a new one. Bits written but not yet
+     * {@link #align(int) aligned} are lost.
+     *
+     * @param target the buffer to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public void retarget(final ByteBuffer target) {
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+        clear();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer to which bytes are written.
+     */
+    private ByteBuffer target;
+}
@@ -22,6 +22,7 @@ package com.github.jinahya.bit.io;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 
@@ -47,7 +48,9 @@ public class BufferByteInput
     /**
      * Returns a new byte input that reads bytes from the specified readable byte channel, issuing one
      * {@link ReadableByteChannel#read(ByteBuffer) channel read} per byte. This is simple but <strong>not</strong>
-     * efficient for high-throughput reading; when throughput matters, wrap the source in a buffering layer instead.
+     * efficient for high-throughput reading; when throughput matters, use {@link #from(ReadableByteChannel, int)}
+     * instead. Unlike the buffered ones, the input returned by this method never takes a byte from the channel before
+     * it is read.
      *
      * @param channel the readable byte channel from which bytes are read; must not be {@code null}.
      * @return a new byte input reading from {@code channel}; its {@link ByteInput#read() read()} method throws an
@@ -62,6 +65,73 @@ public class BufferByteInput
         return new ChannelByteInput(channel, ByteBuffer.allocate(1));
     }
 
+    /**
+     * Returns a new byte input that reads bytes from the specified readable byte channel through a new heap buffer of
+     * specified capacity, issuing one {@link ReadableByteChannel#read(ByteBuffer) channel read} per buffer rather than
+     * per byte.
+     *
+     * @param channel    the readable byte channel from which bytes are read; must not be {@code null}.
+     * @param bufferSize the capacity of the buffer; must be positive; e.g.
+     *                   {@value ChannelByteInput#DEFAULT_BUFFER_SIZE}.
+     * @return a new byte input reading from {@code channel}; its {@link ByteInput#read() read()} method throws an
+     *         {@link EOFException} when {@code channel} reaches its end.
+     * @throws NullPointerException     if {@code channel} is {@code null}.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     * @see BufferByteOutput#from(java.nio.channels.WritableByteChannel, int)
+     */
+    public static ChannelByteInput from(final ReadableByteChannel channel, final int bufferSize) {
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + bufferSize + ") <= 0");
+        }
+        return new ChannelByteInput(channel, ByteBuffer.allocate(bufferSize));
+    }
+
+    /**
+     * Returns a new byte input that reads bytes from the specified readable byte channel through specified buffer,
+     * which may be {@link ByteBuffer#allocateDirect(int) direct}. The buffer is owned by the input until it is no
+     * longer used; its content, position and limit are overwritten.
+     *
+     * @param channel the readable byte channel from which bytes are read; must not be {@code null}.
+     * @param buffer  the buffer through which bytes are read; must not be {@code null} and must have a non-zero
+     *                {@link ByteBuffer#capacity() capacity}.
+     * @return a new byte input reading from {@code channel}; its {@link ByteInput#read() read()} method throws an
+     *         {@link EOFException} when {@code channel} reaches its end.
+     * @throws NullPointerException     if {@code channel} or {@code buffer} is {@code null}.
+     * @throws IllegalArgumentException if {@code buffer}'s capacity is zero.
+     * @see BufferByteOutput#from(java.nio.channels.WritableByteChannel, ByteBuffer)
+     */
+    public static ChannelByteInput from(final ReadableByteChannel channel, final ByteBuffer buffer) {
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        return new ChannelByteInput(channel, buffer);
+    }
+
+    /**
+     * Returns a new byte input that reads bytes from the specified readable byte channel through a buffer borrowed from
+     * specified pool. {@link ChannelByteInput#release() Release} the input, once no longer used, to return the buffer
+     * to the pool.
+     *
+     * @param channel the readable byte channel from which bytes are read; must not be {@code null}.
+     * @param pool    the pool from which the buffer is borrowed; must not be {@code null}.
+     * @return a new byte input reading from {@code channel}; its {@link ByteInput#read() read()} method throws an
+     *         {@link EOFException} when {@code channel} reaches its end.
+     * @throws NullPointerException if {@code channel} or {@code pool} is {@code null}.
+     * @see BufferByteOutput#from(java.nio.channels.WritableByteChannel, ByteBufferPool)
+     */
+    public static ChannelByteInput from(final ReadableByteChannel channel, final ByteBufferPool pool) {
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (pool == null) {
+            throw new NullPointerException("pool is null");
+        }
+        return new ChannelByteInput(channel, pool.borrow(), pool);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -90,4 +160,84 @@ public class BufferByteInput
     public int read() throws IOException {
         return source.get() & 0xFF;
     }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code BufferByteInput} class invokes
+     * {@link ByteBuffer#get(byte[], int, int)} method on the {@link #source source} buffer.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws java.nio.BufferUnderflowException if the {@link #source source} buffer has fewer than {@code len} bytes
+     *                                           remaining; no byte is transferred in that case.
+     * @throws IOException                       {@inheritDoc}
+     * @see ByteBuffer#get(byte[], int, int)
+     * @see BufferByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        source.get(dst, off, len);
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(ByteBuffer)} method of {@code BufferByteInput} class transfers bytes from the
+     * {@link #source source} buffer with {@link ByteBuffer#put(ByteBuffer)} method.
+     *
+     * @param dst {@inheritDoc}
+     * @throws java.nio.BufferUnderflowException if the {@link #source source} buffer has fewer bytes remaining than
+     *                                           {@code dst}; no byte is transferred in that case.
+     * @throws IOException                       {@inheritDoc}
+     * @see BufferByteOutput#write(ByteBuffer)
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        if (dst.remaining() > source.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final int limit = source.limit();
+        source.limit(source.position() + dst.remaining());
+        try {
+            dst.put(source);
+        } finally {
+            source.limit(limit);
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code BufferByteInput} class advances the
+     * {@link #source source} buffer's {@link ByteBuffer#position() position} by {@code n}.
+     *
+     * @param n {@inheritDoc}
+     * @throws java.nio.BufferUnderflowException if the {@link #source source} buffer has fewer than {@code n} bytes
+     *                                           remaining; the position is not changed in that case.
+     * @throws IOException                       {@inheritDoc}
+     */
+    @Override
+    public void skip(final long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        if (n > source.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        source.position(source.position() + (int) n);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this input to specified buffer, so that an instance can be reused for another source without
+     * allocating a new one.
+     *
+     * @param source the byte buffer from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public void retarget(final ByteBuffer source) {
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+    }
 }
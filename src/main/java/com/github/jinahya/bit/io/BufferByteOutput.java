@@ -33,7 +33,8 @@ import java.nio.channels.WritableByteChannel;
  * a recoverable full-target condition.</p>
  *
  * <p>For a channel-backed, write-through output that drains every byte to a channel as it is written, use the
- * {@link #from(WritableByteChannel)} factory method.</p>
+ * {@link #from(WritableByteChannel)} factory method; for a channel-backed output that drains a whole buffer at a time,
+ * use the {@link #from(WritableByteChannel, int)} factory method.</p>
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see BufferByteInput
@@ -47,7 +48,8 @@ public class BufferByteOutput
      * Returns a new byte output that writes bytes to the specified writable byte channel, draining each byte to the
      * channel as it is written so nothing is left buffered. It issues one
      * {@link WritableByteChannel#write(ByteBuffer) channel write} per byte; this is simple but <strong>not</strong>
-     * efficient for high-throughput writing; when throughput matters, wrap the target in a buffering layer instead.
+     * efficient for high-throughput writing; when throughput matters, use {@link #from(WritableByteChannel, int)}
+     * instead.
      *
      * @param channel the writable byte channel to which bytes are written; must not be {@code null}.
      * @return a new byte output writing to {@code channel}.
@@ -61,6 +63,71 @@ public class BufferByteOutput
         return new ChannelByteOutput(channel, ByteBuffer.allocate(1));
     }
 
+    /**
+     * Returns a new byte output that writes bytes to the specified writable byte channel through a new heap buffer of
+     * specified capacity, issuing one {@link WritableByteChannel#write(ByteBuffer) channel write} per buffer rather
+     * than per byte. {@link ChannelByteOutput#flush() Flush} the output after the last write.
+     *
+     * @param channel    the writable byte channel to which bytes are written; must not be {@code null}.
+     * @param bufferSize the capacity of the buffer; must be positive; e.g.
+     *                   {@value ChannelByteInput#DEFAULT_BUFFER_SIZE}.
+     * @return a new byte output writing to {@code channel}.
+     * @throws NullPointerException     if {@code channel} is {@code null}.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     * @see BufferByteInput#from(java.nio.channels.ReadableByteChannel, int)
+     */
+    public static ChannelByteOutput from(final WritableByteChannel channel, final int bufferSize) {
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + bufferSize + ") <= 0");
+        }
+        return new ChannelByteOutput(channel, ByteBuffer.allocate(bufferSize));
+    }
+
+    /**
+     * Returns a new byte output that writes bytes to the specified writable byte channel through specified buffer,
+     * which may be {@link ByteBuffer#allocateDirect(int) direct}. The buffer is owned by the output until it is no
+     * longer used; its content, position and limit are overwritten. {@link ChannelByteOutput#flush() Flush} the output
+     * after the last write.
+     *
+     * @param channel the writable byte channel to which bytes are written; must not be {@code null}.
+     * @param buffer  the buffer through which bytes are written; must not be {@code null} and must have a non-zero
+     *                {@link ByteBuffer#capacity() capacity}.
+     * @return a new byte output writing to {@code channel}.
+     * @throws NullPointerException     if {@code channel} or {@code buffer} is {@code null}.
+     * @throws IllegalArgumentException if {@code buffer}'s capacity is zero.
+     * @see BufferByteInput#from(java.nio.channels.ReadableByteChannel, ByteBuffer)
+     */
+    public static ChannelByteOutput from(final WritableByteChannel channel, final ByteBuffer buffer) {
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        return new ChannelByteOutput(channel, buffer);
+    }
+
+    /**
+     * Returns a new byte output that writes bytes to the specified writable byte channel through a buffer borrowed
+     * from specified pool. {@link ChannelByteOutput#release() Release} the output after the last write to flush it
+     * and to return the buffer to the pool.
+     *
+     * @param channel the writable byte channel to which bytes are written; must not be {@code null}.
+     * @param pool    the pool from which the buffer is borrowed; must not be {@code null}.
+     * @return a new byte output writing to {@code channel}.
+     * @throws NullPointerException if {@code channel} or {@code pool} is {@code null}.
+     * @see BufferByteInput#from(java.nio.channels.ReadableByteChannel, ByteBufferPool)
+     */
+    public static ChannelByteOutput from(final WritableByteChannel channel, final ByteBufferPool pool) {
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+        if (pool == null) {
+            throw new NullPointerException("pool is null");
+        }
+        return new ChannelByteOutput(channel, pool.borrow(), pool);
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -90,4 +157,58 @@ public class BufferByteOutput
     public void write(final int value) throws IOException {
         target.put((byte) value);
     }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code BufferByteOutput} class invokes
+     * {@link ByteBuffer#put(byte[], int, int)} method on the {@link #target target} buffer.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws java.nio.BufferOverflowException if the {@link #target target} buffer has fewer than {@code len} bytes
+     *                                          remaining; no byte is transferred in that case.
+     * @throws IOException                      {@inheritDoc}
+     * @see ByteBuffer#put(byte[], int, int)
+     * @see BufferByteInput#read(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.put(src, off, len);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(ByteBuffer)} method of {@code BufferByteOutput} class invokes
+     * {@link ByteBuffer#put(ByteBuffer)} method on the {@link #target target} buffer.
+     *
+     * @param src {@inheritDoc}
+     * @throws java.nio.BufferOverflowException if the {@link #target target} buffer has fewer bytes remaining than
+     *                                          {@code src}; no byte is transferred in that case.
+     * @throws IOException                      {@inheritDoc}
+     * @see ByteBuffer#put(ByteBuffer)
+     * @see BufferByteInput#read(ByteBuffer)
+     */
+    @Override
+    public void write(final ByteBuffer src) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        target.put(src);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this output to specified buffer, so that an instance can be reused for another target without
+     * allocating a new one.
+     *
+     * @param target the byte buffer to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public void retarget(final ByteBuffer target) {
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        this.target = target;
+    }
 }
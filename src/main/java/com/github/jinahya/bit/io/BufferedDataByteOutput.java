@@ -0,0 +1,179 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A byte output writes bytes to an instance of {@link DataOutput} through an internal, unsynchronized buffer. The
+ * buffer is drained with a single {@link DataOutput#write(byte[], int, int)} whenever it fills, so that, unlike
+ * {@link DataByteOutput}, writing an octet doesn't cost a call on the data output.
+ *
+ * <p>{@link DataByteInput} needs no such counterpart; a data input can't tell how many bytes are left, so it can't be
+ * read ahead safely, and {@link DataByteInput#read(byte[], int, int)} already reads in bulk with
+ * {@link java.io.DataInput#readFully(byte[], int, int)}.</p>
+ *
+ * <p>Bytes stay in the buffer until it fills, or until this output is {@link #flush() flushed} or
+ * {@link #close() closed}.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see DataByteInput
+ * @see DataByteOutput
+ */
+public class BufferedDataByteOutput
+        extends AbstractByteOutput<DataOutput> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default size of the internal buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing bytes to specified data output through a buffer of {@value #DEFAULT_BUFFER_SIZE}
+     * bytes.
+     *
+     * @param target the data output to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public BufferedDataByteOutput(final DataOutput target) {
+        this(target, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance writing bytes to specified data output through a buffer of specified size.
+     *
+     * @param target     the data output to which bytes are written; must not be {@code null}.
+     * @param bufferSize the size of the buffer; must be positive.
+     * @throws NullPointerException     if {@code target} is {@code null}.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     */
+    public BufferedDataByteOutput(final DataOutput target, final int bufferSize) {
+        super(target);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + bufferSize + ") <= 0");
+        }
+        buffer = new byte[bufferSize];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "buffer.length=" + buffer.length
+               + ",count=" + count
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code BufferedDataByteOutput} class stores specified value in
+     * the buffer and, if the buffer is full, drains it to the {@link #target target}.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        buffer[count++] = (byte) value;
+        if (count == buffer.length) {
+            drain();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code BufferedDataByteOutput} class writes runs of
+     * at least the buffer's size straight to the {@link #target target}, after draining the buffer, and otherwise
+     * stores bytes in the buffer, draining it whenever it fills.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (len >= buffer.length) {
+            drain();
+            target.write(src, off, len);
+            return;
+        }
+        if (len > buffer.length - count) {
+            drain();
+        }
+        System.arraycopy(src, off, buffer, count, len);
+        count += len;
+        if (count == buffer.length) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes all bytes stored in the buffer to the {@link #target target}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void drain() throws IOException {
+        if (count > 0) {
+            target.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------- lifecycle
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code BufferedDataByteOutput} class writes all bytes stored in the
+     * buffer to the {@link #target target} in bulk, and flushes the data output if it is
+     * {@link java.io.Flushable flushable}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        super.flush();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer holding bytes not yet written to the {@link #target target}.
+     */
+    private final byte[] buffer;
+
+    /**
+     * The number of bytes stored in the {@link #buffer}.
+     */
+    private int count;
+}
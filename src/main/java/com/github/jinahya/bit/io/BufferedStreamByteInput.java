@@ -0,0 +1,210 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A byte input reads bytes from an instance of {@link InputStream} through an internal, unsynchronized buffer. The
+ * buffer is refilled with a single {@link InputStream#read(byte[], int, int)} whenever it drains, so that, unlike
+ * {@link StreamByteInput}, reading an octet doesn't cost a call on the stream.
+ *
+ * <p>An instance reads ahead of the bytes it returns; the stream must not be read by others while, or after, the
+ * instance is in use.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferedStreamByteOutput
+ * @see StreamByteInput
+ */
+public class BufferedStreamByteInput
+        extends AbstractByteInput<InputStream> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default size of the internal buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading bytes from specified input stream through a buffer of
+     * {@value #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param source the input stream from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public BufferedStreamByteInput(final InputStream source) {
+        this(source, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance reading bytes from specified input stream through a buffer of specified size.
+     *
+     * @param source     the input stream from which bytes are read; must not be {@code null}.
+     * @param bufferSize the size of the buffer; must be positive.
+     * @throws NullPointerException     if {@code source} is {@code null}.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     */
+    public BufferedStreamByteInput(final InputStream source, final int bufferSize) {
+        super(source);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + bufferSize + ") <= 0");
+        }
+        buffer = new byte[bufferSize];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "buffer.length=" + buffer.length
+               + ",index=" + index
+               + ",limit=" + limit
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code BufferedStreamByteInput} class, if required, refills the buffer
+     * from the {@link #source source} stream and returns the next byte in the buffer as an unsigned 8-bit value.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the {@link #source source} stream has reached its end.
+     * @throws IOException  {@inheritDoc}
+     * @see BufferedStreamByteOutput#write(int)
+     */
+    @Override
+    public int read() throws IOException {
+        if (index == limit) {
+            fill();
+        }
+        return buffer[index++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code BufferedStreamByteInput} class copies bytes
+     * from the buffer, reads runs of at least the buffer's size straight from the {@link #source source} stream, and
+     * refills the buffer for the rest.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the {@link #source source} stream reaches its end before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     * @see BufferedStreamByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        while (len > 0) {
+            if (index == limit) {
+                if (len >= buffer.length) {
+                    final int r = source.read(dst, off, len);
+                    if (r == -1) {
+                        throw new EOFException("end of stream reached");
+                    }
+                    off += r;
+                    len -= r;
+                    continue;
+                }
+                fill();
+            }
+            final int n = Math.min(len, limit - index);
+            System.arraycopy(buffer, index, dst, off, n);
+            index += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code BufferedStreamByteInput} class discards buffered bytes
+     * first and skips the rest on the {@link #source source} stream, as {@link StreamByteInput#skip(long)} does.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if the {@link #source source} stream reaches its end before {@code n} bytes are skipped.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void skip(long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        final int buffered = (int) Math.min(n, limit - index);
+        index += buffered;
+        n -= buffered;
+        while (n > 0L) {
+            final long skipped = source.skip(n);
+            if (skipped > 0L) {
+                n -= skipped;
+                continue;
+            }
+            if (source.read() == -1) {
+                throw new EOFException("end of stream reached");
+            }
+            n--;
+        }
+    }
+
+    /**
+     * Refills the buffer, which must be drained, from the {@link #source source} stream with at least one byte.
+     *
+     * @throws EOFException if the {@link #source source} stream has reached its end.
+     * @throws IOException  if an I/O error occurs.
+     */
+    private void fill() throws IOException {
+        index = 0;
+        limit = 0;
+        while (limit == 0) {
+            final int r = source.read(buffer, 0, buffer.length);
+            if (r == -1) {
+                throw new EOFException("end of stream reached");
+            }
+            limit = r;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffer holding bytes read ahead from the {@link #source source} stream.
+     */
+    private final byte[] buffer;
+
+    /**
+     * The index, in the {@link #buffer}, of the next byte to read.
+     */
+    private int index;
+
+    /**
+     * The index, exclusive, in the {@link #buffer}, up to which bytes are read ahead.
+     */
+    private int limit;
+}
@@ -0,0 +1,182 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+
+/**
+ * A small, bounded pool of equally sized byte buffers which channel adapters borrow for their buffering.
+ *
+ * <p>The {@link #borrow()} method takes a released buffer, if any, or allocates a new one otherwise. The
+ * {@link #release(ByteBuffer)} method returns a buffer to the pool, which keeps up to its {@link #getCapacity()
+ * capacity} of buffers and drops the rest. Large, possibly {@link ByteBuffer#allocateDirect(int) direct}, buffers are
+ * thus shared by many short-lived channel adapters rather than allocated for each of them.</p>
+ *
+ * <p>Unlike {@link BitIoPool}, this class is thread-safe, so that one pool can be shared by adapters of many threads.
+ * A buffer taken from it must not be used after it has been released.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferByteInput#from(java.nio.channels.ReadableByteChannel, ByteBufferPool)
+ * @see BufferByteOutput#from(java.nio.channels.WritableByteChannel, ByteBufferPool)
+ */
+public final class ByteBufferPool {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new pool which keeps up to specified number of heap buffers of
+     * {@value ChannelByteInput#DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param capacity the maximum number of released buffers kept; must be positive.
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    public ByteBufferPool(final int capacity) {
+        this(capacity, ChannelByteInput.DEFAULT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Creates a new pool which keeps up to specified number of buffers of specified size.
+     *
+     * @param capacity   the maximum number of released buffers kept; must be positive.
+     * @param bufferSize the capacity of each buffer; must be positive.
+     * @param direct     {@code true} for {@link ByteBuffer#allocateDirect(int) direct} buffers; {@code false} for heap
+     *                   buffers.
+     * @throws IllegalArgumentException if {@code capacity} or {@code bufferSize} is not positive.
+     */
+    public ByteBufferPool(final int capacity, final int bufferSize, final boolean direct) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") <= 0");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + bufferSize + ") <= 0");
+        }
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        buffers = new ByteBuffer[capacity];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "capacity=" + buffers.length
+               + ",bufferSize=" + bufferSize
+               + ",direct=" + direct
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a {@link ByteBuffer#clear() cleared} buffer of {@link #getBufferSize() the buffer size}; a released one,
+     * if any, or a newly allocated one otherwise.
+     *
+     * @return a cleared buffer.
+     * @see #release(ByteBuffer)
+     */
+    public ByteBuffer borrow() {
+        synchronized (buffers) {
+            if (size > 0) {
+                final ByteBuffer buffer = buffers[--size];
+                buffers[size] = null;
+                buffer.clear();
+                return buffer;
+            }
+        }
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Returns specified buffer, borrowed from this pool, back to this pool. The buffer is dropped when the pool already
+     * keeps its {@link #getCapacity() capacity} of buffers.
+     *
+     * @param buffer the buffer to release; must not be {@code null}.
+     * @throws NullPointerException     if {@code buffer} is {@code null}.
+     * @throws IllegalArgumentException if {@code buffer}'s capacity is not {@link #getBufferSize() the buffer size} or
+     *                                  {@code buffer} is read-only.
+     */
+    public void release(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        if (buffer.capacity() != bufferSize) {
+            throw new IllegalArgumentException(
+                    "buffer.capacity(" + buffer.capacity() + ") != bufferSize(" + bufferSize + ")");
+        }
+        if (buffer.isReadOnly()) {
+            throw new IllegalArgumentException("buffer is read-only");
+        }
+        synchronized (buffers) {
+            if (size < buffers.length) {
+                buffers[size++] = buffer;
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the maximum number of released buffers kept.
+     *
+     * @return the maximum number of released buffers kept.
+     */
+    public int getCapacity() {
+        return buffers.length;
+    }
+
+    /**
+     * Returns the capacity of each buffer.
+     *
+     * @return the capacity of each buffer.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Tells whether this pool allocates {@link ByteBuffer#allocateDirect(int) direct} buffers.
+     *
+     * @return {@code true} if this pool allocates direct buffers; {@code false} otherwise.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private final int bufferSize;
+
+    private final boolean direct;
+
+    /**
+     * The released buffers; also the lock guarding them and the {@link #size}.
+     */
+    private final ByteBuffer[] buffers;
+
+    private int size;
+}
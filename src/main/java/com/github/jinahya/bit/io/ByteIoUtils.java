@@ -20,8 +20,144 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Internal utilities shared by the byte input/output layer.
+ */
 final class ByteIoUtils {
 
+    /**
+     * The maximum size of a scratch array into which bytes are read and discarded while skipping.
+     */
+    static final int DISCARD_BUFFER_SIZE = 8192;
+
+    /**
+     * Checks that specified range is valid for specified array.
+     *
+     * @param array  the array; must not be {@code null}.
+     * @param offset the offset of the range; must not be negative.
+     * @param length the length of the range; must not be negative and must not exceed
+     *               {@code array.length - offset}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is not valid.
+     */
+    static void requireValidRange(final byte[] array, final int offset, final int length) {
+        if (array == null) {
+            throw new NullPointerException("array is null");
+        }
+        if (offset < 0) {
+            throw new IndexOutOfBoundsException("offset(" + offset + ") < 0");
+        }
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("length(" + length + ") < 0");
+        }
+        if (length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "length(" + length + ") > array.length(" + array.length + ") - offset(" + offset + ")");
+        }
+    }
+
+    /**
+     * Reads bytes into specified range of specified array, one at a time, using specified byte input.
+     *
+     * @param input  the byte input from which bytes are read.
+     * @param array  the array into which bytes are read.
+     * @param offset the offset in {@code array}.
+     * @param length the number of bytes to read.
+     * @throws IOException if an I/O error occurs, or if {@code input} returns a value out of the range of an octet.
+     * @see ByteInput#read()
+     */
+    static void read(final ByteInput input, final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            final int octet = input.read();
+            if (octet < 0 || octet > 255) {
+                throw new IOException("read() returned an out-of-range value: " + octet
+                                      + "; must be between 0 and 255, both inclusive");
+            }
+            array[i] = (byte) octet;
+        }
+    }
+
+    /**
+     * Writes bytes in specified range of specified array, one at a time, using specified byte output.
+     *
+     * @param output the byte output to which bytes are written.
+     * @param array  the array whose bytes are written.
+     * @param offset the offset in {@code array}.
+     * @param length the number of bytes to write.
+     * @throws IOException if an I/O error occurs.
+     * @see ByteOutput#write(int)
+     */
+    static void write(final ByteOutput output, final byte[] array, final int offset, final int length)
+            throws IOException {
+        for (int i = offset, j = offset + length; i < j; i++) {
+            output.write(array[i]);
+        }
+    }
+
+    /**
+     * Checks that specified number of bytes to skip is not negative.
+     *
+     * @param n the number of bytes to check.
+     * @return given {@code n}.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    static long requireValidSkip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n(" + n + ") < 0");
+        }
+        return n;
+    }
+
+    /**
+     * Allocates a ring of heap buffers of specified count and size.
+     *
+     * @param count the number of buffers; must be positive.
+     * @param size  the capacity of each buffer; must be positive.
+     * @return an array of new buffers.
+     * @throws IllegalArgumentException if {@code count} or {@code size} is not positive.
+     */
+    static ByteBuffer[] allocateBuffers(final int count, final int size) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("bufferCount(" + count + ") <= 0");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("bufferSize(" + size + ") <= 0");
+        }
+        final ByteBuffer[] buffers = new ByteBuffer[count];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocate(size);
+        }
+        return buffers;
+    }
+
+    /**
+     * Checks that specified array of buffers is not empty and holds no {@code null} nor zero-capacity buffer.
+     *
+     * @param buffers the array of buffers to check.
+     * @throws NullPointerException     if {@code buffers}, or any of the buffers, is {@code null}.
+     * @throws IllegalArgumentException if {@code buffers} is empty, or any of the buffers has zero capacity.
+     */
+    static void requireValidBuffers(final ByteBuffer[] buffers) {
+        if (buffers == null) {
+            throw new NullPointerException("buffers is null");
+        }
+        if (buffers.length == 0) {
+            throw new IllegalArgumentException("buffers is empty");
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] == null) {
+                throw new NullPointerException("buffers[" + i + "] is null");
+            }
+            if (buffers[i].capacity() == 0) {
+                throw new IllegalArgumentException("buffers[" + i + "].capacity is zero");
+            }
+        }
+    }
+
     private ByteIoUtils() {
         throw new AssertionError("instantiation is not allowed");
     }
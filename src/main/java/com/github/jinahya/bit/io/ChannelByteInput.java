@@ -23,20 +23,36 @@ package com.github.jinahya.bit.io;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 
 /**
  * A byte input which reads bytes from a readable byte channel. Bytes are read through an internal
  * {@link java.nio.ByteBuffer} which is recharged from the channel whenever it drains.
  *
+ * <p>Instances are created by the {@code from} factory methods of {@link BufferByteInput}. Since the buffer reads
+ * ahead, bytes may be taken from the channel before they are read from this input.</p>
+ *
+ * <p>Reads wait until the channel yields bytes; for a non-blocking channel, decode with a
+ * {@link NonBlockingBitInput} instead.</p>
+ *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferByteInput#from(ReadableByteChannel, int)
  * @see ChannelByteOutput
+ * @see NonBlockingBitInput
  */
-class ChannelByteInput
+public class ChannelByteInput
         extends AbstractByteInput<ReadableByteChannel> {
 
     // -----------------------------------------------------------------------------------------------------------------
 
+    /**
+     * The default capacity of the buffer, in bytes, which charges from a channel with a single read.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
     /**
      * Creates a new instance with specified channel and buffer. The {@code buffer}'s position and limit are reset so
      * that it starts <em>drained</em> (no {@link ByteBuffer#hasRemaining() remaining}); only its
@@ -49,6 +65,21 @@ class ChannelByteInput
      * @throws IllegalArgumentException if {@code buffer}'s {@link ByteBuffer#capacity() capacity} is zero.
      */
     ChannelByteInput(final ReadableByteChannel source, final ByteBuffer buffer) {
+        this(source, buffer, null);
+    }
+
+    /**
+     * Creates a new instance with specified channel and buffer borrowed from specified pool.
+     *
+     * @param source the channel from which bytes are read; must not be {@code null}.
+     * @param buffer a byte buffer for reading bytes from the {@code channel}; must not be {@code null} and must have a
+     *               non-zero {@link ByteBuffer#capacity() capacity}.
+     * @param pool   the pool to which the {@code buffer} is {@link #release() released}; {@code null} if the
+     *               {@code buffer} is not borrowed.
+     * @throws NullPointerException     if {@code source} or {@code buffer} is {@code null}.
+     * @throws IllegalArgumentException if {@code buffer}'s {@link ByteBuffer#capacity() capacity} is zero.
+     */
+    ChannelByteInput(final ReadableByteChannel source, final ByteBuffer buffer, final ByteBufferPool pool) {
         super(source);
         if (buffer == null) {
             throw new NullPointerException("buffer is null");
@@ -58,6 +89,7 @@ class ChannelByteInput
         }
         buffer.position(buffer.limit()); // start drained so the first read() charges from the channel
         this.buffered = new BufferByteInput(buffer);
+        this.pool = pool;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -82,14 +114,121 @@ class ChannelByteInput
     @Override
     public int read() throws IOException {
         if (!buffered.source.hasRemaining()) {
-            for (buffered.source.clear(); buffered.source.position() == 0; ) {
-                if (source.read(buffered.source) == -1) {
-                    throw new EOFException("end of channel reached");
+            charge();
+        }
+        return buffered.read();
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code ChannelByteInput} class invokes
+     * {@link #read(ByteBuffer)} method with a buffer {@link ByteBuffer#wrap(byte[], int, int) wrapping} specified
+     * range.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see ChannelByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        read(ByteBuffer.wrap(dst, off, len));
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(ByteBuffer)} method of {@code ChannelByteInput} class transfers bytes from the
+     * {@link #buffered}'s buffer, charging it from the {@link #source channel} whenever it drains, and reads runs of at
+     * least the buffer's {@link ByteBuffer#capacity() capacity} straight from the channel into {@code dst}.
+     *
+     * @param dst {@inheritDoc}
+     * @throws EOFException if the {@link #source channel} reaches its end before {@code dst} is filled.
+     * @throws IOException  {@inheritDoc}
+     * @see ChannelByteOutput#write(ByteBuffer)
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        final ByteBuffer buffer = buffered.source;
+        while (dst.hasRemaining()) {
+            if (!buffer.hasRemaining()) {
+                if (dst.remaining() >= buffer.capacity()) {
+                    if (source.read(dst) == -1) {
+                        throw new EOFException("end of channel reached");
+                    }
+                    continue;
                 }
+                charge();
+            }
+            final int limit = buffer.limit();
+            buffer.limit(buffer.position() + Math.min(buffer.remaining(), dst.remaining()));
+            try {
+                dst.put(buffer);
+            } finally {
+                buffer.limit(limit);
             }
-            buffered.source.flip();
         }
-        return buffered.read();
+    }
+
+    /**
+     * Charges the drained {@link #buffered}'s buffer from the {@link #source channel} until at least one byte is read.
+     *
+     * @throws EOFException if the {@link #source channel} reaches its end.
+     * @throws IOException  if an I/O error occurs.
+     */
+    private void charge() throws IOException {
+        for (buffered.source.clear(); buffered.source.position() == 0; ) {
+            if (source.read(buffered.source) == -1) {
+                throw new EOFException("end of channel reached");
+            }
+        }
+        buffered.source.flip();
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code ChannelByteInput} class skips the bytes left in the
+     * {@link #buffered}'s buffer first. The rest is skipped by advancing the position of the {@link #source channel}
+     * when it is a {@link FileChannel}, or by reading and discarding bytes otherwise. Skipping a {@link FileChannel}
+     * past its end is detected by a subsequent read.
+     *
+     * @param n {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(final long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        final ByteBuffer buffer = buffered.source;
+        final int held = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + held);
+        final long rest = n - held;
+        if (rest == 0L) {
+            return;
+        }
+        if (source instanceof FileChannel) {
+            final FileChannel channel = (FileChannel) source;
+            channel.position(channel.position() + rest);
+            return;
+        }
+        super.skip(rest);
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- buffer
+
+    /**
+     * Returns the buffer, if borrowed from a pool, to the pool. Bytes charged into the buffer but not yet read are
+     * lost, and this input must not be used afterwards. The channel is not closed. This method does nothing when the
+     * buffer is not borrowed or already released.
+     *
+     * @see BufferByteInput#from(ReadableByteChannel, ByteBufferPool)
+     */
+    public void release() {
+        if (pool != null) {
+            final ByteBufferPool borrowed = pool;
+            pool = null;
+            borrowed.release(buffered.source);
+        }
     }
 
     // -------------------------------------------------------------------------------------------------------- buffered
@@ -98,4 +237,9 @@ class ChannelByteInput
      * The buffer-backed byte input read from after its buffer is charged from the {@link #source channel}.
      */
     private final BufferByteInput buffered;
+
+    /**
+     * The pool from which the buffer is borrowed; {@code null} if not borrowed or already released.
+     */
+    private ByteBufferPool pool;
 }
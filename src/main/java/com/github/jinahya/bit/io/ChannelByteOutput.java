@@ -25,19 +25,17 @@ import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
 
 /**
- * A byte output which writes bytes to a writable byte channel.
- * <p>
- * Note that a flushing might be required when the {@code buffer}'s capacity is greater than {@code 1}.
- * <blockquote><pre>{@code
- * for (buffer.flip(); buffer.hasRemaining(); ) {
- *     target.write(buffer);
- * }
- * }</pre></blockquote>
+ * A byte output which writes bytes to a writable byte channel. Bytes are stored in an internal
+ * {@link java.nio.ByteBuffer} which is drained to the channel whenever it fills.
+ *
+ * <p>Instances are created by the {@code from} factory methods of {@link BufferByteOutput}. When the buffer's capacity
+ * is greater than {@code 1}, bytes stay in the buffer until it fills; {@link #flush()} them after the last write.</p>
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferByteOutput#from(WritableByteChannel, int)
  * @see ChannelByteInput
  */
-class ChannelByteOutput
+public class ChannelByteOutput
         extends AbstractByteOutput<WritableByteChannel> {
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -54,6 +52,21 @@ class ChannelByteOutput
      * @throws IllegalArgumentException if {@code buffer}'s {@link ByteBuffer#capacity() capacity} is zero.
      */
     ChannelByteOutput(final WritableByteChannel target, final ByteBuffer buffer) {
+        this(target, buffer, null);
+    }
+
+    /**
+     * Creates a new instance with specified channel and buffer borrowed from specified pool.
+     *
+     * @param target the channel to which bytes are written; must not be {@code null}.
+     * @param buffer the buffer in which bytes are stored before written to the channel; must not be {@code null} and
+     *               must have a non-zero {@link ByteBuffer#capacity() capacity}.
+     * @param pool   the pool to which the {@code buffer} is {@link #release() released}; {@code null} if the
+     *               {@code buffer} is not borrowed.
+     * @throws NullPointerException     if {@code target} or {@code buffer} is {@code null}.
+     * @throws IllegalArgumentException if {@code buffer}'s {@link ByteBuffer#capacity() capacity} is zero.
+     */
+    ChannelByteOutput(final WritableByteChannel target, final ByteBuffer buffer, final ByteBufferPool pool) {
         super(target);
         if (buffer == null) {
             throw new NullPointerException("buffer is null");
@@ -63,6 +76,7 @@ class ChannelByteOutput
         }
         buffer.clear(); // start with full remaining space
         this.buffered = new BufferByteOutput(buffer);
+        this.pool = pool;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -88,17 +102,130 @@ class ChannelByteOutput
     public void write(final int value) throws IOException {
         buffered.write(value);
         if (!buffered.target.hasRemaining()) {
-            for (buffered.target.flip(); buffered.target.position() == 0; ) {
-                target.write(buffered.target);
+            drain();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code ChannelByteOutput} class invokes
+     * {@link #write(ByteBuffer)} method with a buffer {@link ByteBuffer#wrap(byte[], int, int) wrapping} specified
+     * range.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see ChannelByteInput#read(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        write(ByteBuffer.wrap(src, off, len));
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(ByteBuffer)} method of {@code ChannelByteOutput} class writes runs of at least
+     * the buffer's {@link ByteBuffer#capacity() capacity} straight to the {@link #target channel} while nothing is
+     * buffered, and otherwise stores bytes in the {@link #buffered}'s buffer, draining it whenever it fills, as
+     * {@link #write(int)} does.
+     *
+     * @param src {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see ChannelByteInput#read(ByteBuffer)
+     */
+    @Override
+    public void write(final ByteBuffer src) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        final ByteBuffer buffer = buffered.target;
+        while (src.hasRemaining()) {
+            if (buffer.position() == 0 && src.remaining() >= buffer.capacity()) {
+                target.write(src);
+                continue;
             }
-            buffered.target.compact();
+            final int limit = src.limit();
+            src.limit(src.position() + Math.min(buffer.remaining(), src.remaining()));
+            try {
+                buffer.put(src);
+            } finally {
+                src.limit(limit);
+            }
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Drains the {@link #buffered}'s buffer to the {@link #target channel} until at least one byte is written, and
+     * compacts the buffer.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void drain() throws IOException {
+        for (buffered.target.flip(); buffered.target.position() == 0; ) {
+            target.write(buffered.target);
+        }
+        buffered.target.compact();
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- buffer
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code ChannelByteOutput} class writes all bytes stored in the buffer
+     * to the {@link #target channel} in bulk; a channel has nothing more to flush.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        final ByteBuffer buffer = buffered.target;
+        for (buffer.flip(); buffer.hasRemaining(); ) {
+            target.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * {@link #flush() Flushes} this output and returns the buffer, if borrowed from a pool, to the pool. This output
+     * must not be used afterwards. The channel is not closed. The buffer is not released when flushing fails; and this
+     * method does nothing when the buffer is not borrowed or already released.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see BufferByteOutput#from(WritableByteChannel, ByteBufferPool)
+     */
+    public void release() throws IOException {
+        if (pool != null) {
+            flush();
+            final ByteBufferPool borrowed = pool;
+            pool = null;
+            borrowed.release(buffered.target);
         }
     }
 
+    /**
+     * {@inheritDoc} The {@code close()} method of {@code ChannelByteOutput} class {@link #flush() flushes} this
+     * output, {@link #release() releases} the buffer, if borrowed, and closes the {@link #target channel}.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        release();
+        target.close();
+    }
+
     // -------------------------------------------------------------------------------------------------------- buffered
 
     /**
      * The buffer-backed byte output written to before its buffer is drained to the {@link #target channel}.
      */
     private final BufferByteOutput buffered;
+
+    /**
+     * The pool from which the buffer is borrowed; {@code null} if not borrowed or already released.
+     */
+    private ByteBufferPool pool;
 }
@@ -0,0 +1,251 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A bit output writes bits to memory which grows, as required, by a chain of fixed-size chunks. Growth allocates a new
+ * chunk and never copies the bytes already written.
+ *
+ * <p>The bytes written can be exported without copying, {@link #toBuffers() as buffers} for a gathering write or
+ * {@link #toBitInput() as a bit input} for reading back, or copied {@link #toByteArray() into a single array}. Only
+ * complete octets are exported; {@link #align(int) align} first to include a partially-written one. Exported views
+ * share the chunks, so they must not be used after this output is {@link #discard() discarded}.</p>
+ *
+ * <blockquote><pre>{@code
+ * final ChunkedBitOutput output = new ChunkedBitOutput();
+ * output.writeUnsignedInt(11, value);
+ * ...
+ * output.align(1);
+ * channel.write(output.toBuffers());
+ * }</pre></blockquote>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitOutput
+ * @see CompositeByteInput
+ */
+public final class ChunkedBitOutput
+        extends AbstractBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default size of each chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance with chunks of {@value #DEFAULT_CHUNK_SIZE} bytes.
+     */
+    public ChunkedBitOutput() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new instance with chunks of specified size.
+     *
+     * @param chunkSize the size of each chunk; must be positive.
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     */
+    public ChunkedBitOutput(final int chunkSize) {
+        this(chunkSize, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, with chunks of specified size.
+     *
+     * @param chunkSize the size of each chunk; must be positive.
+     * @param bitOrder  the order in which bits are written; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     * @throws NullPointerException     if {@code bitOrder} is {@code null}.
+     */
+    public ChunkedBitOutput(final int chunkSize, final BitOrder bitOrder) {
+        super(bitOrder);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize(" + chunkSize + ") <= 0");
+        }
+        chunks = new byte[1][];
+        chunks[0] = chunk = new byte[chunkSize];
+        count = 1;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "chunkSize=" + chunk.length
+               + ",count=" + count
+               + ",index=" + index
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code ChunkedBitOutput} class, if the current chunk is full,
+     * moves to the next chunk and sets the byte at the {@code index} of the current chunk.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void write(final int value) throws IOException {
+        if (index == chunk.length) {
+            next();
+        }
+        chunk[index++] = (byte) value;
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code ChunkedBitOutput} class copies bytes into the
+     * current chunk using {@link System#arraycopy(Object, int, Object, int, int)}, moving to the next chunk
+     * whenever the current one is full.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void write(final byte[] src, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        while (len > 0) {
+            if (index == chunk.length) {
+                next();
+            }
+            final int n = Math.min(len, chunk.length - index);
+            System.arraycopy(src, off, chunk, index, n);
+            index += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Moves to the next chunk, reusing a chunk kept by {@link #discard()} or allocating a new one.
+     */
+    private void next() {
+        if (count == chunks.length || chunks[count] == null) {
+            if (count == chunks.length) {
+                final byte[][] grown = new byte[count << 1][];
+                System.arraycopy(chunks, 0, grown, 0, count);
+                chunks = grown;
+            }
+            chunks[count] = new byte[chunk.length];
+        }
+        chunk = chunks[count++];
+        index = 0;
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- export
+
+    /**
+     * Returns buffers, one for each chunk in use, {@link ByteBuffer#wrap(byte[], int, int) wrapping} the octets
+     * written so far, in order; e.g. for a {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[]) gathering
+     * write}. No byte is copied.
+     *
+     * @return an array of buffers wrapping the octets written so far.
+     */
+    public ByteBuffer[] toBuffers() {
+        final ByteBuffer[] buffers = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            buffers[i] = ByteBuffer.wrap(chunks[i], 0, i == count - 1 ? index : chunks[i].length);
+        }
+        return buffers;
+    }
+
+    /**
+     * Returns a new array of the octets written so far.
+     *
+     * @return a new array of the octets written so far.
+     * @throws IllegalStateException if more than {@value java.lang.Integer#MAX_VALUE} octets have been written.
+     */
+    public byte[] toByteArray() {
+        final long size = getCount();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("size(" + size + ") > " + Integer.MAX_VALUE);
+        }
+        final byte[] array = new byte[(int) size];
+        int position = 0;
+        for (int i = 0; i < count - 1; i++) {
+            System.arraycopy(chunks[i], 0, array, position, chunks[i].length);
+            position += chunks[i].length;
+        }
+        System.arraycopy(chunk, 0, array, position, index);
+        return array;
+    }
+
+    /**
+     * Returns a new bit input, in the same bit order as this output, reading the octets written so far straight from
+     * the chunks. No byte is copied.
+     *
+     * @return a new bit input reading the octets written so far.
+     */
+    public BitInput toBitInput() {
+        return new DefaultBitInput(CompositeByteInput.from(Arrays.asList(toBuffers())), getBitOrder());
+    }
+
+    // --------------------------------------------------------------------------------------------------------- discard
+
+    /**
+     * Discards all bits written and starts over, as if this output were newly created, keeping the chunks allocated so
+     * far for reuse. Views exported so far must not be used any more.
+     */
+    public void discard() {
+        chunk = chunks[0];
+        count = 1;
+        index = 0;
+        clear();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The chunks allocated so far; the first {@link #count} of them are in use.
+     */
+    private byte[][] chunks;
+
+    /**
+     * The number of chunks in use.
+     */
+    private int count;
+
+    /**
+     * The current chunk; the last one in use.
+     */
+    private byte[] chunk;
+
+    /**
+     * The index in the {@link #chunk current chunk} to write.
+     */
+    private int index;
+}
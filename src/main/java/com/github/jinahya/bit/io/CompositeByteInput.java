@@ -0,0 +1,247 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A byte input reads bytes from a sequence of fragments, one after another, as if they were concatenated, without
+ * copying them into a single array. Bit fields read through a {@link DefaultBitInput} on top of this input may span
+ * fragment boundaries.
+ *
+ * <p>Fragments are taken from an {@link Iterator} only when the current one is drained, so the iterator may yield
+ * fragments as they arrive. Such an iterator's {@link Iterator#hasNext() hasNext()} must itself block until either a
+ * fragment or the end of the stream is available, since returning {@code false} is taken as the end of input; note
+ * that the iterator of a {@link java.util.concurrent.BlockingQueue} never waits. Each fragment is read in place, from
+ * its position up to its limit, and its position is advanced as bytes are read. Empty fragments are skipped.</p>
+ *
+ * <blockquote><pre>{@code
+ * final BitInput input = new DefaultBitInput(CompositeByteInput.from(frame.fragments()));
+ * }</pre></blockquote>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferByteInput
+ */
+public class CompositeByteInput
+        extends AbstractByteInput<Iterator<? extends ByteBuffer>> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a new byte input reading bytes from specified buffers, in order.
+     *
+     * @param fragments the buffers from which bytes are read; must not be {@code null}.
+     * @return a new byte input reading from {@code fragments}.
+     * @throws NullPointerException if {@code fragments} is {@code null}.
+     */
+    public static CompositeByteInput from(final List<? extends ByteBuffer> fragments) {
+        if (fragments == null) {
+            throw new NullPointerException("fragments is null");
+        }
+        return new CompositeByteInput(fragments.iterator());
+    }
+
+    /**
+     * Returns a new byte input reading bytes from specified arrays, in order. Each array is
+     * {@link ByteBuffer#wrap(byte[]) wrapped} when it is reached.
+     *
+     * @param fragments the arrays from which bytes are read; must not be {@code null}.
+     * @return a new byte input reading from {@code fragments}.
+     * @throws NullPointerException if {@code fragments} is {@code null}.
+     */
+    public static CompositeByteInput from(final byte[][] fragments) {
+        if (fragments == null) {
+            throw new NullPointerException("fragments is null");
+        }
+        return new CompositeByteInput(new Iterator<ByteBuffer>() {
+            @Override
+            public boolean hasNext() {
+                return index < fragments.length;
+            }
+
+            @Override
+            public ByteBuffer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ByteBuffer.wrap(fragments[index++]);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            private int index;
+        });
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading bytes from fragments taken from specified iterator.
+     *
+     * @param source the iterator from which fragments are taken; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public CompositeByteInput(final Iterator<? extends ByteBuffer> source) {
+        super(source);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "fragment=" + fragment
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code CompositeByteInput} class, if the current fragment is drained,
+     * moves to the next fragment and returns the next byte of the current fragment.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the last fragment is drained.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        ByteBuffer current = fragment;
+        if (!current.hasRemaining()) {
+            current = next();
+        }
+        return current.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code CompositeByteInput} class transfers bytes from
+     * the current fragment in bulk, moving to the next fragment whenever the current one is drained.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the last fragment is drained before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] dst, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        while (len > 0) {
+            ByteBuffer current = fragment;
+            if (!current.hasRemaining()) {
+                current = next();
+            }
+            final int n = Math.min(len, current.remaining());
+            current.get(dst, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(ByteBuffer)} method of {@code CompositeByteInput} class transfers bytes from the
+     * current fragment in bulk, moving to the next fragment whenever the current one is drained.
+     *
+     * @param dst {@inheritDoc}
+     * @throws EOFException if the last fragment is drained before {@code dst} is filled.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        while (dst.hasRemaining()) {
+            ByteBuffer current = fragment;
+            if (!current.hasRemaining()) {
+                current = next();
+            }
+            final int limit = current.limit();
+            current.limit(current.position() + Math.min(current.remaining(), dst.remaining()));
+            try {
+                dst.put(current);
+            } finally {
+                current.limit(limit);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code CompositeByteInput} class advances the positions of the
+     * fragments without reading any byte.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if the last fragment is drained before {@code n} bytes are skipped.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void skip(final long n) throws IOException {
+        for (long rest = ByteIoUtils.requireValidSkip(n); rest > 0L; ) {
+            ByteBuffer current = fragment;
+            if (!current.hasRemaining()) {
+                current = next();
+            }
+            final int skipped = (int) Math.min(rest, current.remaining());
+            current.position(current.position() + skipped);
+            rest -= skipped;
+        }
+    }
+
+    /**
+     * Moves to the next non-empty fragment.
+     *
+     * @return the new current fragment.
+     * @throws EOFException if no more fragment is available.
+     */
+    private ByteBuffer next() throws EOFException {
+        while (source.hasNext()) {
+            final ByteBuffer next = source.next();
+            if (next == null) {
+                throw new NullPointerException("fragment is null");
+            }
+            fragment = next;
+            if (next.hasRemaining()) {
+                return next;
+            }
+        }
+        throw new EOFException("end of fragments reached");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The fragment being read.
+     */
+    private ByteBuffer fragment = ByteBuffer.allocate(0);
+}
@@ -21,6 +21,7 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.DataInput;
+import java.io.EOFException;
 import java.io.IOException;
 
 /**
@@ -59,4 +60,44 @@ public class DataByteInput
     public int read() throws IOException {
         return source.readUnsignedByte();
     }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code DataByteInput} class invokes
+     * {@link DataInput#readFully(byte[], int, int)} method, on the {@link #source source}, with specified arguments.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see DataInput#readFully(byte[], int, int)
+     * @see DataByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        source.readFully(dst, off, len);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code DataByteInput} class invokes
+     * {@link DataInput#skipBytes(int)} method, on the {@link #source source}, and, whenever it skips nothing, reads a
+     * byte with {@link DataInput#readByte()}.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if the {@link #source source} reaches its end before {@code n} bytes are skipped.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void skip(long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        while (n > 0L) {
+            final int skipped = source.skipBytes((int) Math.min(n, Integer.MAX_VALUE));
+            if (skipped > 0) {
+                n -= skipped;
+                continue;
+            }
+            source.readByte();
+            n--;
+        }
+    }
 }
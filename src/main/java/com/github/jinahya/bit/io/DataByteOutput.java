@@ -59,4 +59,21 @@ public class DataByteOutput
     public void write(final int value) throws IOException {
         target.writeByte(value);
     }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code DataByteOutput} class invokes
+     * {@link DataOutput#write(byte[], int, int)} method, on the {@link #target target}, with specified arguments.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see DataOutput#write(byte[], int, int)
+     * @see DataByteInput#read(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.write(src, off, len);
+    }
 }
@@ -40,11 +40,23 @@ public class DefaultBitInput
      * @throws NullPointerException if {@code delegate} is {@code null}.
      */
     public DefaultBitInput(final ByteInput delegate) {
-        super();
+        this(delegate, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, with specified delegate.
+     *
+     * @param delegate the delegate from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code delegate} or {@code bitOrder} is {@code null}.
+     */
+    public DefaultBitInput(final ByteInput delegate, final BitOrder bitOrder) {
+        super(bitOrder);
         if (delegate == null) {
             throw new NullPointerException("delegate is null");
         }
         this.delegate = delegate;
+        bulk = delegate instanceof AbstractByteInput ? (AbstractByteInput<?>) delegate : null;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -77,10 +89,72 @@ public class DefaultBitInput
         return delegate.read();
     }
 
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code DefaultBitInput} class invokes
+     * {@link AbstractByteInput#read(byte[], int, int)} method, on the {@link #delegate delegate}, when it is an
+     * instance of {@link AbstractByteInput}; otherwise invokes the same method of the super class.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see AbstractByteInput#read(byte[], int, int)
+     * @see DefaultBitOutput#write(byte[], int, int)
+     */
+    @Override
+    protected void read(final byte[] dst, final int off, final int len) throws IOException {
+        if (bulk == null) {
+            super.read(dst, off, len);
+            return;
+        }
+        bulk.read(dst, off, len);
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code DefaultBitInput} class invokes
+     * {@link AbstractByteInput#skip(long)} method, on the {@link #delegate delegate}, when it is an instance of
+     * {@link AbstractByteInput}; otherwise invokes the same method of the super class.
+     *
+     * @param n {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see AbstractByteInput#skip(long)
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        if (bulk == null) {
+            super.skipBytes(n);
+            return;
+        }
+        bulk.skip(n);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this input to specified delegate and starts over, as if this input were newly created, so that an
+     * instance can be reused without allocating a new one; e.g. after re-targeting the delegate itself.
+     *
+     * @param delegate the delegate; must not be {@code null}.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     */
+    public void retarget(final ByteInput delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate is null");
+        }
+        this.delegate = delegate;
+        bulk = delegate instanceof AbstractByteInput ? (AbstractByteInput<?>) delegate : null;
+        clear();
+    }
+
     // -------------------------------------------------------------------------------------------------------- delegate
 
     /**
      * The delegate whose {@link ByteInput#read()} method is invoked via {@link #read()} method.
      */
-    private final ByteInput delegate;
+    private ByteInput delegate;
+
+    /**
+     * The {@link #delegate delegate} as an instance of {@link AbstractByteInput}; {@code null} if it is not.
+     */
+    private AbstractByteInput<?> bulk;
 }
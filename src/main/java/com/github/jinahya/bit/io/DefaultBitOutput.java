@@ -20,6 +20,8 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
 
 /**
@@ -40,11 +42,23 @@ public class DefaultBitOutput
      * @throws NullPointerException if {@code delegate} is {@code null}.
      */
     public DefaultBitOutput(final ByteOutput delegate) {
-        super();
+        this(delegate, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates new instance with specified delegate.
+     *
+     * @param delegate the delegate to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @throws NullPointerException if {@code delegate} or {@code bitOrder} is {@code null}.
+     */
+    public DefaultBitOutput(final ByteOutput delegate, final BitOrder bitOrder) {
+        super(bitOrder);
         if (delegate == null) {
             throw new NullPointerException("delegate is null");
         }
         this.delegate = delegate;
+        bulk = delegate instanceof AbstractByteOutput ? (AbstractByteOutput<?>) delegate : null;
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -77,10 +91,89 @@ public class DefaultBitOutput
         delegate.write(value);
     }
 
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code DefaultBitOutput} class invokes
+     * {@link AbstractByteOutput#write(byte[], int, int)} method, on the {@link #delegate delegate}, when it is an
+     * instance of {@link AbstractByteOutput}; otherwise invokes the same method of the super class.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see AbstractByteOutput#write(byte[], int, int)
+     * @see DefaultBitInput#read(byte[], int, int)
+     */
+    @Override
+    protected void write(final byte[] src, final int off, final int len) throws IOException {
+        if (bulk == null) {
+            super.write(src, off, len);
+            return;
+        }
+        bulk.write(src, off, len);
+    }
+
+    // ------------------------------------------------------------------------------------------------------- lifecycle
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code DefaultBitOutput} class flushes the {@link #delegate delegate}
+     * if it is an instance of {@link Flushable}, such as {@link AbstractByteOutput}.
+     *
+     * @throws IOException {@inheritDoc}
+     * @see AbstractByteOutput#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        if (delegate instanceof Flushable) {
+            ((Flushable) delegate).flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code close()} method of {@code DefaultBitOutput} class pads the partially-written octet, if
+     * any, and closes the {@link #delegate delegate}, which in turn flushes, if it is an instance of {@link Closeable};
+     * otherwise, it just invokes {@link #flush()} method.
+     *
+     * @throws IOException {@inheritDoc}
+     * @see AbstractByteOutput#close()
+     */
+    @Override
+    public void close() throws IOException {
+        align(1);
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+            return;
+        }
+        flush();
+    }
+
+    // -------------------------------------------------------------------------------------------------------- retarget
+
+    /**
+     * Re-targets this output to specified delegate and starts over, as if this output were newly created, so that an
+     * instance can be reused without allocating a new one; e.g. after re-targeting the delegate itself. Bits written
+     * but not yet {@link #align(int) aligned} are lost.
+     *
+     * @param delegate the delegate; must not be {@code null}.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     */
+    public void retarget(final ByteOutput delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate is null");
+        }
+        this.delegate = delegate;
+        bulk = delegate instanceof AbstractByteOutput ? (AbstractByteOutput<?>) delegate : null;
+        clear();
+    }
+
     // -------------------------------------------------------------------------------------------------------- delegate
 
     /**
      * The delegate whose {@link ByteOutput#write(int)} method is invoked via {@link #write(int)} method.
      */
-    private final ByteOutput delegate;
+    private ByteOutput delegate;
+
+    /**
+     * The {@link #delegate delegate} as an instance of {@link AbstractByteOutput}; {@code null} if it is not.
+     */
+    private AbstractByteOutput<?> bulk;
 }
@@ -0,0 +1,252 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A seekable bit input reads bits from a file channel through an internal buffer.
+ *
+ * <p>Positions, for {@link #seek(long) seeking}, are counted from the channel's position at construction. Seeking to
+ * a position within the bytes currently buffered only moves the buffer's position; seeking elsewhere moves the
+ * channel's position and discards the buffer. Either way no byte is read until the next read. The channel's position
+ * must not be changed by others while this input is in use.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitInput
+ * @see BufferBitInput
+ */
+public final class FileChannelBitInput
+        extends AbstractBitInput
+        implements SeekableBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The capacity of the internal buffer.
+     */
+    private static final int BUFFER_CAPACITY = 8192;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading from specified channel.
+     *
+     * @param source the channel from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     * @throws IOException          if an I/O error occurs while getting the channel's position.
+     */
+    public FileChannelBitInput(final FileChannel source) throws IOException {
+        this(source, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading from specified channel.
+     *
+     * @param source   the channel from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     * @throws IOException          if an I/O error occurs while getting the channel's position.
+     */
+    public FileChannelBitInput(final FileChannel source, final BitOrder bitOrder) throws IOException {
+        super(bitOrder);
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        this.start = source.position();
+        this.offset = start;
+        this.buffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+        buffer.limit(0); // start drained so the first read() charges from the channel
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "source=" + source
+               + ",start=" + start
+               + ",offset=" + offset
+               + ",buffer=" + buffer
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code FileChannelBitInput} class, if required, charges the buffer
+     * from the channel and returns the next byte in the buffer as an unsigned 8-bit value.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the channel has reached its end.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            charge();
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code FileChannelBitInput} class transfers bytes from
+     * the buffer, charging it from the channel whenever it drains.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the channel reaches its end before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void read(final byte[] dst, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        while (len > 0) {
+            if (!buffer.hasRemaining()) {
+                charge();
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(dst, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code FileChannelBitInput} class advances the buffer's
+     * position when the buffer holds enough bytes, or moves the channel's position and discards the buffer otherwise.
+     * Skipping past the end of the channel is detected by a subsequent read.
+     *
+     * @param n {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        if (n <= buffer.remaining()) {
+            buffer.position(buffer.position() + (int) n);
+            return;
+        }
+        move(offset + buffer.position() + n);
+    }
+
+    /**
+     * Charges the buffer from the channel.
+     *
+     * @throws EOFException if the channel has reached its end.
+     * @throws IOException  if an I/O error occurs.
+     */
+    private void charge() throws IOException {
+        offset += buffer.limit();
+        for (buffer.clear(); buffer.position() == 0; ) {
+            if (source.read(buffer) == -1) {
+                buffer.limit(0);
+                throw new EOFException("end of channel reached");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Moves to specified octet of the channel, by moving the buffer's position if the octet is buffered, or by moving
+     * the channel's position and discarding the buffer otherwise.
+     *
+     * @param octet the position of the octet in the channel.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void move(final long octet) throws IOException {
+        if (octet >= offset && octet <= offset + buffer.limit()) {
+            buffer.position((int) (octet - offset));
+            return;
+        }
+        source.position(octet);
+        offset = octet;
+        buffer.limit(0);
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    @Override
+    public long getPosition() {
+        return position();
+    }
+
+    /**
+     * {@inheritDoc} The {@code seek(long)} method of {@code FileChannelBitInput} class moves to the octet containing
+     * specified position; within the buffer if the octet is buffered.
+     *
+     * @param position {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws IOException              {@inheritDoc}
+     */
+    @Override
+    public void seek(final long position) throws IOException {
+        BitIoUtils.requireValidPosition(position, source.size() - start);
+        move(start + (position >> 3));
+        reposition(position);
+    }
+
+    @Override
+    public void mark() {
+        mark = position();
+    }
+
+    @Override
+    public void reset() throws IOException {
+        seek(mark);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel from which bytes are read.
+     */
+    private final FileChannel source;
+
+    /**
+     * The channel's position at which this input started.
+     */
+    private final long start;
+
+    /**
+     * The channel's position of the first byte in the {@link #buffer}.
+     */
+    private long offset;
+
+    /**
+     * The buffer holding bytes read from the {@link #source}; bytes between its position and limit are unread.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The bit position {@link #mark() marked} last.
+     */
+    private long mark;
+}
@@ -0,0 +1,306 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * A byte output writes bytes to a gathering byte channel through a ring of buffers. The ring is drained, whenever it
+ * fills, with {@link GatheringByteChannel#write(ByteBuffer[], int, int) gathering writes}, so that, unlike
+ * {@link ChannelByteOutput}, a message spread across buffers costs a single call on the channel rather than one call
+ * per buffer.
+ *
+ * <p>Bytes stay in the ring until it fills, or until this output is {@link #flush() flushed} or
+ * {@link #close() closed}. Runs of at least the ring's capacity are gathered, along with the bytes already in the ring,
+ * straight to the channel without being copied.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ScatteringByteInput
+ * @see ChannelByteOutput
+ */
+public class GatheringByteOutput
+        extends AbstractByteOutput<GatheringByteChannel> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default number of buffers in the ring.
+     */
+    public static final int DEFAULT_BUFFER_COUNT = 16;
+
+    /**
+     * The default capacity of each buffer in the ring.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing bytes to specified channel through a ring of {@value #DEFAULT_BUFFER_COUNT} heap
+     * buffers of {@value #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param target the channel to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     */
+    public GatheringByteOutput(final GatheringByteChannel target) {
+        this(target, DEFAULT_BUFFER_COUNT, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance writing bytes to specified channel through a ring of heap buffers of specified count and
+     * size.
+     *
+     * @param target      the channel to which bytes are written; must not be {@code null}.
+     * @param bufferCount the number of buffers in the ring; must be positive.
+     * @param bufferSize  the capacity of each buffer; must be positive.
+     * @throws NullPointerException     if {@code target} is {@code null}.
+     * @throws IllegalArgumentException if {@code bufferCount} or {@code bufferSize} is not positive.
+     */
+    public GatheringByteOutput(final GatheringByteChannel target, final int bufferCount, final int bufferSize) {
+        this(target, ByteIoUtils.allocateBuffers(bufferCount, bufferSize));
+    }
+
+    /**
+     * Creates a new instance writing bytes to specified channel through a ring of specified buffers, which may be
+     * {@link ByteBuffer#allocateDirect(int) direct}. The buffers are owned by the output until it is no longer used;
+     * their content, positions and limits are overwritten.
+     *
+     * @param target  the channel to which bytes are written; must not be {@code null}.
+     * @param buffers the buffers of the ring; must not be {@code null} nor empty, and each buffer must not be
+     *                {@code null} and must have a non-zero {@link ByteBuffer#capacity() capacity}.
+     * @throws NullPointerException     if {@code target}, {@code buffers}, or any of the buffers is {@code null}.
+     * @throws IllegalArgumentException if {@code buffers} is empty, or any of the buffers has zero capacity.
+     */
+    public GatheringByteOutput(final GatheringByteChannel target, final ByteBuffer[] buffers) {
+        super(target);
+        ByteIoUtils.requireValidBuffers(buffers);
+        this.buffers = buffers.clone();
+        for (int i = 0; i < this.buffers.length; i++) {
+            this.buffers[i].clear();
+            capacity += this.buffers[i].capacity();
+        }
+        spare = new ByteBuffer[this.buffers.length];
+        gather = new ByteBuffer[this.buffers.length + 1];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "buffers.length=" + buffers.length
+               + ",capacity=" + capacity
+               + ",current=" + current
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code GatheringByteOutput} class stores specified value in the
+     * current buffer of the ring and, if the buffer is full, moves to the next buffer, draining the ring when it is
+     * full.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        final ByteBuffer buffer = buffers[current];
+        buffer.put((byte) value);
+        if (!buffer.hasRemaining()) {
+            advance();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code GatheringByteOutput} class invokes
+     * {@link #write(ByteBuffer)} method with a buffer {@link ByteBuffer#wrap(byte[], int, int) wrapping} specified
+     * range.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        write(ByteBuffer.wrap(src, off, len));
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(ByteBuffer)} method of {@code GatheringByteOutput} class gathers runs of at least
+     * the ring's capacity, following the bytes already in the ring, straight to the {@link #target channel}, and
+     * otherwise stores bytes in the ring, draining it whenever it fills.
+     *
+     * @param src {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void write(final ByteBuffer src) throws IOException {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        if (src.remaining() >= capacity) {
+            System.arraycopy(buffers, 0, gather, 0, current + 1);
+            gather[current + 1] = src;
+            try {
+                flush(gather, current + 2);
+            } finally {
+                gather[current + 1] = null;
+            }
+            return;
+        }
+        while (src.hasRemaining()) {
+            final ByteBuffer buffer = buffers[current];
+            final int limit = src.limit();
+            src.limit(src.position() + Math.min(buffer.remaining(), src.remaining()));
+            try {
+                buffer.put(src);
+            } finally {
+                src.limit(limit);
+            }
+            if (!buffer.hasRemaining()) {
+                advance();
+            }
+        }
+    }
+
+    /**
+     * Moves to the next buffer of the ring, {@link #drain() draining} the ring if the current buffer is the last one.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void advance() throws IOException {
+        if (current < buffers.length - 1) {
+            current++;
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * Drains the full ring to the {@link #target channel} until at least its first buffer is written, and rotates the
+     * buffers written to the end of the ring.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void drain() throws IOException {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].flip();
+        }
+        while (buffers[0].hasRemaining()) {
+            target.write(buffers);
+        }
+        int drained = 1;
+        while (drained < buffers.length && !buffers[drained].hasRemaining()) {
+            drained++;
+        }
+        System.arraycopy(buffers, 0, spare, 0, drained);
+        System.arraycopy(buffers, drained, buffers, 0, buffers.length - drained);
+        System.arraycopy(spare, 0, buffers, buffers.length - drained, drained);
+        current = buffers.length - drained;
+        for (int i = 0; i < buffers.length; i++) {
+            if (i < current) {
+                buffers[i].compact();
+            } else {
+                buffers[i].clear();
+            }
+            if (i < drained) {
+                spare[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Writes all bytes remaining in specified buffers, which are the ring's buffers in use, flipped or not yet, maybe
+     * followed by a source, to the {@link #target channel}, and clears the ring.
+     *
+     * @param array  the array of buffers to write.
+     * @param length the number of buffers to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void flush(final ByteBuffer[] array, final int length) throws IOException {
+        for (int i = 0; i <= current; i++) {
+            buffers[i].flip();
+        }
+        for (int i = 0; i < length; ) {
+            if (!array[i].hasRemaining()) {
+                i++;
+                continue;
+            }
+            target.write(array, i, length - i);
+        }
+        for (int i = 0; i <= current; i++) {
+            buffers[i].clear();
+        }
+        current = 0;
+    }
+
+    // ------------------------------------------------------------------------------------------------------- lifecycle
+
+    /**
+     * {@inheritDoc} The {@code flush()} method of {@code GatheringByteOutput} class writes all bytes stored in the ring
+     * to the {@link #target channel} with gathering writes; a channel has nothing more to flush.
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        flush(buffers, current + 1);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffers of the ring; those up to the {@link #current} one hold bytes, in order, not yet written to the
+     * {@link #target channel}.
+     */
+    private final ByteBuffer[] buffers;
+
+    /**
+     * The total capacity of the {@link #buffers}.
+     */
+    private long capacity;
+
+    /**
+     * A scratch array for rotating the {@link #buffers}.
+     */
+    private final ByteBuffer[] spare;
+
+    /**
+     * A scratch array for gathering the {@link #buffers} along with a source buffer.
+     */
+    private final ByteBuffer[] gather;
+
+    /**
+     * The index of the buffer, in the {@link #buffers}, to write.
+     */
+    private int current;
+}
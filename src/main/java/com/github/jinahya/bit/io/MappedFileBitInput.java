@@ -0,0 +1,316 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A seekable bit input reads bits from a file channel mapped into memory as a sequence of {@link MappedByteBuffer}
+ * segments, so that files larger than {@value java.lang.Integer#MAX_VALUE} bytes can be read without copying bytes
+ * out of the page cache.
+ *
+ * <p>The channel is mapped, {@link FileChannel.MapMode#READ_ONLY read-only}, from its position at construction to its
+ * size at construction; bytes appended afterwards are not read. Each segment is mapped when first reached and is kept
+ * for later {@link #seek(long) seeks}; reads move across segment boundaries transparently. Positions are counted from
+ * the channel's position at construction, and the channel's position is not changed.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FileChannelBitInput
+ * @see BufferBitInput
+ * @see MappedFileBitOutput
+ */
+public final class MappedFileBitInput
+        extends AbstractBitInput
+        implements SeekableBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default number of bytes mapped by each segment.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading from specified channel.
+     *
+     * @param source the channel from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     * @throws IOException          if an I/O error occurs while getting the channel's position or size.
+     */
+    public MappedFileBitInput(final FileChannel source) throws IOException {
+        this(source, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading from specified channel.
+     *
+     * @param source   the channel from which bytes are read; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     * @throws IOException          if an I/O error occurs while getting the channel's position or size.
+     */
+    public MappedFileBitInput(final FileChannel source, final BitOrder bitOrder) throws IOException {
+        this(source, bitOrder, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading from specified channel in segments of specified size.
+     *
+     * @param source      the channel from which bytes are read; must not be {@code null}.
+     * @param bitOrder    the order in which bits are read; must not be {@code null}.
+     * @param segmentSize the number of bytes mapped by each segment; must be positive.
+     * @throws NullPointerException     if {@code source} or {@code bitOrder} is {@code null}.
+     * @throws IllegalArgumentException if {@code segmentSize} is not positive.
+     * @throws IOException              if an I/O error occurs while getting the channel's position or size.
+     */
+    public MappedFileBitInput(final FileChannel source, final BitOrder bitOrder, final int segmentSize)
+            throws IOException {
+        super(bitOrder);
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize(" + segmentSize + ") <= 0");
+        }
+        this.source = source;
+        this.segmentSize = segmentSize;
+        start = source.position();
+        size = Math.max(source.size() - start, 0L);
+        segments = new MappedByteBuffer[(int) Math.max((size + segmentSize - 1) / segmentSize, 1L)];
+        segment = segment(0);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "source=" + source
+               + ",start=" + start
+               + ",size=" + size
+               + ",segmentSize=" + segmentSize
+               + ",index=" + index
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code MappedFileBitInput} class, if required, moves to the next
+     * segment and returns the next byte in the current segment as an unsigned 8-bit value.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the end of the file has been reached.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected int read() throws IOException {
+        if (!segment.hasRemaining()) {
+            next();
+        }
+        return segment.get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code MappedFileBitInput} class transfers bytes from
+     * the current segment in bulk, moving to the next segment whenever the current one is exhausted.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the end of the file is reached before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void read(final byte[] dst, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        while (len > 0) {
+            if (!segment.hasRemaining()) {
+                next();
+            }
+            final int n = Math.min(len, segment.remaining());
+            segment.get(dst, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code MappedFileBitInput} class advances the current
+     * segment's position, or moves to the segment containing the target octet, without reading any byte.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if fewer than {@code n} bytes remain; the position is not changed in that case.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        if (n <= segment.remaining()) {
+            segment.position(segment.position() + (int) n);
+            return;
+        }
+        final long octet = (long) index * segmentSize + segment.position() + n;
+        if (octet > size) {
+            throw new EOFException("end of file reached");
+        }
+        move(octet);
+    }
+
+    /**
+     * Moves to the start of the next segment.
+     *
+     * @throws EOFException if the current segment is the last one.
+     * @throws IOException  if an I/O error occurs while mapping the segment.
+     */
+    private void next() throws IOException {
+        if (index + 1 == segments.length) {
+            throw new EOFException("end of file reached");
+        }
+        segment = segment(++index);
+        segment.position(0);
+    }
+
+    /**
+     * Moves to specified octet of the file.
+     *
+     * @param octet the position of the octet, from the start of this input; between {@code 0} and {@link #size},
+     *              both inclusive.
+     * @throws IOException if an I/O error occurs while mapping the segment.
+     */
+    private void move(final long octet) throws IOException {
+        index = (int) Math.min(octet / segmentSize, segments.length - 1);
+        segment = segment(index);
+        segment.position((int) (octet - (long) index * segmentSize));
+    }
+
+    /**
+     * Returns the segment at specified index, mapping it if not mapped yet.
+     *
+     * @param index the index of the segment.
+     * @return the segment at {@code index}.
+     * @throws IOException if an I/O error occurs while mapping the segment.
+     */
+    private MappedByteBuffer segment(final int index) throws IOException {
+        MappedByteBuffer mapped = segments[index];
+        if (mapped == null) {
+            final long position = (long) index * segmentSize;
+            mapped = source.map(FileChannel.MapMode.READ_ONLY, start + position,
+                                Math.min(segmentSize, size - position));
+            segments[index] = mapped;
+        }
+        return mapped;
+    }
+
+    // -------------------------------------------------------------------------------------------------------- position
+
+    @Override
+    public long getPosition() {
+        return position();
+    }
+
+    /**
+     * {@inheritDoc} The {@code seek(long)} method of {@code MappedFileBitInput} class moves to the octet containing
+     * specified position, in whichever segment holds it, without reading any byte but the octet.
+     *
+     * @param position {@inheritDoc}
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws IOException              {@inheritDoc}
+     */
+    @Override
+    public void seek(final long position) throws IOException {
+        BitIoUtils.requireValidPosition(position, size);
+        move(position >> 3);
+        reposition(position);
+    }
+
+    @Override
+    public void mark() {
+        mark = position();
+    }
+
+    @Override
+    public void reset() throws IOException {
+        seek(mark);
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ size
+
+    /**
+     * Returns the number of bytes this input can read; the size of the mapped region of the file.
+     *
+     * @return the number of bytes this input can read.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel from which segments are mapped.
+     */
+    private final FileChannel source;
+
+    /**
+     * The number of bytes mapped by each segment.
+     */
+    private final int segmentSize;
+
+    /**
+     * The channel's position at which this input started.
+     */
+    private final long start;
+
+    /**
+     * The number of bytes, from the {@link #start}, which this input can read.
+     */
+    private final long size;
+
+    /**
+     * The segments mapped so far; {@code null} elements are not mapped yet.
+     */
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * The index of the {@link #segment current segment}.
+     */
+    private int index;
+
+    /**
+     * The current segment; bytes between its position and limit are unread.
+     */
+    private MappedByteBuffer segment;
+
+    /**
+     * The bit position {@link #mark() marked} last.
+     */
+    private long mark;
+}
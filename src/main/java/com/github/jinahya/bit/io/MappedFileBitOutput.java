@@ -0,0 +1,273 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A bit output writes bits straight into a file channel mapped into memory, one {@link MappedByteBuffer} window at a
+ * time, without copying bytes through an intermediate buffer.
+ *
+ * <p>Windows are mapped, {@link FileChannel.MapMode#READ_WRITE read-write}, from the channel's position at construction
+ * onwards in chunks of a fixed size; mapping a window beyond the end of the file grows the file. On {@link #close()}
+ * the file is truncated to end right after the last byte written, i.e. at the channel's position at construction plus
+ * {@link #getCount()}, and, if requested at construction, forced to the storage device. The channel's position is not
+ * changed, and the channel is not closed.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see MappedFileBitInput
+ */
+public final class MappedFileBitOutput
+        extends AbstractBitOutput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default number of bytes mapped by each window.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance writing to specified channel.
+     *
+     * @param target the channel to which bytes are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} is {@code null}.
+     * @throws IOException          if an I/O error occurs while mapping the first window.
+     */
+    public MappedFileBitOutput(final FileChannel target) throws IOException {
+        this(target, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, writing to specified channel.
+     *
+     * @param target   the channel to which bytes are written; must not be {@code null}.
+     * @param bitOrder the order in which bits are written; must not be {@code null}.
+     * @throws NullPointerException if {@code target} or {@code bitOrder} is {@code null}.
+     * @throws IOException          if an I/O error occurs while mapping the first window.
+     */
+    public MappedFileBitOutput(final FileChannel target, final BitOrder bitOrder) throws IOException {
+        this(target, bitOrder, DEFAULT_CHUNK_SIZE, false);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, writing to specified channel in windows of specified size.
+     *
+     * @param target    the channel to which bytes are written; must not be {@code null}.
+     * @param bitOrder  the order in which bits are written; must not be {@code null}.
+     * @param chunkSize the number of bytes mapped by each window, by which the file grows; must be positive.
+     * @param force     a flag for {@link #force() forcing} windows as they are left and the file on {@link #close()}.
+     * @throws NullPointerException     if {@code target} or {@code bitOrder} is {@code null}.
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     * @throws IOException              if an I/O error occurs while mapping the first window.
+     */
+    public MappedFileBitOutput(final FileChannel target, final BitOrder bitOrder, final int chunkSize,
+                               final boolean force)
+            throws IOException {
+        super(bitOrder);
+        if (target == null) {
+            throw new NullPointerException("target is null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize(" + chunkSize + ") <= 0");
+        }
+        this.target = target;
+        this.chunkSize = chunkSize;
+        this.force = force;
+        start = target.position();
+        window = map(start);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "target=" + target
+               + ",start=" + start
+               + ",chunkSize=" + chunkSize
+               + ",force=" + force
+               + ",window=" + window
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code write(int)} method of {@code MappedFileBitOutput} class, if required, maps the next
+     * window and puts specified value into the current window.
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see MappedFileBitInput#read()
+     */
+    @Override
+    protected void write(final int value) throws IOException {
+        requireOpen();
+        if (!window.hasRemaining()) {
+            next();
+        }
+        window.put((byte) value);
+    }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code MappedFileBitOutput} class puts bytes into the
+     * current window in bulk, mapping the next window whenever the current one is full.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see MappedFileBitInput#read(byte[], int, int)
+     */
+    @Override
+    protected void write(final byte[] src, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        requireOpen();
+        while (len > 0) {
+            if (!window.hasRemaining()) {
+                next();
+            }
+            final int n = Math.min(len, window.remaining());
+            window.put(src, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Checks that this output is not {@link #close() closed}.
+     *
+     * @throws IOException if this output is closed.
+     */
+    private void requireOpen() throws IOException {
+        if (window == null) {
+            throw new IOException("closed");
+        }
+    }
+
+    /**
+     * Maps the window following the current one, forcing the current one first if requested at construction.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void next() throws IOException {
+        if (force) {
+            window.force();
+        }
+        offset += window.capacity();
+        window = map(start + offset);
+    }
+
+    /**
+     * Maps a window of {@link #chunkSize} bytes at specified position of the channel, growing the file if required.
+     *
+     * @param position the position of the channel at which the window starts.
+     * @return a new window.
+     * @throws IOException if an I/O error occurs.
+     */
+    private MappedByteBuffer map(final long position) throws IOException {
+        return target.map(FileChannel.MapMode.READ_WRITE, position, chunkSize);
+    }
+
+    // ------------------------------------------------------------------------------------------------------- lifecycle
+
+    /**
+     * Forces every byte written so far to the storage device containing the file; the current window is forced, and
+     * then the channel is {@link FileChannel#force(boolean) forced} for the windows already left.
+     *
+     * @throws IOException if this output is closed, or if an I/O error occurs.
+     */
+    public void force() throws IOException {
+        requireOpen();
+        window.force();
+        target.force(false);
+    }
+
+    /**
+     * {@inheritDoc} The {@code close()} method of {@code MappedFileBitOutput} class pads the partially-written octet,
+     * if any, and truncates the file to end right after the last byte written. The current window is
+     * {@link #force() forced}, and the file's length is forced, if requested at construction. This method does
+     * nothing when this output is already closed.
+     *
+     * <p>The current window is dropped before truncating, yet windows stay mapped until they are garbage-collected.
+     * Platforms which refuse to truncate a file below a live mapping, e.g. Windows, may fail the truncation with an
+     * {@link IOException}, leaving the file padded up to the end of the last window.</p>
+     *
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (window == null) {
+            return;
+        }
+        super.close();
+        if (force) {
+            window.force();
+        }
+        window = null;
+        target.truncate(start + getCount());
+        if (force) {
+            target.force(true);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel to which windows are mapped.
+     */
+    private final FileChannel target;
+
+    /**
+     * The number of bytes mapped by each window.
+     */
+    private final int chunkSize;
+
+    /**
+     * A flag for forcing windows and the file to the storage device.
+     */
+    private final boolean force;
+
+    /**
+     * The channel's position at which this output started.
+     */
+    private final long start;
+
+    /**
+     * The position of the current {@link #window}, from the {@link #start}.
+     */
+    private long offset;
+
+    /**
+     * The current window; bytes before its position are written. {@code null} once closed.
+     */
+    private MappedByteBuffer window;
+}
@@ -0,0 +1,409 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A bit input for decoding, incrementally, messages received from a non-blocking channel; e.g. in a selector loop
+ * serving many connections with a single thread.
+ *
+ * <p>Bytes are {@link #receive() received} from the channel, or {@link #append(byte[], int, int) appended} by the
+ * caller, into an internal buffer which grows as required. A {@link #decode(BitReader) decode} either reads a whole
+ * value from the bytes received so far or, when they run short, reports that more input is needed and rewinds to the
+ * bit position at which it started, so that the same decode can simply be retried once more bytes arrive. Neither
+ * method ever waits or spins on a channel which has no bytes ready.</p>
+ *
+ * <blockquote><pre>{@code
+ * // on OP_READ
+ * if (input.receive() == -1) {
+ *     ... // the peer closed the connection
+ * }
+ * for (Message message; (message = input.decode(reader)) != null; ) {
+ *     ...
+ * }
+ * }</pre></blockquote>
+ *
+ * <p>Reading bits outside a {@link #decode(BitReader) decode} is allowed, but running short of bytes there throws an
+ * {@link EOFException} which leaves the position unspecified.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ChannelByteInput
+ */
+public final class NonBlockingBitInput
+        extends AbstractBitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The exception signalling, within a {@link #decode(BitReader) decode}, that the bytes received so far run short.
+     * It carries no stack trace since it is thrown, and caught, on the hot path.
+     */
+    private static final class Starvation
+            extends EOFException {
+
+        private static final long serialVersionUID = 1L;
+
+        private Starvation() {
+            super("more input required");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default initial capacity of the internal buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance, without a channel, reading bytes {@link #append(byte[], int, int) appended} by the
+     * caller.
+     */
+    public NonBlockingBitInput() {
+        this(BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, without a channel, in specified bit order, reading bytes
+     * {@link #append(byte[], int, int) appended} by the caller.
+     *
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code bitOrder} is {@code null}.
+     */
+    public NonBlockingBitInput(final BitOrder bitOrder) {
+        super(bitOrder);
+        source = null;
+        buffer = new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    /**
+     * Creates a new instance reading bytes {@link #receive() received} from specified channel.
+     *
+     * @param source the channel from which bytes are received; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public NonBlockingBitInput(final ReadableByteChannel source) {
+        this(source, BitOrder.MSB_FIRST);
+    }
+
+    /**
+     * Creates a new instance, in specified bit order, reading bytes {@link #receive() received} from specified
+     * channel.
+     *
+     * @param source   the channel from which bytes are received; must not be {@code null}.
+     * @param bitOrder the order in which bits are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} or {@code bitOrder} is {@code null}.
+     */
+    public NonBlockingBitInput(final ReadableByteChannel source, final BitOrder bitOrder) {
+        super(bitOrder);
+        if (source == null) {
+            throw new NullPointerException("source is null");
+        }
+        this.source = source;
+        buffer = new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "source=" + source
+               + ",buffer.length=" + buffer.length
+               + ",index=" + index
+               + ",limit=" + limit
+               + ",ended=" + ended
+               + ",starved=" + starved
+               + "}";
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- decode
+
+    /**
+     * Reads a value, using specified reader, from the bytes received so far. When the bytes run short, this method
+     * rewinds to the bit position at which it started and returns {@code null}, with {@link #isStarved()} set, so that
+     * the same decode can be retried once more bytes are {@link #receive() received}.
+     *
+     * @param reader the reader reading the value; must not be {@code null}.
+     * @param <T>    value type parameter
+     * @return the value read; or {@code null} if more input is required.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     * @throws EOFException         if the channel has reached its end before the value is read entirely.
+     * @throws IOException          if an I/O error occurs.
+     * @see #isStarved()
+     */
+    public <T> T decode(final BitReader<? extends T> reader) throws IOException {
+        if (reader == null) {
+            throw new NullPointerException("reader is null");
+        }
+        final long mark = position();
+        try {
+            final T value = reader.read(this);
+            starved = false;
+            return value;
+        } catch (final Starvation s) {
+            index = (int) ((mark >> 3) - discarded);
+            reposition(mark);
+            starved = true;
+            return null;
+        }
+    }
+
+    /**
+     * Indicates whether the last {@link #decode(BitReader) decode} ran short of bytes; distinguishes a decode which
+     * requires more input from one whose reader returned {@code null}.
+     *
+     * @return {@code true} if the last decode requires more input; {@code false} otherwise.
+     */
+    public boolean isStarved() {
+        return starved;
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- input
+
+    /**
+     * Reads, with a single {@link ReadableByteChannel#read(ByteBuffer) channel read}, as many bytes as the channel has
+     * ready, growing the buffer if it is full. This method never blocks on a non-blocking channel, nor retries when the
+     * channel has no bytes ready.
+     *
+     * @return the number of bytes received, possibly zero; or {@code -1} if the channel has reached its end.
+     * @throws IllegalStateException if this input has no channel.
+     * @throws IOException           if an I/O error occurs.
+     */
+    public int receive() throws IOException {
+        if (source == null) {
+            throw new IllegalStateException("no channel to receive from");
+        }
+        if (ended) {
+            return -1;
+        }
+        reserve(1);
+        if (wrapper == null || wrapper.array() != buffer) {
+            wrapper = ByteBuffer.wrap(buffer);
+        }
+        wrapper.limit(buffer.length);
+        wrapper.position(limit);
+        final int received = source.read(wrapper);
+        if (received == -1) {
+            ended = true;
+            return -1;
+        }
+        limit += received;
+        return received;
+    }
+
+    /**
+     * Appends specified range of specified array to the bytes received so far, growing the buffer as required.
+     *
+     * @param src the array whose bytes are appended; must not be {@code null}.
+     * @param off the offset in {@code src}.
+     * @param len the number of bytes to append.
+     * @throws NullPointerException      if {@code src} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is not valid.
+     */
+    public void append(final byte[] src, final int off, final int len) {
+        ByteIoUtils.requireValidRange(src, off, len);
+        reserve(len);
+        System.arraycopy(src, off, buffer, limit, len);
+        limit += len;
+    }
+
+    /**
+     * Appends the bytes remaining in specified buffer to the bytes received so far, growing the buffer as required.
+     *
+     * @param src the buffer whose remaining bytes are appended; must not be {@code null}.
+     * @throws NullPointerException if {@code src} is {@code null}.
+     */
+    public void append(final ByteBuffer src) {
+        if (src == null) {
+            throw new NullPointerException("src is null");
+        }
+        final int len = src.remaining();
+        reserve(len);
+        src.get(buffer, limit, len);
+        limit += len;
+    }
+
+    /**
+     * Returns the number of bytes received but not yet read.
+     *
+     * @return the number of bytes received but not yet read.
+     */
+    public int available() {
+        return limit - index;
+    }
+
+    /**
+     * Makes room for specified number of bytes at the end of the buffer, first by discarding bytes preceding the octet
+     * being read, and then, if still required, by growing the buffer.
+     *
+     * @param length the number of bytes to make room for.
+     */
+    private void reserve(final int length) {
+        if (buffer.length - limit >= length) {
+            return;
+        }
+        final int kept = (int) ((position() >> 3) - discarded); // the octet being read, if any, may be re-read
+        final int size = limit - kept;
+        byte[] target = buffer;
+        if (buffer.length - size < length) {
+            final long capacity = Math.max((long) buffer.length << 1, (long) size + length);
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalStateException("capacity(" + capacity + ") > " + Integer.MAX_VALUE);
+            }
+            target = new byte[(int) capacity];
+        }
+        System.arraycopy(buffer, kept, target, 0, size);
+        buffer = target;
+        discarded += kept;
+        index -= kept;
+        limit = size;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code NonBlockingBitInput} class returns the next byte received.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if no more byte has been received.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected int read() throws IOException {
+        if (index == limit) {
+            throw starvation();
+        }
+        return buffer[index++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code NonBlockingBitInput} class copies bytes
+     * received using {@link System#arraycopy(Object, int, Object, int, int)}.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if fewer than {@code len} bytes have been received.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (len > limit - index) {
+            throw starvation();
+        }
+        System.arraycopy(buffer, index, dst, off, len);
+        index += len;
+    }
+
+    /**
+     * {@inheritDoc} The {@code skipBytes(long)} method of {@code NonBlockingBitInput} class advances the index of the
+     * buffer without reading any byte.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if fewer than {@code n} bytes have been received.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    protected void skipBytes(final long n) throws IOException {
+        if (n > limit - index) {
+            throw starvation();
+        }
+        index += (int) n;
+    }
+
+    /**
+     * Returns the exception to throw when the bytes received run short; a plain {@link EOFException} once the channel
+     * has reached its end, since no more byte is to come.
+     *
+     * @return the exception to throw.
+     */
+    private EOFException starvation() {
+        if (ended) {
+            return new EOFException("end of channel reached");
+        }
+        return starvation;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The channel from which bytes are received; {@code null} if bytes are only appended.
+     */
+    private final ReadableByteChannel source;
+
+    /**
+     * The buffer holding the bytes received.
+     */
+    private byte[] buffer;
+
+    /**
+     * A buffer wrapping the {@link #buffer} for receiving bytes from the {@link #source channel}.
+     */
+    private ByteBuffer wrapper;
+
+    /**
+     * The number of bytes discarded from the front of the {@link #buffer} so far.
+     */
+    private long discarded;
+
+    /**
+     * The index in the {@link #buffer} to read.
+     */
+    private int index;
+
+    /**
+     * The number of bytes in the {@link #buffer}.
+     */
+    private int limit;
+
+    /**
+     * A flag for the {@link #source channel} which has reached its end.
+     */
+    private boolean ended;
+
+    /**
+     * A flag for the last {@link #decode(BitReader) decode} which ran short of bytes.
+     */
+    private boolean starved;
+
+    /**
+     * The exception thrown, and caught, within a {@link #decode(BitReader) decode} when the bytes run short.
+     */
+    private final Starvation starvation = new Starvation();
+}
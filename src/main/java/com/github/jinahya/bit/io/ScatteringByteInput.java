@@ -0,0 +1,274 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ScatteringByteChannel;
+
+/**
+ * A byte input reads bytes from a scattering byte channel through a ring of buffers. The ring is charged, whenever it
+ * drains, with a {@link ScatteringByteChannel#read(ByteBuffer[], int, int) scattering read}, so that a single call on
+ * the channel fills as many buffers as the channel has bytes for.
+ *
+ * <p>Since the ring reads ahead, bytes may be taken from the channel before they are read from this input. Bulk reads
+ * scatter straight into the destination, followed by the ring, without being copied.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see GatheringByteOutput
+ * @see ChannelByteInput
+ */
+public class ScatteringByteInput
+        extends AbstractByteInput<ScatteringByteChannel> {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The default number of buffers in the ring.
+     */
+    public static final int DEFAULT_BUFFER_COUNT = 16;
+
+    /**
+     * The default capacity of each buffer in the ring.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance reading bytes from specified channel through a ring of {@value #DEFAULT_BUFFER_COUNT}
+     * heap buffers of {@value #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param source the channel from which bytes are read; must not be {@code null}.
+     * @throws NullPointerException if {@code source} is {@code null}.
+     */
+    public ScatteringByteInput(final ScatteringByteChannel source) {
+        this(source, DEFAULT_BUFFER_COUNT, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance reading bytes from specified channel through a ring of heap buffers of specified count and
+     * size.
+     *
+     * @param source      the channel from which bytes are read; must not be {@code null}.
+     * @param bufferCount the number of buffers in the ring; must be positive.
+     * @param bufferSize  the capacity of each buffer; must be positive.
+     * @throws NullPointerException     if {@code source} is {@code null}.
+     * @throws IllegalArgumentException if {@code bufferCount} or {@code bufferSize} is not positive.
+     */
+    public ScatteringByteInput(final ScatteringByteChannel source, final int bufferCount, final int bufferSize) {
+        this(source, ByteIoUtils.allocateBuffers(bufferCount, bufferSize));
+    }
+
+    /**
+     * Creates a new instance reading bytes from specified channel through a ring of specified buffers, which may be
+     * {@link ByteBuffer#allocateDirect(int) direct}. The buffers are owned by the input until it is no longer used;
+     * their content, positions and limits are overwritten.
+     *
+     * @param source  the channel from which bytes are read; must not be {@code null}.
+     * @param buffers the buffers of the ring; must not be {@code null} nor empty, and each buffer must not be
+     *                {@code null} and must have a non-zero {@link ByteBuffer#capacity() capacity}.
+     * @throws NullPointerException     if {@code source}, {@code buffers}, or any of the buffers is {@code null}.
+     * @throws IllegalArgumentException if {@code buffers} is empty, or any of the buffers has zero capacity.
+     */
+    public ScatteringByteInput(final ScatteringByteChannel source, final ByteBuffer[] buffers) {
+        super(source);
+        ByteIoUtils.requireValidBuffers(buffers);
+        this.buffers = buffers.clone();
+        for (int i = 0; i < this.buffers.length; i++) {
+            this.buffers[i].limit(0); // start drained so the first read() charges from the channel
+        }
+        scatter = new ByteBuffer[this.buffers.length + 1];
+        System.arraycopy(this.buffers, 0, scatter, 1, this.buffers.length);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return a string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "{"
+               + "buffers.length=" + buffers.length
+               + ",current=" + current
+               + "}";
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc} The {@code read()} method of {@code ScatteringByteInput} class, if the current buffer of the ring
+     * is drained, moves to the next buffer, charging the ring from the {@link #source channel} when all buffers are
+     * drained, and returns the next byte of the current buffer.
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException if the {@link #source channel} reaches its end.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (!buffers[current].hasRemaining()) {
+            advance();
+        }
+        return buffers[current].get() & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code ScatteringByteInput} class invokes
+     * {@link #read(ByteBuffer)} method with a buffer {@link ByteBuffer#wrap(byte[], int, int) wrapping} specified
+     * range.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the {@link #source channel} reaches its end before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        read(ByteBuffer.wrap(dst, off, len));
+    }
+
+    /**
+     * {@inheritDoc} The {@code read(ByteBuffer)} method of {@code ScatteringByteInput} class transfers the bytes left
+     * in the ring, and then scatters the rest straight from the {@link #source channel} into {@code dst}, followed by
+     * the ring which is charged with whatever the channel has beyond {@code dst}.
+     *
+     * @param dst {@inheritDoc}
+     * @throws EOFException if the {@link #source channel} reaches its end before {@code dst} is filled.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        if (dst == null) {
+            throw new NullPointerException("dst is null");
+        }
+        for (; dst.hasRemaining(); current++) {
+            final ByteBuffer buffer = buffers[current];
+            final int limit = buffer.limit();
+            buffer.limit(buffer.position() + Math.min(buffer.remaining(), dst.remaining()));
+            try {
+                dst.put(buffer);
+            } finally {
+                buffer.limit(limit);
+            }
+            if (buffer.hasRemaining() || current == buffers.length - 1 || !buffers[current + 1].hasRemaining()) {
+                break;
+            }
+        }
+        if (!dst.hasRemaining()) {
+            return;
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].clear();
+        }
+        scatter[0] = dst;
+        try {
+            while (dst.hasRemaining()) {
+                if (source.read(scatter) == -1L) {
+                    throw new EOFException("end of channel reached");
+                }
+            }
+        } finally {
+            scatter[0] = null;
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i].flip();
+            }
+            current = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code ScatteringByteInput} class skips the bytes left in the ring
+     * first, and then reads and discards the rest.
+     *
+     * @param n {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void skip(final long n) throws IOException {
+        long rest = ByteIoUtils.requireValidSkip(n);
+        for (; rest > 0L; current++) {
+            final ByteBuffer buffer = buffers[current];
+            final int held = (int) Math.min(rest, buffer.remaining());
+            buffer.position(buffer.position() + held);
+            rest -= held;
+            if (buffer.hasRemaining() || current == buffers.length - 1 || !buffers[current + 1].hasRemaining()) {
+                break;
+            }
+        }
+        if (rest > 0L) {
+            super.skip(rest);
+        }
+    }
+
+    /**
+     * Moves to the next buffer of the ring, charging the ring from the {@link #source channel} when the next buffer
+     * holds no bytes.
+     *
+     * @throws EOFException if the {@link #source channel} reaches its end.
+     * @throws IOException  if an I/O error occurs.
+     */
+    private void advance() throws IOException {
+        if (current < buffers.length - 1 && buffers[current + 1].hasRemaining()) {
+            current++;
+            return;
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].clear();
+        }
+        try {
+            for (long read; (read = source.read(buffers)) <= 0L; ) {
+                if (read == -1L) {
+                    throw new EOFException("end of channel reached");
+                }
+            }
+        } finally {
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i].flip();
+            }
+            current = 0;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * The buffers of the ring; those from the {@link #current} one hold bytes, in order, read ahead from the
+     * {@link #source channel}.
+     */
+    private final ByteBuffer[] buffers;
+
+    /**
+     * A scratch array for scattering into a destination buffer, at index {@code 0}, followed by the {@link #buffers}.
+     */
+    private final ByteBuffer[] scatter;
+
+    /**
+     * The index of the buffer, in the {@link #buffers}, to read.
+     */
+    private int current;
+}
@@ -0,0 +1,75 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * A bit input whose position can be moved to any bit offset of its source. Speculative parsing can
+ * {@link #mark() mark} a position, try an alternative, and {@link #reset() reset} to the mark on failure by moving a
+ * position rather than copying bytes.
+ *
+ * <p>Positions are counted in bits from where the input started, not in bytes as {@link #getCount()} is.</p>
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ArrayBitInput
+ * @see BufferBitInput
+ * @see FileChannelBitInput
+ * @see MappedFileBitInput
+ */
+public interface SeekableBitInput
+        extends BitInput {
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the current bit position; the number of bits read, skipped or discarded from the start of this input.
+     * Bits only peeked are not counted.
+     *
+     * @return the current bit position.
+     */
+    long getPosition();
+
+    /**
+     * Moves to specified bit position. Bits peeked before the move are discarded.
+     *
+     * @param position the bit position, from the start of this input, to move to; must not be negative and must not
+     *                 exceed the length of the source in bits.
+     * @throws IllegalArgumentException if {@code position} is not valid.
+     * @throws IOException              if an I/O error occurs.
+     */
+    void seek(long position) throws IOException;
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Marks the current bit position so that a following {@link #reset()} moves back to it. A mark stays valid until
+     * the next invocation of this method; the initial mark is the start of this input.
+     */
+    void mark();
+
+    /**
+     * Moves to the bit position last {@link #mark() marked}.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    void reset() throws IOException;
+}
@@ -66,4 +66,54 @@ public class StreamByteInput
         }
         return value;
     }
+
+    /**
+     * {@inheritDoc} The {@code read(byte[], int, int)} method of {@code StreamByteInput} class invokes
+     * {@link InputStream#read(byte[], int, int)} method, on the {@link #source source} stream, until {@code len} bytes
+     * are read; a return of {@code -1} (end of stream) is translated into an {@link EOFException}.
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException if the {@link #source source} stream reaches its end before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     * @see InputStream#read(byte[], int, int)
+     * @see StreamByteOutput#write(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int n = 0; n < len; ) {
+            final int r = source.read(dst, off + n, len - n);
+            if (r == -1) {
+                throw new EOFException("end of stream reached");
+            }
+            n += r;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The {@code skip(long)} method of {@code StreamByteInput} class invokes
+     * {@link InputStream#skip(long)} method, on the {@link #source source} stream, and, whenever it skips nothing,
+     * reads a byte with {@link InputStream#read()}.
+     *
+     * @param n {@inheritDoc}
+     * @throws EOFException if the {@link #source source} stream reaches its end before {@code n} bytes are skipped.
+     * @throws IOException  {@inheritDoc}
+     */
+    @Override
+    public void skip(long n) throws IOException {
+        ByteIoUtils.requireValidSkip(n);
+        while (n > 0L) {
+            final long skipped = source.skip(n);
+            if (skipped > 0L) {
+                n -= skipped;
+                continue;
+            }
+            if (source.read() == -1) {
+                throw new EOFException("end of stream reached");
+            }
+            n--;
+        }
+    }
 }
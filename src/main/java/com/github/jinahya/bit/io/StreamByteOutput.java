@@ -59,4 +59,22 @@ public class StreamByteOutput
     public void write(final int value) throws IOException {
         target.write(value);
     }
+
+    /**
+     * {@inheritDoc} The {@code write(byte[], int, int)} method of {@code StreamByteOutput} class invokes
+     * {@link OutputStream#write(byte[], int, int)} method, on the {@link #target target} stream, with specified
+     * arguments.
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @see OutputStream#write(byte[], int, int)
+     * @see StreamByteInput#read(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.write(src, off, len);
+    }
 }
@@ -50,12 +50,7 @@ public final class ExpGolombUE
 
     static long readCodeNum(final BitInput input) throws IOException {
         requireNonNullInput(input);
-        int leadingZeros = 0;
-        while (input.readUnsignedInt(1) == 0) {
-            if (++leadingZeros > Long.SIZE - 1) {
-                throw new IOException("Exp-Golomb codeNum exceeds signed long range");
-            }
-        }
+        final int leadingZeros = (int) input.readUnary(1, Long.SIZE - 1); // 64 zeros exceed a signed long
         if (leadingZeros == 0) {
             return 0L;
         }
@@ -84,10 +79,7 @@ public final class ExpGolombUE
             leadingZeros = highestOneBitIndex(info);
             suffix = info - (1L << leadingZeros);
         }
-        if (leadingZeros > 0) {
-            output.writeUnsignedLong(leadingZeros, 0L);
-        }
-        output.writeUnsignedInt(1, 1);
+        output.writeUnary(leadingZeros, 0);
         if (leadingZeros > 0) {
             output.writeUnsignedLong(leadingZeros, suffix);
         }
@@ -58,13 +58,7 @@ final class RiceGolombCodeUtil {
         if (quotientBit != 0 && quotientBit != 1) {
             throw new IllegalArgumentException("invalid quotientBit: " + quotientBit);
         }
-        long quotient = 0L;
-        while (input.readUnsignedInt(1) == quotientBit) {
-            if (quotient == Long.MAX_VALUE) {
-                throw new IOException("quotient exceeds signed long range");
-            }
-            quotient++;
-        }
+        final long quotient = input.readUnary(quotientBit ^ 0x01);
         if (quotient > (Long.MAX_VALUE >> parameter)) {
             throw new IOException("value exceeds signed long range");
         }
@@ -82,25 +76,12 @@ final class RiceGolombCodeUtil {
         if (quotientBit != 0 && quotientBit != 1) {
             throw new IllegalArgumentException("invalid quotientBit: " + quotientBit);
         }
-        final long quotient = value >>> parameter;
-        writeRepeated(output, quotient, quotientBit);
-        output.writeUnsignedInt(1, quotientBit ^ 0x01);
+        output.writeUnary(value >>> parameter, quotientBit);
         if (parameter > 0) {
             output.writeUnsignedLong(parameter, value & ((1L << parameter) - 1L));
         }
     }
 
-    private static void writeRepeated(final BitOutput output, long count, final int bit) throws IOException {
-        final long chunk = bit == 0 ? 0L : Long.MAX_VALUE;
-        while (count >= Long.SIZE - 1) {
-            output.writeUnsignedLong(Long.SIZE - 1, chunk);
-            count -= Long.SIZE - 1;
-        }
-        if (count > 0L) {
-            output.writeUnsignedLong((int) count, chunk);
-        }
-    }
-
     private RiceGolombCodeUtil() {
         throw new AssertionError("instantiation is not allowed");
     }
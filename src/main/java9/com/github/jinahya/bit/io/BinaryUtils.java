@@ -0,0 +1,116 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Utilities for low-level binary manipulation.
+ *
+ * <p>This is the {@code META-INF/versions/9} overlay of the baseline class; every method delegates to the intrinsic
+ * the baseline open-codes. Keep the members in sync with the baseline class.</p>
+ */
+final class BinaryUtils {
+
+    private static final VarHandle SHORT_BE
+            = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_LE
+            = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final VarHandle INT_BE
+            = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle INT_LE
+            = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final VarHandle LONG_BE
+            = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle LONG_LE
+            = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    public static short reverseBytes(final short value) {
+        return Short.reverseBytes(value);
+    }
+
+    public static int reverseBytes(final int value) {
+        return Integer.reverseBytes(value);
+    }
+
+    public static long reverseBytes(final long value) {
+        return Long.reverseBytes(value);
+    }
+
+    public static char reverseBytes(final char value) {
+        return Character.reverseBytes(value);
+    }
+
+    public static int highestOneBitIndex(final int value) {
+        return (Integer.SIZE - 1) - Integer.numberOfLeadingZeros(value);
+    }
+
+    public static int highestOneBitIndex(final long value) {
+        return (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+    }
+
+    public static long getOctets(final byte[] array, final int bytes, final boolean littleEndian) {
+        switch (bytes) {
+            case Short.BYTES:
+                return ((short) (littleEndian ? SHORT_LE : SHORT_BE).get(array, 0)) & 0xFFFFL;
+            case Integer.BYTES:
+                return ((int) (littleEndian ? INT_LE : INT_BE).get(array, 0)) & 0xFFFFFFFFL;
+            case Long.BYTES:
+                return (long) (littleEndian ? LONG_LE : LONG_BE).get(array, 0);
+            default:
+                long value = 0L;
+                for (int i = 0; i < bytes; i++) {
+                    value = (value << Byte.SIZE) | (array[littleEndian ? bytes - 1 - i : i] & 0xFF);
+                }
+                return value;
+        }
+    }
+
+    public static void putOctets(final byte[] array, final int bytes, final long value, final boolean littleEndian) {
+        switch (bytes) {
+            case Short.BYTES:
+                (littleEndian ? SHORT_LE : SHORT_BE).set(array, 0, (short) value);
+                break;
+            case Integer.BYTES:
+                (littleEndian ? INT_LE : INT_BE).set(array, 0, (int) value);
+                break;
+            case Long.BYTES:
+                (littleEndian ? LONG_LE : LONG_BE).set(array, 0, value);
+                break;
+            default:
+                for (int i = 0; i < bytes; i++) {
+                    array[littleEndian ? i : bytes - 1 - i] = (byte) (value >> (i << 3));
+                }
+                break;
+        }
+    }
+
+    private BinaryUtils() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -0,0 +1,356 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for unit-testing the bit window of {@link AbstractBitInput} class.
+ *
+ * @see DefaultBitInputTest
+ */
+class AbstractBitInputTest {
+
+    /**
+     * An input which counts the octets taken from the source.
+     */
+    private static final class CountingBitInput
+            extends AbstractBitInput {
+
+        private CountingBitInput(final byte[] source) {
+            this(source, BitOrder.MSB_FIRST);
+        }
+
+        private CountingBitInput(final byte[] source, final BitOrder bitOrder) {
+            super(bitOrder);
+            this.source = source;
+        }
+
+        @Override
+        protected int read() throws IOException {
+            return source[reads++] & 0xFF;
+        }
+
+        private final byte[] source;
+
+        private int reads;
+    }
+
+    private static long bits(final byte[] source, final long offset, final int size) {
+        long value = 0L;
+        for (long i = offset; i < offset + size; i++) {
+            value = (value << 1) | ((source[(int) (i >> 3)] >> (7 - (i & 7))) & 0x01);
+        }
+        return value;
+    }
+
+    private static long lsbBits(final byte[] source, final long offset, final int size) {
+        long value = 0L;
+        for (int i = 0; i < size; i++) {
+            value |= (long) ((source[(int) ((offset + i) >> 3)] >> ((offset + i) & 7)) & 0x01) << i;
+        }
+        return value;
+    }
+
+    @Test
+    void readUnsignedLongStraddlingOctetsMatchesBitByBitValues() throws IOException {
+        final byte[] source = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(source);
+        final CountingBitInput input = new CountingBitInput(source);
+        long offset = 0L;
+        while (offset + Long.SIZE <= source.length * (long) Byte.SIZE) {
+            final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+            assertEquals(bits(source, offset, size), input.readUnsignedLong(size));
+            offset += size;
+            assertEquals((offset + 7) >> 3, input.getCount());
+        }
+    }
+
+    @Test
+    void readIntSignExtendsForEverySize() throws IOException {
+        for (int size = 1; size <= Integer.SIZE; size++) {
+            final CountingBitInput input = new CountingBitInput(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                                                                           (byte) 0xFF});
+            assertEquals(-1, input.readInt(size));
+        }
+        for (int size = 1; size <= Long.SIZE; size++) {
+            final CountingBitInput input = new CountingBitInput(new byte[]{(byte) 0x80, 0x00, 0x00, 0x00, 0x00, 0x00,
+                                                                           0x00, 0x00});
+            assertEquals(-1L << (size - 1), input.readLong(size));
+        }
+    }
+
+    @Test
+    void readMultiOctetValuesAlignedAndMisaligned() throws IOException {
+        final byte[] source = new byte[64];
+        ThreadLocalRandom.current().nextBytes(source);
+        for (final int offset : new int[]{0, 3}) {
+            final CountingBitInput input = new CountingBitInput(source);
+            final byte[] expected = new byte[source.length - 1];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = (byte) bits(source, i * (long) Byte.SIZE + offset, Byte.SIZE);
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(expected);
+            if (offset > 0) {
+                input.readUnsignedInt(offset);
+            }
+            assertEquals(buffer.order(ByteOrder.BIG_ENDIAN).getShort(), input.readShort16());
+            assertEquals(buffer.order(ByteOrder.LITTLE_ENDIAN).getShort(), input.readShort16Le());
+            assertEquals(buffer.order(ByteOrder.BIG_ENDIAN).getInt(), input.readInt32());
+            assertEquals(buffer.order(ByteOrder.LITTLE_ENDIAN).getInt(), input.readInt32Le());
+            assertEquals(buffer.order(ByteOrder.BIG_ENDIAN).getLong(), input.readLong64());
+            assertEquals(buffer.order(ByteOrder.LITTLE_ENDIAN).getLong(), input.readLong64Le());
+            assertEquals(buffer.order(ByteOrder.LITTLE_ENDIAN).getDouble(), input.readDouble64Le());
+            assertEquals((offset > 0 ? 1 : 0) + buffer.position(), input.getCount());
+        }
+    }
+
+    @Test
+    void readArraysMatchSingleValueReads() throws IOException {
+        final byte[] source = new byte[1024];
+        ThreadLocalRandom.current().nextBytes(source);
+        for (int size = 1; size <= Long.SIZE; size++) {
+            for (final int offset : new int[]{0, 5}) {
+                final CountingBitInput actual = new CountingBitInput(source);
+                final CountingBitInput expected = new CountingBitInput(source);
+                if (offset > 0) {
+                    actual.readUnsignedInt(offset);
+                    expected.readUnsignedInt(offset);
+                }
+                final int len = 8;
+                final long[] longs = new long[len + 2];
+                if (size < Long.SIZE) {
+                    actual.readUnsignedLongs(size, longs, 1, len);
+                    for (int i = 1; i <= len; i++) {
+                        assertEquals(expected.readUnsignedLong(size), longs[i]);
+                    }
+                }
+                actual.readLongs(size, longs, 1, len);
+                for (int i = 1; i <= len; i++) {
+                    assertEquals(expected.readLong(size), longs[i]);
+                }
+                if (size <= Integer.SIZE) {
+                    final int[] ints = new int[len];
+                    if (size < Integer.SIZE) {
+                        actual.readUnsignedInts(size, ints, 0, len);
+                        for (int i = 0; i < len; i++) {
+                            assertEquals(expected.readUnsignedInt(size), ints[i]);
+                        }
+                    }
+                    actual.readInts(size, ints, 0, len);
+                    for (int i = 0; i < len; i++) {
+                        assertEquals(expected.readInt(size), ints[i]);
+                    }
+                }
+                assertEquals(expected.getCount(), actual.getCount());
+            }
+        }
+        final CountingBitInput input = new CountingBitInput(source);
+        assertThrows(IllegalArgumentException.class, () -> input.readUnsignedInts(Integer.SIZE, new int[1], 0, 1));
+        assertThrows(NullPointerException.class, () -> input.readLongs(1, null, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> input.readLongs(1, new long[1], 1, 1));
+    }
+
+    @Test
+    void readUnaryCountsRunBeforeStopBit() throws IOException {
+        final byte[] source = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(source);
+        for (int i = 100; i < 120; i++) { // a long run of zeros
+            source[i] = 0x00;
+        }
+        for (final int stopBit : new int[]{0, 1}) {
+            final CountingBitInput input = new CountingBitInput(source);
+            long offset = 0L;
+            while (offset < source.length * (long) Byte.SIZE - 512) {
+                long expected = 0L;
+                while (bits(source, offset + expected, 1) != stopBit) {
+                    expected++;
+                }
+                assertEquals(expected, input.readUnary(stopBit));
+                offset += expected + 1;
+                assertEquals((offset + 7) >> 3, input.getCount());
+                final int size = ThreadLocalRandom.current().nextInt(1, 8);
+                assertEquals(bits(source, offset, size), input.readUnsignedLong(size));
+                offset += size;
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CountingBitInput(source).readUnary(2));
+    }
+
+    @Test
+    void readUnaryStopsAfterMaxRun() throws IOException {
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            final byte[] source = new byte[64];
+            source[5] = bitOrder == BitOrder.MSB_FIRST ? (byte) 0x02 : (byte) 0x40; // a stop bit after 46 zeros
+            assertEquals(46L, new CountingBitInput(source, bitOrder).readUnary(1, 46L));
+            final CountingBitInput bounded = new CountingBitInput(source, bitOrder);
+            assertThrows(IOException.class, () -> bounded.readUnary(1, 45L));
+            assertEquals(6L, bounded.getCount()); // 46 bits consumed
+            final CountingBitInput zeros = new CountingBitInput(new byte[64], bitOrder);
+            assertThrows(IOException.class, () -> zeros.readUnary(1, 63L));
+            assertEquals(8L, zeros.getCount());
+            assertEquals(0L, zeros.readUnary(0, 0L));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CountingBitInput(new byte[1]).readUnary(1, -1L));
+    }
+
+    @Test
+    void peekReturnsNextBitsWithoutConsumingThem() throws IOException {
+        final byte[] source = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(source);
+        final CountingBitInput input = new CountingBitInput(source);
+        long offset = 0L;
+        while (offset + Long.SIZE * 2 <= source.length * (long) Byte.SIZE) {
+            final int size = ThreadLocalRandom.current().nextInt(1, BitIoConstants.SIZE_MAX_PEEK + 1);
+            final long count = input.getCount();
+            assertEquals(bits(source, offset, size), input.peekUnsignedLong(size));
+            assertEquals(count, input.getCount());
+            if (size < Integer.SIZE) {
+                assertEquals(bits(source, offset, size), input.peekUnsignedInt(size));
+            }
+            final int consumed = ThreadLocalRandom.current().nextInt(1, Long.SIZE + 1);
+            input.consume(consumed);
+            offset += consumed;
+            assertEquals((offset + 7) >> 3, input.getCount());
+            assertEquals(bits(source, offset, 7), input.readUnsignedInt(7));
+            offset += 7;
+        }
+    }
+
+    @Test
+    void alignKeepsPeekedOctets() throws IOException {
+        final CountingBitInput input = new CountingBitInput(new byte[]{0x00, 0x01, 0x02, 0x03, 0x04, 0x05});
+        input.readUnsignedInt(3);
+        assertEquals(0x0102030405L, input.peekUnsignedLong(45));
+        assertEquals(1L, input.getCount());
+        assertEquals(5L, input.align(1));
+        assertEquals(0x01, input.readUnsignedInt(8));
+        assertEquals(16L, input.align(4));
+        assertEquals(0x04, input.readUnsignedInt(8));
+        assertEquals(5L, input.getCount());
+    }
+
+    @Test
+    void peekRejectsSizesBeyondWindow() throws IOException {
+        final CountingBitInput input = new CountingBitInput(new byte[16]);
+        assertThrows(IllegalArgumentException.class, () -> input.peekUnsignedLong(0));
+        assertThrows(IllegalArgumentException.class, () -> input.peekUnsignedLong(BitIoConstants.SIZE_MAX_PEEK + 1));
+        assertThrows(IllegalArgumentException.class, () -> input.peekUnsignedInt(Integer.SIZE));
+        assertThrows(IllegalArgumentException.class, () -> input.consume(0));
+    }
+
+    @Test
+    void skipLongMatchesBitByBitPosition() throws IOException {
+        final byte[] source = new byte[65536];
+        ThreadLocalRandom.current().nextBytes(source);
+        final CountingBitInput input = new CountingBitInput(source);
+        long offset = 0L;
+        while (true) {
+            final long bits = ThreadLocalRandom.current().nextLong(1L, 20000L);
+            if (offset + bits + Byte.SIZE > source.length * (long) Byte.SIZE) {
+                break;
+            }
+            input.skip(bits);
+            offset += bits;
+            assertEquals((offset + 7) >> 3, input.getCount());
+            assertEquals(bits(source, offset, 5), input.readUnsignedInt(5));
+            offset += 5;
+        }
+        assertThrows(IllegalArgumentException.class, () -> input.skip(0L));
+    }
+
+    @Test
+    void readsNoOctetAheadOfNeed() throws IOException {
+        final CountingBitInput input = new CountingBitInput(new byte[16]);
+        input.readUnsignedInt(3);
+        assertEquals(1, input.reads);
+        input.readUnsignedInt(5);
+        assertEquals(1, input.reads);
+        input.readUnsignedInt(31);
+        assertEquals(5, input.reads);
+        input.readLong(64);
+        assertEquals(13, input.reads);
+        assertEquals(input.reads, input.getCount());
+        assertEquals(1L, input.align(1));
+        assertEquals(13, input.reads);
+        assertEquals(24L, input.align(16));
+        assertEquals(16, input.reads);
+    }
+
+    @Test
+    void readLsbFirstMatchesBitByBitValues() throws IOException {
+        final byte[] source = new byte[8192];
+        ThreadLocalRandom.current().nextBytes(source);
+        final CountingBitInput input = new CountingBitInput(source, BitOrder.LSB_FIRST);
+        assertEquals(BitOrder.LSB_FIRST, input.getBitOrder());
+        long offset = 0L;
+        while (offset + Long.SIZE * 4 <= source.length * (long) Byte.SIZE) {
+            final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+            assertEquals(lsbBits(source, offset, size), input.readUnsignedLong(size));
+            offset += size;
+            final int peek = ThreadLocalRandom.current().nextInt(1, BitIoConstants.SIZE_MAX_PEEK + 1);
+            assertEquals(lsbBits(source, offset, peek), input.peekUnsignedLong(peek));
+            input.consume(peek);
+            offset += peek;
+            final int stopBit = ThreadLocalRandom.current().nextInt(2);
+            long expected = 0L;
+            while (lsbBits(source, offset + expected, 1) != stopBit) {
+                expected++;
+            }
+            assertEquals(expected, input.readUnary(stopBit));
+            offset += expected + 1;
+            final long skip = ThreadLocalRandom.current().nextLong(1L, 100L);
+            input.skip(skip);
+            offset += skip;
+            assertEquals((offset + 7) >> 3, input.getCount());
+        }
+    }
+
+    @Test
+    void readLsbFirstOctetsAsLittleEndian() throws IOException {
+        final byte[] source = new byte[64];
+        ThreadLocalRandom.current().nextBytes(source);
+        final ByteBuffer buffer = ByteBuffer.wrap(source).order(ByteOrder.LITTLE_ENDIAN);
+        final CountingBitInput input = new CountingBitInput(source, BitOrder.LSB_FIRST);
+        assertEquals(buffer.getShort(), input.readShort16());
+        assertEquals(buffer.getInt(), input.readInt32());
+        assertEquals(buffer.getLong(), input.readLong64());
+        assertEquals(buffer.getLong(), input.readLong(Long.SIZE));
+        final long[] longs = new long[4];
+        input.readLongs(Long.SIZE, longs, 0, longs.length);
+        for (final long value : longs) {
+            assertEquals(buffer.getLong(), value);
+        }
+        assertEquals(buffer.position(), input.getCount());
+        // 0x1D = 00011 101; three bits of 5 followed by five bits of 3
+        final CountingBitInput deflate = new CountingBitInput(new byte[]{0x1D}, BitOrder.LSB_FIRST);
+        assertEquals(5, deflate.readUnsignedInt(3));
+        assertEquals(3, deflate.readUnsignedInt(5));
+    }
+}
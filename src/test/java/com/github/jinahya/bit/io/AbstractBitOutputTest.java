@@ -0,0 +1,275 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for unit-testing the bit window of {@link AbstractBitOutput} class.
+ *
+ * @see AbstractBitInputTest
+ */
+class AbstractBitOutputTest {
+
+    /**
+     * An output which records the octets written to the target.
+     */
+    private static final class RecordingBitOutput
+            extends AbstractBitOutput {
+
+        private RecordingBitOutput() {
+            this(BitOrder.MSB_FIRST);
+        }
+
+        private RecordingBitOutput(final BitOrder bitOrder) {
+            super(bitOrder);
+        }
+
+        @Override
+        protected void write(final int value) {
+            target.write(value);
+        }
+
+        private final ByteArrayOutputStream target = new ByteArrayOutputStream();
+    }
+
+    @Test
+    void writeUnsignedLongMatchesBitByBitValues() throws IOException {
+        final RecordingBitOutput output = new RecordingBitOutput();
+        final RecordingBitOutput expected = new RecordingBitOutput();
+        for (int i = 0; i < 1024; i++) {
+            final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+            final long value = ThreadLocalRandom.current().nextLong();
+            output.writeUnsignedLong(size, value);
+            for (int j = size - 1; j >= 0; j--) {
+                expected.writeBoolean(((value >> j) & 0x01L) == 0x01L);
+            }
+            assertEquals(expected.getCount(), output.getCount());
+        }
+        assertEquals(expected.align(1), output.align(1));
+        assertArrayEquals(expected.target.toByteArray(), output.target.toByteArray());
+    }
+
+    @Test
+    void writeArraysMatchSingleValueWrites() throws IOException {
+        for (int size = 1; size <= Long.SIZE; size++) {
+            for (final int offset : new int[]{0, 5}) {
+                final RecordingBitOutput actual = new RecordingBitOutput();
+                final RecordingBitOutput expected = new RecordingBitOutput();
+                if (offset > 0) {
+                    actual.writeUnsignedInt(offset, 1);
+                    expected.writeUnsignedInt(offset, 1);
+                }
+                final long[] longs = new long[10];
+                final int[] ints = new int[10];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = ThreadLocalRandom.current().nextLong();
+                    ints[i] = (int) longs[i];
+                }
+                if (size < Long.SIZE) {
+                    actual.writeUnsignedLongs(size, longs, 1, 8);
+                    for (int i = 1; i <= 8; i++) {
+                        expected.writeUnsignedLong(size, longs[i]);
+                    }
+                }
+                actual.writeLongs(size, longs, 1, 8);
+                for (int i = 1; i <= 8; i++) {
+                    expected.writeLong(size, longs[i]);
+                }
+                if (size <= Integer.SIZE) {
+                    if (size < Integer.SIZE) {
+                        actual.writeUnsignedInts(size, ints, 2, 8);
+                        for (int i = 2; i < 10; i++) {
+                            expected.writeUnsignedInt(size, ints[i]);
+                        }
+                    }
+                    actual.writeInts(size, ints, 2, 8);
+                    for (int i = 2; i < 10; i++) {
+                        expected.writeInt(size, ints[i]);
+                    }
+                }
+                assertEquals(expected.getCount(), actual.getCount());
+                assertEquals(expected.align(1), actual.align(1));
+                assertArrayEquals(expected.target.toByteArray(), actual.target.toByteArray());
+            }
+        }
+        final RecordingBitOutput output = new RecordingBitOutput();
+        assertThrows(IllegalArgumentException.class, () -> output.writeUnsignedLongs(Long.SIZE, new long[1], 0, 1));
+        assertThrows(NullPointerException.class, () -> output.writeInts(1, null, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> output.writeInts(1, new int[1], 0, 2));
+    }
+
+    @Test
+    void writeUnaryWritesRunFollowedByStopBit() throws IOException {
+        final RecordingBitOutput output = new RecordingBitOutput();
+        final RecordingBitOutput expected = new RecordingBitOutput();
+        for (int i = 0; i < 256; i++) {
+            final long count = ThreadLocalRandom.current().nextInt(i % 8 == 0 ? 256 : 16);
+            final int bit = ThreadLocalRandom.current().nextInt(2);
+            output.writeUnary(count, bit);
+            for (long j = 0L; j < count; j++) {
+                expected.writeBoolean(bit == 1);
+            }
+            expected.writeBoolean(bit == 0);
+            output.writeUnsignedInt(3, i);
+            expected.writeUnsignedInt(3, i);
+        }
+        assertEquals(expected.align(1), output.align(1));
+        assertArrayEquals(expected.target.toByteArray(), output.target.toByteArray());
+        assertThrows(IllegalArgumentException.class, () -> output.writeUnary(-1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> output.writeUnary(0L, 2));
+    }
+
+    @Test
+    void writesEachOctetAsSoonAsItIsComplete() throws IOException {
+        final RecordingBitOutput output = new RecordingBitOutput();
+        output.writeUnsignedInt(3, 0x07);
+        assertEquals(0, output.target.size());
+        output.writeUnsignedInt(31, 0);
+        assertEquals(4, output.target.size());
+        output.writeLong(64, -1L);
+        assertEquals(12, output.target.size());
+        assertEquals(12L, output.getCount());
+        assertEquals(6L, output.align(1));
+        assertEquals(13, output.target.size());
+    }
+
+    @Test
+    void writeMultiOctetValuesAlignedAndMisaligned() throws IOException {
+        for (final int offset : new int[]{0, 3}) {
+            final RecordingBitOutput output = new RecordingBitOutput();
+            final RecordingBitOutput expected = new RecordingBitOutput();
+            if (offset > 0) {
+                output.writeUnsignedInt(offset, 1);
+                expected.writeUnsignedInt(offset, 1);
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate(64);
+            final long value = ThreadLocalRandom.current().nextLong();
+            output.writeShort16((short) value);
+            buffer.order(ByteOrder.BIG_ENDIAN).putShort((short) value);
+            output.writeShort16Le((short) value);
+            buffer.order(ByteOrder.LITTLE_ENDIAN).putShort((short) value);
+            output.writeInt32((int) value);
+            buffer.order(ByteOrder.BIG_ENDIAN).putInt((int) value);
+            output.writeInt32Le((int) value);
+            buffer.order(ByteOrder.LITTLE_ENDIAN).putInt((int) value);
+            output.writeLong64(value);
+            buffer.order(ByteOrder.BIG_ENDIAN).putLong(value);
+            output.writeLong64Le(value);
+            buffer.order(ByteOrder.LITTLE_ENDIAN).putLong(value);
+            output.writeDouble64Le(Double.longBitsToDouble(value));
+            buffer.order(ByteOrder.LITTLE_ENDIAN).putLong(value);
+            for (int i = 0; i < buffer.position(); i++) {
+                expected.writeUnsignedInt(Byte.SIZE, buffer.get(i));
+            }
+            assertEquals(expected.align(1), output.align(1));
+            assertEquals(expected.getCount(), output.getCount());
+            assertArrayEquals(expected.target.toByteArray(), output.target.toByteArray());
+        }
+    }
+
+    @Test
+    void writeIntWritesSignFlagFollowedByLowerBits() throws IOException {
+        final RecordingBitOutput output = new RecordingBitOutput();
+        output.writeInt(4, 8);   // 0 000
+        output.writeInt(4, -8);  // 1 000
+        output.writeLong(4, 9L); // 0 001
+        output.writeLong(4, -1L); // 1 111
+        assertArrayEquals(new byte[]{(byte) 0x08, (byte) 0x1F}, output.target.toByteArray());
+    }
+
+    @Test
+    void writeLsbFirstMatchesBitByBitValues() throws IOException {
+        final RecordingBitOutput output = new RecordingBitOutput(BitOrder.LSB_FIRST);
+        final RecordingBitOutput expected = new RecordingBitOutput(BitOrder.LSB_FIRST);
+        assertEquals(BitOrder.LSB_FIRST, output.getBitOrder());
+        for (int i = 0; i < 1024; i++) {
+            final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+            final long value = ThreadLocalRandom.current().nextLong();
+            output.writeUnsignedLong(size, value);
+            for (int j = 0; j < size; j++) {
+                expected.writeBoolean(((value >> j) & 0x01L) == 0x01L);
+            }
+            final long count = ThreadLocalRandom.current().nextInt(i % 8 == 0 ? 128 : 8);
+            final int bit = ThreadLocalRandom.current().nextInt(2);
+            output.writeUnary(count, bit);
+            for (long j = 0L; j < count; j++) {
+                expected.writeBoolean(bit == 1);
+            }
+            expected.writeBoolean(bit == 0);
+            assertEquals(expected.getCount(), output.getCount());
+        }
+        assertEquals(expected.align(1), output.align(1));
+        assertArrayEquals(expected.target.toByteArray(), output.target.toByteArray());
+    }
+
+    @Test
+    void writeLsbFirstOctetsAsLittleEndian() throws IOException {
+        final RecordingBitOutput output = new RecordingBitOutput(BitOrder.LSB_FIRST);
+        final ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        final long value = ThreadLocalRandom.current().nextLong();
+        output.writeShort16((short) value);
+        buffer.putShort((short) value);
+        output.writeInt32((int) value);
+        buffer.putInt((int) value);
+        output.writeLong64(value);
+        buffer.putLong(value);
+        output.writeLong(Long.SIZE, value);
+        buffer.putLong(value);
+        output.writeLongs(Long.SIZE, new long[]{value, ~value}, 0, 2);
+        buffer.putLong(value).putLong(~value);
+        assertArrayEquals(Arrays.copyOf(buffer.array(), buffer.position()), output.target.toByteArray());
+        // three bits of 5 followed by five bits of 3, as in a DEFLATE block header
+        final RecordingBitOutput deflate = new RecordingBitOutput(BitOrder.LSB_FIRST);
+        deflate.writeUnsignedInt(3, 5);
+        deflate.writeUnsignedInt(5, 3);
+        assertArrayEquals(new byte[]{0x1D}, deflate.target.toByteArray());
+    }
+
+    @Test
+    void writeThenReadLsbFirstRoundTrips() throws IOException {
+        final byte[] target = new byte[16384];
+        final ArrayBitOutput output = new ArrayBitOutput(target, 0, target.length, BitOrder.LSB_FIRST);
+        final int[] sizes = new int[1024];
+        final long[] values = new long[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+            values[i] = ThreadLocalRandom.current().nextLong() & ((1L << sizes[i]) - 1L);
+            output.writeUnsignedLong(sizes[i], values[i]);
+        }
+        output.align(1);
+        final BitInput input = BitInputs.from(target, BitOrder.LSB_FIRST);
+        for (int i = 0; i < sizes.length; i++) {
+            assertEquals(values[i], input.readUnsignedLong(sizes[i]));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link ArrayBitInput} class.
+ *
+ * @see ArrayBitOutputTest
+ */
+class ArrayBitInputTest {
+
+    @Test
+    void readsWithinRange() throws IOException {
+        final byte[] source = {0x00, 0x12, 0x34, 0x56, 0x78, (byte) 0x9A, 0x00};
+        final ArrayBitInput input = new ArrayBitInput(source, 1, 5);
+        assertEquals(1, input.getIndex());
+        assertEquals(0x1, input.readUnsignedInt(4));
+        assertEquals(0x23456789, input.readInt32());
+        assertEquals(0xA, input.readUnsignedInt(4));
+        assertEquals(6, input.getIndex());
+        assertEquals(5L, input.getCount());
+        assertThrows(EOFException.class, input::readBoolean);
+    }
+
+    @Test
+    void bulkReadBeyondLimitCopiesNothing() throws IOException {
+        final ArrayBitInput input = new ArrayBitInput(new byte[]{0x01, 0x02, 0x03, 0x04});
+        input.readUnsignedInt(8);
+        assertThrows(EOFException.class, input::readLong64);
+        assertEquals(1, input.getIndex());
+        assertEquals(0x020304, input.readUnsignedInt(24));
+    }
+
+    @Test
+    void skipAndAlignMoveIndex() throws IOException {
+        final byte[] source = new byte[1024];
+        source[1000] = 0x7F;
+        final ArrayBitInput input = new ArrayBitInput(source);
+        input.readUnsignedInt(3);
+        input.skip(8L * 990 + 5);
+        assertEquals(991, input.getIndex());
+        assertEquals(9L * Byte.SIZE, input.align(1000));
+        assertEquals(1000, input.getIndex());
+        assertEquals(0x7F, input.readUnsignedInt(8));
+        assertThrows(EOFException.class, () -> input.skip(8L * 24 + 1));
+        assertEquals(1001, input.getIndex());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new ArrayBitInput(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ArrayBitInput(new byte[1], -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ArrayBitInput(new byte[1], 1, 1));
+    }
+
+    @Test
+    void returnedByBitInputs() {
+        assertEquals(ArrayBitInput.class, BitInputs.from(new byte[0]).getClass());
+        assertEquals(ArrayBitInput.class, BitInputs.from(new byte[1], 0, 1).getClass());
+    }
+
+    @Test
+    void seekAndResetMoveWithinRange() throws IOException {
+        final byte[] source = {0x00, 0x12, 0x34, 0x56, 0x78, (byte) 0x9A, 0x00};
+        final ArrayBitInput input = new ArrayBitInput(source, 1, 5);
+        input.readUnsignedInt(4);
+        input.mark();
+        assertEquals(4L, input.getPosition());
+        assertEquals(0x2345, input.readUnsignedInt(16));
+        assertEquals(20L, input.getPosition());
+        input.reset();
+        assertEquals(4L, input.getPosition());
+        assertEquals(1L, input.getCount());
+        assertEquals(0x2345, input.readUnsignedInt(16));
+        input.seek(36L);
+        assertEquals(6, input.getIndex()); // the octet holding the position is taken in
+        assertEquals(0xA, input.readUnsignedInt(4));
+        input.seek(0L);
+        assertEquals(0x12, input.readUnsignedInt(8));
+        input.seek(40L);
+        assertThrows(EOFException.class, input::readBoolean);
+        assertThrows(IllegalArgumentException.class, () -> input.seek(-1L));
+        assertThrows(IllegalArgumentException.class, () -> input.seek(41L));
+    }
+
+    @Test
+    void bulkReadsHandedToUnpacker() throws IOException {
+        final byte[] source = new byte[512];
+        ThreadLocalRandom.current().nextBytes(source);
+        final int[] calls = new int[1];
+        final BitUnpacker unpacker = new BitUnpacker() {
+            @Override
+            public void unpack(final int size, final boolean signed, final byte[] src, final int index,
+                               final int[] dst, final int off, final int len) {
+                calls[0]++;
+                final ArrayBitInput input = new ArrayBitInput(src, index, src.length - index);
+                try {
+                    for (int i = off; i < off + len; i++) {
+                        dst[i] = signed ? input.readInt(size) : input.readUnsignedInt(size);
+                    }
+                } catch (final IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+
+            @Override
+            public void unpack(final int size, final boolean signed, final byte[] src, final int index,
+                               final long[] dst, final int off, final int len) {
+                calls[0]++;
+                final ArrayBitInput input = new ArrayBitInput(src, index, src.length - index);
+                try {
+                    for (int i = off; i < off + len; i++) {
+                        dst[i] = signed ? input.readLong(size) : input.readUnsignedLong(size);
+                    }
+                } catch (final IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+        };
+        for (int size = 1; size < Integer.SIZE; size++) {
+            final ArrayBitInput expected = new ArrayBitInput(source);
+            final ArrayBitInput actual = new ArrayBitInput(source);
+            actual.setUnpacker(unpacker);
+            final int[] expectedInts = new int[13];
+            final int[] actualInts = new int[13];
+            expected.readUnsignedInts(size, expectedInts, 1, 11);
+            actual.readUnsignedInts(size, actualInts, 1, 11);
+            expected.readInts(size + 1, expectedInts, 0, 13);
+            actual.readInts(size + 1, actualInts, 0, 13); // misaligned unless size + 1 fills whole octets
+            assertArrayEquals(expectedInts, actualInts);
+            expected.align(1);
+            actual.align(1);
+            final long[] expectedLongs = new long[9];
+            final long[] actualLongs = new long[9];
+            expected.readLongs(size * 2, expectedLongs, 0, 9);
+            actual.readLongs(size * 2, actualLongs, 0, 9);
+            assertArrayEquals(expectedLongs, actualLongs);
+            assertEquals(expected.readUnsignedInt(7), actual.readUnsignedInt(7));
+            assertEquals(expected.getCount(), actual.getCount());
+            assertEquals(expected.getIndex(), actual.getIndex());
+        }
+        assertTrue(calls[0] > 0);
+        final ArrayBitInput lsbFirst = new ArrayBitInput(source, 0, source.length, BitOrder.LSB_FIRST);
+        lsbFirst.setUnpacker(unpacker);
+        calls[0] = 0;
+        lsbFirst.readUnsignedInts(Byte.SIZE, new int[8], 0, 8);
+        assertEquals(0, calls[0]);
+    }
+}
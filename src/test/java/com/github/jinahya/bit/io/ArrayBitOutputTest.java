@@ -0,0 +1,146 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link ArrayBitOutput} class.
+ *
+ * @see ArrayBitInputTest
+ */
+class ArrayBitOutputTest {
+
+    @Test
+    void writesWithinRange() throws IOException {
+        final byte[] target = new byte[7];
+        final ArrayBitOutput output = new ArrayBitOutput(target, 1, 5);
+        output.writeUnsignedInt(4, 0x1);
+        output.writeInt32(0x23456789);
+        output.writeUnsignedInt(4, 0xA);
+        assertEquals(6, output.getIndex());
+        assertEquals(5L, output.getCount());
+        assertArrayEquals(new byte[]{0x00, 0x12, 0x34, 0x56, 0x78, (byte) 0x9A, 0x00}, target);
+        assertThrows(IOException.class, () -> output.writeUnsignedInt(8, 0));
+    }
+
+    @Test
+    void bulkWriteBeyondLimitCopiesNothing() throws IOException {
+        final byte[] target = new byte[4];
+        final ArrayBitOutput output = new ArrayBitOutput(target);
+        output.writeUnsignedInt(8, 0x01);
+        assertThrows(IOException.class, () -> output.writeLong64(-1L));
+        assertEquals(1, output.getIndex());
+        assertArrayEquals(new byte[]{0x01, 0x00, 0x00, 0x00}, target);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new ArrayBitOutput(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ArrayBitOutput(new byte[1], 0, 2));
+    }
+
+    @Test
+    void returnedByBitOutputs() {
+        assertEquals(ArrayBitOutput.class, BitOutputs.from(new byte[0]).getClass());
+        assertEquals(ArrayBitOutput.class, BitOutputs.from(new byte[1], 1, 0).getClass());
+    }
+
+    @Test
+    void bulkWritesHandedToPacker() throws IOException {
+        final int[] calls = new int[1];
+        final BitPacker packer = new BitPacker() {
+            @Override
+            public void pack(final int size, final boolean signed, final int[] src, final int off, final int len,
+                             final byte[] dst, final int index) {
+                calls[0]++;
+                final ArrayBitOutput output = new ArrayBitOutput(dst, index, dst.length - index);
+                try {
+                    for (int i = off; i < off + len; i++) {
+                        if (signed) {
+                            output.writeInt(size, src[i]);
+                        } else {
+                            output.writeUnsignedInt(size, src[i]);
+                        }
+                    }
+                } catch (final IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+
+            @Override
+            public void pack(final int size, final boolean signed, final long[] src, final int off, final int len,
+                             final byte[] dst, final int index) {
+                calls[0]++;
+                final ArrayBitOutput output = new ArrayBitOutput(dst, index, dst.length - index);
+                try {
+                    for (int i = off; i < off + len; i++) {
+                        if (signed) {
+                            output.writeLong(size, src[i]);
+                        } else {
+                            output.writeUnsignedLong(size, src[i]);
+                        }
+                    }
+                } catch (final IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+        };
+        for (int size = 1; size < Integer.SIZE; size++) {
+            final byte[] expectedTarget = new byte[512];
+            final byte[] actualTarget = new byte[512];
+            final ArrayBitOutput expected = new ArrayBitOutput(expectedTarget);
+            final ArrayBitOutput actual = new ArrayBitOutput(actualTarget);
+            actual.setPacker(packer);
+            final int[] ints = new int[13];
+            final long[] longs = new long[9];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = ThreadLocalRandom.current().nextInt() & ((1 << size) - 1);
+            }
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = ThreadLocalRandom.current().nextLong();
+            }
+            expected.writeUnsignedInts(size, ints, 1, 11);
+            actual.writeUnsignedInts(size, ints, 1, 11);
+            expected.writeInts(size + 1, ints, 0, 13);
+            actual.writeInts(size + 1, ints, 0, 13); // misaligned unless size + 1 fills whole octets
+            expected.align(1);
+            actual.align(1);
+            expected.writeLongs(size * 2, longs, 0, 9);
+            actual.writeLongs(size * 2, longs, 0, 9);
+            expected.writeUnsignedInt(7, size);
+            actual.writeUnsignedInt(7, size);
+            assertEquals(expected.align(1), actual.align(1));
+            assertEquals(expected.getCount(), actual.getCount());
+            assertEquals(expected.getIndex(), actual.getIndex());
+            assertArrayEquals(expectedTarget, actualTarget);
+        }
+        assertTrue(calls[0] > 0);
+    }
+}
@@ -95,4 +95,20 @@ class ArrayByteInputTest {
         assertThrows(ArrayIndexOutOfBoundsException.class, input::read);
         assertEquals(2, input.index);
     }
+
+    // ------------------------------------------------------------------------------------------------------ retarget
+    @Test
+    void retargetsToRange() throws IOException {
+        final ArrayByteInput input = new ArrayByteInput(new byte[]{0x00});
+        final byte[] source = {0x00, 0x01, 0x02, 0x03};
+
+        input.retarget(source, 1, 2);
+        assertEquals(1, input.index);
+        assertEquals(0x01, input.read());
+        assertEquals(0x02, input.read());
+        assertThrows(ArrayIndexOutOfBoundsException.class, input::read);
+        input.retarget(source, 0, 4);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> input.read(new byte[5], 0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> input.retarget(source, 3, 2));
+    }
 }
@@ -99,4 +99,19 @@ class ArrayByteOutputTest {
         assertThrows(ArrayIndexOutOfBoundsException.class, () -> output.write(0x7F));
         assertEquals(2, output.index);
     }
+
+    @Test
+    void retargetsToRange() throws IOException {
+        final ArrayByteOutput output = new ArrayByteOutput(new byte[1]);
+        final byte[] target = new byte[4];
+
+        output.retarget(target, 1, 2);
+        output.write(0x01);
+        output.write(0x02);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> output.write(0x03));
+        assertArrayEquals(new byte[]{0x00, 0x01, 0x02, 0x00}, target);
+        output.retarget(target, 2, 2);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> output.write(new byte[3], 0, 3));
+        assertThrows(NullPointerException.class, () -> output.retarget(null, 0, 0));
+    }
 }
@@ -0,0 +1,94 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link BinaryUtils} class against the intrinsics of the JDK and {@link ByteBuffer}.
+ *
+ * <p>The default test run checks the baseline class. The {@code multi-release} profile runs this class once more,
+ * with the {@code bit-io.overlay} system property set to {@code 9}, against the {@code META-INF/versions/9} overlay
+ * compiled into {@code target/classes-java9}.</p>
+ */
+class BinaryUtilsTest {
+
+    @Test
+    void loadedFromOverlayWhenRequested() {
+        final String overlay = System.getProperty("bit-io.overlay");
+        final String location = BinaryUtils.class.getProtectionDomain().getCodeSource().getLocation().toString();
+        if (overlay == null) {
+            assertFalse(location.contains("classes-java"), location);
+            return;
+        }
+        assertTrue(location.replace('\\', '/').contains("/classes-java" + overlay + "/"), location);
+    }
+
+    @Test
+    void reverseBytesMatchesIntrinsics() {
+        for (int i = 0; i < 1024; i++) {
+            final long value = ThreadLocalRandom.current().nextLong();
+            assertEquals(Short.reverseBytes((short) value), BinaryUtils.reverseBytes((short) value));
+            assertEquals(Integer.reverseBytes((int) value), BinaryUtils.reverseBytes((int) value));
+            assertEquals(Long.reverseBytes(value), BinaryUtils.reverseBytes(value));
+            assertEquals(Character.reverseBytes((char) value), BinaryUtils.reverseBytes((char) value));
+        }
+    }
+
+    @Test
+    void highestOneBitIndexMatchesNumberOfLeadingZeros() {
+        assertEquals(-1, BinaryUtils.highestOneBitIndex(0));
+        assertEquals(-1, BinaryUtils.highestOneBitIndex(0L));
+        for (int i = 0; i < 1024; i++) {
+            final long value = ThreadLocalRandom.current().nextLong() >>> ThreadLocalRandom.current().nextInt(64);
+            assertEquals(63 - Long.numberOfLeadingZeros(value), BinaryUtils.highestOneBitIndex(value));
+            assertEquals(31 - Integer.numberOfLeadingZeros((int) value), BinaryUtils.highestOneBitIndex((int) value));
+        }
+    }
+
+    @Test
+    void putOctetsThenGetOctetsMatchesByteBuffer() {
+        for (final boolean littleEndian : new boolean[]{false, true}) {
+            final ByteOrder order = littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            for (int i = 0; i < 1024; i++) {
+                final long value = ThreadLocalRandom.current().nextLong();
+                final byte[] array = new byte[Long.SIZE / Byte.SIZE];
+                BinaryUtils.putOctets(array, 2, value, littleEndian);
+                assertEquals((short) value, ByteBuffer.wrap(array).order(order).getShort());
+                assertEquals(value & 0xFFFFL, BinaryUtils.getOctets(array, 2, littleEndian));
+                BinaryUtils.putOctets(array, 4, value, littleEndian);
+                assertEquals((int) value, ByteBuffer.wrap(array).order(order).getInt());
+                assertEquals(value & 0xFFFFFFFFL, BinaryUtils.getOctets(array, 4, littleEndian));
+                BinaryUtils.putOctets(array, 8, value, littleEndian);
+                assertEquals(value, ByteBuffer.wrap(array).order(order).getLong());
+                assertEquals(value, BinaryUtils.getOctets(array, 8, littleEndian));
+            }
+        }
+    }
+}
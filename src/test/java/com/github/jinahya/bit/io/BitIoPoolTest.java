@@ -0,0 +1,120 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link BitIoPool} class.
+ */
+class BitIoPoolTest {
+
+    @Test
+    void releasedInstancesAreReusedAndStartOver() throws IOException {
+        final BitIoPool pool = new BitIoPool(1);
+        final ArrayBitInput input = pool.input(new byte[]{(byte) 0xFF, 0x00}, 0, 2);
+        input.readUnsignedInt(3);
+        input.mark();
+        pool.release(input);
+        final ArrayBitInput reused = pool.input(new byte[]{0x00, 0x12, 0x34}, 1, 2);
+        assertSame(input, reused);
+        assertEquals(0L, reused.getCount());
+        assertEquals(0x1234, reused.readUnsignedInt(16));
+        assertThrows(EOFException.class, reused::readBoolean);
+        reused.reset();
+        assertEquals(0x12, reused.readUnsignedInt(8));
+
+        final byte[] target = new byte[2];
+        final ArrayBitOutput output = pool.output(new byte[1], 0, 1);
+        output.writeUnsignedInt(5, 0x1F); // not aligned, thus lost
+        pool.release(output);
+        assertSame(output, pool.output(target, 0, 2));
+        output.writeUnsignedInt(12, 0xABC);
+        output.align(1);
+        assertEquals(2L, output.getCount());
+        assertArrayEquals(new byte[]{(byte) 0xAB, (byte) 0xC0}, target);
+    }
+
+    @Test
+    void buffersAreReused() throws IOException {
+        final BitIoPool pool = new BitIoPool(1, BitOrder.LSB_FIRST);
+        final BufferBitOutput output = pool.output(ByteBuffer.allocate(1));
+        pool.release(output);
+        final ByteBuffer buffer = ByteBuffer.allocate(2);
+        assertSame(output, pool.output(buffer));
+        output.writeUnsignedInt(16, 0x1234);
+        assertArrayEquals(new byte[]{0x34, 0x12}, buffer.array());
+
+        final BufferBitInput input = pool.input(ByteBuffer.allocate(1));
+        pool.release(input);
+        buffer.flip();
+        assertSame(input, pool.input(buffer));
+        assertEquals(0x1234, input.readUnsignedInt(16));
+    }
+
+    @Test
+    void keepsUpToCapacity() {
+        final BitIoPool pool = new BitIoPool(1);
+        final ArrayBitInput first = pool.input(new byte[1], 0, 1);
+        final ArrayBitInput second = pool.input(new byte[1], 0, 1);
+        assertNotSame(first, second);
+        pool.release(first);
+        pool.release(second); // dropped
+        assertSame(first, pool.input(new byte[1], 0, 1));
+        assertNotSame(second, pool.input(new byte[1], 0, 1));
+    }
+
+    @Test
+    void rejectsDoubleRelease() {
+        final BitIoPool pool = new BitIoPool(2);
+        final ArrayBitInput input = pool.input(new byte[1], 0, 1);
+        pool.release(input);
+        assertThrows(IllegalStateException.class, () -> pool.release(input));
+        final BufferBitOutput output = pool.output(ByteBuffer.allocate(1));
+        pool.release(output);
+        assertThrows(IllegalStateException.class, () -> pool.release(output));
+        assertSame(input, pool.input(new byte[1], 0, 1));
+        assertNotSame(input, pool.input(new byte[1], 0, 1));
+        pool.release(input); // taken again since
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        final BitIoPool pool = new BitIoPool(2);
+        assertThrows(IllegalArgumentException.class, () -> new BitIoPool(0));
+        assertThrows(NullPointerException.class, () -> new BitIoPool(1, null));
+        assertThrows(NullPointerException.class, () -> pool.input(null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> pool.output(new byte[1], 1, 1));
+        assertThrows(NullPointerException.class, () -> pool.release((BufferBitInput) null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> pool.release(new ArrayBitInput(new byte[1], 0, 1, BitOrder.LSB_FIRST)));
+    }
+}
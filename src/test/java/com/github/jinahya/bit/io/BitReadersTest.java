@@ -0,0 +1,89 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing the pre-validated readers of {@link BitReaders} class.
+ *
+ * @see BitWritersTest
+ */
+class BitReadersTest {
+
+    @Test
+    void readersMatchValidatingReads() throws IOException {
+        final byte[] source = new byte[65536];
+        ThreadLocalRandom.current().nextBytes(source);
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            final BitInput actual = BitInputs.from(source, bitOrder);
+            final BitInput expected = BitInputs.from(source, bitOrder);
+            for (int i = 0; i < 1024; i++) {
+                final int intSize = ThreadLocalRandom.current().nextInt(1, Integer.SIZE);
+                assertEquals(expected.readUnsignedInt(intSize), actual.readInt(BitReaders.unsignedIntReader(intSize)));
+                assertEquals(expected.readInt(intSize + 1), actual.readInt(BitReaders.intReader(intSize + 1)));
+                final int longSize = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                assertEquals(expected.readUnsignedLong(longSize),
+                             actual.readLong(BitReaders.unsignedLongReader(longSize)));
+                assertEquals(expected.readLong(longSize + 1), actual.readLong(BitReaders.longReader(longSize + 1)));
+                final int floatExponentSize = ThreadLocalRandom.current().nextInt(2, 9);
+                final int floatFractionSize = ThreadLocalRandom.current().nextInt(2, 24);
+                assertEquals(Float.floatToRawIntBits(expected.readFloat(floatExponentSize, floatFractionSize)),
+                             Float.floatToRawIntBits(actual.readFloat(
+                                     BitReaders.floatReader(floatExponentSize, floatFractionSize))));
+                final int doubleExponentSize = ThreadLocalRandom.current().nextInt(2, 12);
+                final int doubleFractionSize = ThreadLocalRandom.current().nextInt(2, 53);
+                assertEquals(Double.doubleToRawLongBits(expected.readDouble(doubleExponentSize, doubleFractionSize)),
+                             Double.doubleToRawLongBits(actual.readDouble(
+                                     BitReaders.doubleReader(doubleExponentSize, doubleFractionSize))));
+            }
+        }
+    }
+
+    @Test
+    void readFloatMatchesSeparateFields() throws IOException {
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            final byte[] target = new byte[16];
+            final BitOutput output = BitOutputs.from(target, bitOrder);
+            output.writeUnsignedInt(1, 1);   // sign
+            output.writeUnsignedInt(5, 16);  // exponent; 16 - 15 = 1
+            output.writeUnsignedInt(10, 512); // fraction; 0.5
+            output.align(1);
+            assertEquals(-3.0f, BitInputs.from(target, bitOrder).readFloat(5, 10));
+            assertEquals(-3.0f, BitReaders.floatReader(5, 10).readFloat(BitInputs.from(target, bitOrder)));
+        }
+    }
+
+    @Test
+    void rejectsInvalidSizesOnce() {
+        assertThrows(IllegalArgumentException.class, () -> BitReaders.unsignedIntReader(Integer.SIZE));
+        assertThrows(IllegalArgumentException.class, () -> BitReaders.intReader(0));
+        assertThrows(IllegalArgumentException.class, () -> BitReaders.unsignedLongReader(Long.SIZE));
+        assertThrows(IllegalArgumentException.class, () -> BitReaders.longReader(Long.SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> BitReaders.floatReader(9, 2));
+        assertThrows(IllegalArgumentException.class, () -> BitReaders.doubleReader(2, 53));
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing the pre-validated writers of {@link BitWriters} class.
+ *
+ * @see BitReadersTest
+ */
+class BitWritersTest {
+
+    @Test
+    void writersMatchValidatingWrites() throws IOException {
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            final ByteArrayOutputStream actualTarget = new ByteArrayOutputStream();
+            final ByteArrayOutputStream expectedTarget = new ByteArrayOutputStream();
+            final BitOutput actual = BitOutputs.from(actualTarget, bitOrder);
+            final BitOutput expected = BitOutputs.from(expectedTarget, bitOrder);
+            for (int i = 0; i < 1024; i++) {
+                final long value = ThreadLocalRandom.current().nextLong();
+                final int intSize = ThreadLocalRandom.current().nextInt(1, Integer.SIZE);
+                expected.writeUnsignedInt(intSize, (int) value);
+                actual.writeInt(BitWriters.unsignedIntWriter(intSize), (int) value);
+                expected.writeInt(intSize + 1, (int) value);
+                actual.writeInt(BitWriters.intWriter(intSize + 1), (int) value);
+                final int longSize = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                expected.writeUnsignedLong(longSize, value);
+                actual.writeLong(BitWriters.unsignedLongWriter(longSize), value);
+                expected.writeLong(longSize + 1, value);
+                actual.writeLong(BitWriters.longWriter(longSize + 1), value);
+                final int floatExponentSize = ThreadLocalRandom.current().nextInt(2, 9);
+                final int floatFractionSize = ThreadLocalRandom.current().nextInt(2, 24);
+                final float f = Float.intBitsToFloat((int) value);
+                expected.writeFloat(floatExponentSize, floatFractionSize, f);
+                actual.writeFloat(BitWriters.floatWriter(floatExponentSize, floatFractionSize), f);
+                final int doubleExponentSize = ThreadLocalRandom.current().nextInt(2, 12);
+                final int doubleFractionSize = ThreadLocalRandom.current().nextInt(2, 53);
+                final double d = Double.longBitsToDouble(value);
+                expected.writeDouble(doubleExponentSize, doubleFractionSize, d);
+                actual.writeDouble(BitWriters.doubleWriter(doubleExponentSize, doubleFractionSize), d);
+            }
+            expected.align(1);
+            actual.align(1);
+            assertArrayEquals(expectedTarget.toByteArray(), actualTarget.toByteArray());
+        }
+    }
+
+    @Test
+    void rejectsInvalidSizesOnce() {
+        assertThrows(IllegalArgumentException.class, () -> BitWriters.unsignedIntWriter(0));
+        assertThrows(IllegalArgumentException.class, () -> BitWriters.intWriter(Integer.SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> BitWriters.unsignedLongWriter(Long.SIZE));
+        assertThrows(IllegalArgumentException.class, () -> BitWriters.longWriter(0));
+        assertThrows(IllegalArgumentException.class, () -> BitWriters.floatWriter(2, 24));
+        assertThrows(IllegalArgumentException.class, () -> BitWriters.doubleWriter(12, 2));
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link BufferBitInput} class.
+ *
+ * @see BufferBitOutputTest
+ */
+class BufferBitInputTest {
+
+    @Test
+    void readsFromPositionToLimit() throws IOException {
+        final ByteBuffer source = ByteBuffer.wrap(new byte[]{0x00, 0x12, 0x34, 0x56, 0x78, (byte) 0x9A, 0x00});
+        source.position(1).limit(6);
+        final BufferBitInput input = new BufferBitInput(source);
+        assertEquals(0x1, input.readUnsignedInt(4));
+        assertEquals(0x23456789, input.readInt32());
+        assertEquals(0xA, input.readUnsignedInt(4));
+        assertEquals(6, source.position());
+        assertThrows(BufferUnderflowException.class, input::readBoolean);
+    }
+
+    @Test
+    void rejectsNullSource() {
+        assertThrows(NullPointerException.class, () -> new BufferBitInput(null));
+    }
+
+    @Test
+    void returnedByBitInputs() {
+        assertEquals(BufferBitInput.class, BitInputs.from(ByteBuffer.allocate(0)).getClass());
+    }
+
+    @Test
+    void seekIsRelativeToInitialPosition() throws IOException {
+        final ByteBuffer source = ByteBuffer.wrap(new byte[]{0x7F, 0x12, 0x34, 0x56});
+        source.position(1);
+        final BufferBitInput input = new BufferBitInput(source);
+        assertEquals(0x1, input.readUnsignedInt(4));
+        input.mark();
+        assertEquals(0x23, input.readUnsignedInt(8));
+        input.reset();
+        assertEquals(0x234, input.readUnsignedInt(12));
+        assertEquals(16L, input.getPosition());
+        input.seek(20L);
+        assertEquals(4, source.position()); // the octet holding the position is taken in
+        assertEquals(0x6, input.readUnsignedInt(4));
+        assertThrows(IllegalArgumentException.class, () -> input.seek(25L));
+    }
+}
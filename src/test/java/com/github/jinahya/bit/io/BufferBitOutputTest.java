@@ -0,0 +1,63 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link BufferBitOutput} class.
+ *
+ * @see BufferBitInputTest
+ */
+class BufferBitOutputTest {
+
+    @Test
+    void writesFromPositionToLimit() throws IOException {
+        final byte[] array = new byte[7];
+        final ByteBuffer target = ByteBuffer.wrap(array);
+        target.position(1).limit(6);
+        final BufferBitOutput output = new BufferBitOutput(target);
+        output.writeUnsignedInt(4, 0x1);
+        output.writeInt32(0x23456789);
+        output.writeUnsignedInt(4, 0xA);
+        assertEquals(6, target.position());
+        assertArrayEquals(new byte[]{0x00, 0x12, 0x34, 0x56, 0x78, (byte) 0x9A, 0x00}, array);
+        assertThrows(BufferOverflowException.class, () -> output.writeUnsignedInt(8, 0));
+    }
+
+    @Test
+    void rejectsNullTarget() {
+        assertThrows(NullPointerException.class, () -> new BufferBitOutput(null));
+    }
+
+    @Test
+    void returnedByBitOutputs() {
+        assertEquals(BufferBitOutput.class, BitOutputs.from(ByteBuffer.allocate(0)).getClass());
+    }
+}
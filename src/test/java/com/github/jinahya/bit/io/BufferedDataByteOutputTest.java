@@ -0,0 +1,63 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for unit-testing {@link BufferedDataByteOutput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see DataByteInputTest
+ */
+class BufferedDataByteOutputTest {
+
+    @Test
+    void writesBytesThroughBufferAndFlushes() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final BufferedDataByteOutput output = new BufferedDataByteOutput(new DataOutputStream(bytes), 4);
+        output.write(0x01);
+        output.write(new byte[]{0x02, 0x03}, 0, 2);
+        assertEquals(0, bytes.size());
+        output.write(0x04);
+        assertEquals(4, bytes.size());
+        output.write(new byte[]{0x05, 0x06, 0x07, 0x08, 0x09}, 0, 5);
+        output.write(0x0A);
+        assertEquals(9, bytes.size());
+        output.flush();
+        assertArrayEquals(new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A}, bytes.toByteArray());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new BufferedDataByteOutput(null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new BufferedDataByteOutput(new DataOutputStream(new ByteArrayOutputStream()), 0));
+    }
+}
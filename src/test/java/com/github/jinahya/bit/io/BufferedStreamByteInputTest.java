@@ -0,0 +1,105 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for unit-testing {@link BufferedStreamByteInput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferedStreamByteOutputTest
+ */
+class BufferedStreamByteInputTest {
+
+    /**
+     * A stream which counts invocations of its bulk read method and hands out at most three bytes each.
+     */
+    private static final class TrickleInputStream
+            extends ByteArrayInputStream {
+
+        private TrickleInputStream(final byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read() {
+            throw new AssertionError("single-byte read");
+        }
+
+        @Override
+        public synchronized int read(final byte[] b, final int off, final int len) {
+            reads++;
+            return super.read(b, off, Math.min(len, 3));
+        }
+
+        private int reads;
+    }
+
+    @Test
+    void readsBytesThroughBufferInBulk() throws IOException {
+        final byte[] source = new byte[64];
+        ThreadLocalRandom.current().nextBytes(source);
+        final TrickleInputStream stream = new TrickleInputStream(source);
+        final BufferedStreamByteInput input = new BufferedStreamByteInput(stream, 16);
+        assertEquals(source[0] & 0xFF, input.read());
+        assertEquals(1, stream.reads);
+        assertEquals(source[1] & 0xFF, input.read());
+        assertEquals(source[2] & 0xFF, input.read());
+        assertEquals(1, stream.reads);
+        final byte[] dst = new byte[40];
+        input.read(dst, 0, dst.length); // straight from the stream, past the buffer
+        assertArrayEquals(Arrays.copyOfRange(source, 3, 43), dst);
+        input.skip(5L);
+        input.read(dst, 0, 10);
+        assertArrayEquals(Arrays.copyOfRange(source, 48, 58), Arrays.copyOf(dst, 10));
+        input.skip(5L);
+        assertEquals(source[63] & 0xFF, input.read());
+        assertThrows(EOFException.class, input::read);
+        assertThrows(EOFException.class, () -> input.read(new byte[1], 0, 1));
+    }
+
+    @Test
+    void bitInputsFromInputStreamReadsThroughBuffer() throws IOException {
+        final TrickleInputStream stream = new TrickleInputStream(new byte[]{(byte) 0xCA, (byte) 0xFE, 0x00});
+        final BitInput input = BitInputs.from(stream);
+        assertEquals(0xCA, input.readUnsignedInt(8));
+        assertEquals(0xFE, input.readUnsignedInt(8));
+        assertEquals(1, stream.reads);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new BufferedStreamByteInput(null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new BufferedStreamByteInput(new ByteArrayInputStream(new byte[0]), 0));
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for unit-testing {@link BufferedStreamByteOutput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BufferedStreamByteInputTest
+ */
+class BufferedStreamByteOutputTest {
+
+    /**
+     * A stream which counts invocations of its bulk write method and rejects single-byte writes.
+     */
+    private static final class CountingOutputStream
+            extends ByteArrayOutputStream {
+
+        @Override
+        public synchronized void write(final int b) {
+            throw new AssertionError("single-byte write");
+        }
+
+        @Override
+        public synchronized void write(final byte[] b, final int off, final int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private int writes;
+
+        private boolean closed;
+    }
+
+    @Test
+    void writesBytesThroughBufferInBulk() throws IOException {
+        final byte[] source = new byte[64];
+        ThreadLocalRandom.current().nextBytes(source);
+        final CountingOutputStream stream = new CountingOutputStream();
+        final BufferedStreamByteOutput output = new BufferedStreamByteOutput(stream, 16);
+        for (int i = 0; i < 15; i++) {
+            output.write(source[i]);
+        }
+        assertEquals(0, stream.writes);
+        output.write(source[15]); // fills the buffer
+        assertEquals(1, stream.writes);
+        output.write(source, 16, 4);
+        output.write(source, 20, 30); // drains the buffer, then straight to the stream
+        assertEquals(3, stream.writes);
+        output.write(source, 50, 14);
+        assertEquals(50, stream.size());
+        output.flush();
+        assertArrayEquals(source, stream.toByteArray());
+        output.close();
+        assertTrue(stream.closed);
+    }
+
+    @Test
+    void bitOutputsFromOutputStreamWritesOnFlushAndClose() throws IOException {
+        final CountingOutputStream stream = new CountingOutputStream();
+        final BitOutput output = BitOutputs.from(stream);
+        output.writeUnsignedInt(16, 0xCAFE);
+        assertEquals(0, stream.size());
+        output.flush();
+        assertEquals(1, stream.writes);
+        output.writeUnsignedInt(3, 0x07);
+        output.close();
+        assertArrayEquals(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xE0}, stream.toByteArray());
+        assertTrue(stream.closed);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new BufferedStreamByteOutput(null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new BufferedStreamByteOutput(new ByteArrayOutputStream(), 0));
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> new BufferedStreamByteOutput(new ByteArrayOutputStream()).write(new byte[1], 1, 1));
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link ByteBufferPool} class.
+ *
+ * @see BitIoPoolTest
+ */
+class ByteBufferPoolTest {
+
+    @Test
+    void borrowReusesReleasedBuffers() {
+        final ByteBufferPool pool = new ByteBufferPool(1, 16, false);
+        final ByteBuffer first = pool.borrow();
+        final ByteBuffer second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(16, first.capacity());
+        assertFalse(first.isDirect());
+        first.put((byte) 1).flip();
+        pool.release(first);
+        pool.release(second); // dropped; the pool keeps one buffer
+        final ByteBuffer third = pool.borrow();
+        assertSame(first, third);
+        assertEquals(0, third.position());
+        assertEquals(16, third.limit());
+        assertNotSame(second, pool.borrow());
+    }
+
+    @Test
+    void defaultsToHeapBuffersOfDefaultSize() {
+        final ByteBufferPool pool = new ByteBufferPool(2);
+        assertEquals(2, pool.getCapacity());
+        assertEquals(ChannelByteInput.DEFAULT_BUFFER_SIZE, pool.getBufferSize());
+        assertFalse(pool.isDirect());
+        assertTrue(new ByteBufferPool(1, 8, true).borrow().isDirect());
+    }
+
+    @Test
+    void sharedByThreads() throws Exception {
+        final ByteBufferPool pool = new ByteBufferPool(4, 8, false);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int j = 0; j < 10000; j++) {
+                            final ByteBuffer buffer = pool.borrow();
+                            assertEquals(0, buffer.position());
+                            buffer.put((byte) j);
+                            pool.release(buffer);
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(0));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(1, 0, false));
+        final ByteBufferPool pool = new ByteBufferPool(1, 8, false);
+        assertThrows(NullPointerException.class, () -> pool.release(null));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocate(9)));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocate(8).asReadOnlyBuffer()));
+    }
+}
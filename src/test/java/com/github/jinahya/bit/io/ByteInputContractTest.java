@@ -31,8 +31,10 @@ import java.io.IOException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -55,6 +57,72 @@ class ByteInputContractTest {
         }
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("byteInputs")
+    void bulkReadsMatchSingleByteReads(final String name, final ByteInputFactory factory) throws IOException {
+        final byte[] bytes = new byte[1024];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        final AbstractByteInput<?> input = (AbstractByteInput<?>) factory.create(bytes);
+        final byte[] actual = new byte[bytes.length];
+        input.read(actual, 0, 1);
+        input.read(actual, 1, 0);
+        actual[1] = (byte) input.read();
+        input.read(actual, 2, 509);
+        final ByteBuffer heap = ByteBuffer.wrap(actual, 511, 256).slice();
+        input.read(heap);
+        assertEquals(0, heap.remaining());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 767);
+        input.read(direct);
+        assertEquals(0, direct.remaining());
+        direct.flip();
+        direct.get(actual, 767, direct.remaining());
+        assertArrayEquals(bytes, actual);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("byteInputs")
+    void skipDiscardsBytes(final String name, final ByteInputFactory factory) throws IOException {
+        final byte[] bytes = new byte[20000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        final AbstractByteInput<?> input = (AbstractByteInput<?>) factory.create(bytes);
+        input.skip(0L);
+        assertEquals(0x00, input.read());
+        input.skip(10000L);
+        assertEquals(10001 & 0xFF, input.read());
+        input.skip(9997L);
+        assertEquals(19999 & 0xFF, input.read());
+        assertThrows(IllegalArgumentException.class, () -> input.skip(-1L));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("eofSignalingByteInputs")
+    void skipThrowsEOFExceptionWhenShort(final String name, final ByteInputFactory factory) throws IOException {
+        final AbstractByteInput<?> input = (AbstractByteInput<?>) factory.create(new byte[3]);
+        assertThrows(EOFException.class, () -> {
+            input.skip(4L);
+            input.read(); // skipping may only be detected by a subsequent read
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("eofSignalingByteInputs")
+    void bulkReadThrowsEOFExceptionWhenShort(final String name, final ByteInputFactory factory) throws IOException {
+        final AbstractByteInput<?> input = (AbstractByteInput<?>) factory.create(new byte[3]);
+        assertThrows(EOFException.class, () -> input.read(new byte[4], 0, 4));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("byteInputs")
+    void bulkReadChecksRange(final String name, final ByteInputFactory factory) throws IOException {
+        final AbstractByteInput<?> input = (AbstractByteInput<?>) factory.create(new byte[4]);
+        assertThrows(NullPointerException.class, () -> input.read(null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> input.read(new byte[2], -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> input.read(new byte[2], 1, 2));
+        assertThrows(NullPointerException.class, () -> input.read((ByteBuffer) null));
+    }
+
     @ParameterizedTest(name = "{0}")
     @MethodSource("eofSignalingByteInputs")
     void readThrowsEOFExceptionWhenEmpty(final String name, final ByteInputFactory factory) throws IOException {
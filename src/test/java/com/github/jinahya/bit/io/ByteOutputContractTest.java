@@ -29,6 +29,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -67,6 +68,24 @@ class ByteOutputContractTest {
         assertArrayEquals(expected, target.toByteArray());
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("byteOutputs")
+    void bulkWritesMatchSingleByteWrites(final String name, final ByteOutputFactory factory) throws IOException {
+        final byte[] expected = new byte[1024];
+        ThreadLocalRandom.current().nextBytes(expected);
+        final ByteOutputTarget target = factory.create(expected.length);
+        final AbstractByteOutput<?> output = (AbstractByteOutput<?>) target.output;
+        output.write(expected, 0, 1);
+        output.write(expected, 1, 0);
+        output.write(expected[1] & 0xFF);
+        output.write(expected, 2, 509);
+        output.write(ByteBuffer.wrap(expected, 511, 256));
+        final ByteBuffer direct = ByteBuffer.allocateDirect(expected.length - 767);
+        direct.put(expected, 767, direct.remaining()).flip();
+        output.write(direct);
+        assertArrayEquals(expected, target.toByteArray());
+    }
+
     private static Stream<Arguments> byteOutputs() {
         return Stream.of(
                 Arguments.of("ArrayByteOutput", new ByteOutputFactory() {
@@ -21,16 +21,24 @@ package com.github.jinahya.bit.io;
  */
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 
 import static java.nio.ByteBuffer.allocate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * A class for unit-testing {@link ChannelByteInput} class.
@@ -59,6 +67,34 @@ public class ChannelByteInputTest {
         assertThrows(EOFException.class, input::read);
     }
 
+    @Test
+    public void skipMovesFileChannelPosition(@TempDir final File dir) throws IOException {
+        final File file = new File(dir, "skip");
+        final FileOutputStream stream = new FileOutputStream(file);
+        try {
+            for (int i = 0; i < 1024; i++) {
+                stream.write(i);
+            }
+        } finally {
+            stream.close();
+        }
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            final ChannelByteInput input = new ChannelByteInput(channel, allocate(16));
+            assertEquals(0x00, input.read());
+            input.skip(3L); // within the buffer
+            assertEquals(0x04, input.read());
+            input.skip(1000L); // beyond the buffer
+            assertEquals(1005L, channel.position());
+            assertEquals(1005 & 0xFF, input.read());
+            input.skip(18L);
+            assertThrows(EOFException.class, input::read);
+        } finally {
+            raf.close();
+        }
+    }
+
     @Test
     public void constructorRejectsNullChannelAndBuffer() {
         assertThrows(NullPointerException.class, () -> new ChannelByteInput(null, allocate(1)));
@@ -70,4 +106,94 @@ public class ChannelByteInputTest {
         assertThrows(IllegalArgumentException.class,
                      () -> new ChannelByteInput(new WhiteByteChannel(), allocate(0)));
     }
+
+    @Test
+    public void bufferedFactoryReadsWholeBufferPerChannelRead() throws IOException {
+        final byte[] bytes = new byte[200000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        final ReadableByteChannel delegate = Channels.newChannel(new ByteArrayInputStream(bytes));
+        final int[] reads = new int[1];
+        final ReadableByteChannel channel = new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer dst) throws IOException {
+                reads[0]++;
+                return delegate.read(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return delegate.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+        };
+        final ChannelByteInput input = BufferByteInput.from(channel, ChannelByteInput.DEFAULT_BUFFER_SIZE);
+        for (final byte b : bytes) {
+            assertEquals(b & 0xFF, input.read());
+        }
+        assertThrows(EOFException.class, input::read);
+        assertTrue(reads[0] < bytes.length / 1024, "reads: " + reads[0]);
+    }
+
+    @Test
+    public void bulkReadsShorterThanBufferChargeBuffer() throws IOException {
+        final ReadableByteChannel delegate = Channels.newChannel(new ByteArrayInputStream(new byte[4000]));
+        final int[] reads = new int[1];
+        final ReadableByteChannel channel = new ReadableByteChannel() {
+            @Override
+            public int read(final ByteBuffer dst) throws IOException {
+                reads[0]++;
+                return delegate.read(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return delegate.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+        };
+        final BitInput input = new DefaultBitInput(BufferByteInput.from(channel, ChannelByteInput.DEFAULT_BUFFER_SIZE));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, input.readInt32());
+        }
+        assertTrue(reads[0] <= 2, "reads: " + reads[0]);
+        assertThrows(EOFException.class, input::readInt32);
+    }
+
+    @Test
+    public void pooledFactoryReturnsBufferOnRelease() throws IOException {
+        final ByteBufferPool pool = new ByteBufferPool(1, 4, true);
+        final ChannelByteInput input
+                = BufferByteInput.from(Channels.newChannel(new ByteArrayInputStream(new byte[]{1, 2})), pool);
+        assertEquals(1, input.read());
+        input.release();
+        input.release(); // no-op once released
+        final ByteBuffer buffer = pool.borrow();
+        assertTrue(buffer.isDirect());
+        assertEquals(0, pool.borrow().position()); // the pool keeps one buffer; this one is new
+        pool.release(buffer);
+        final ChannelByteInput other
+                = BufferByteInput.from(Channels.newChannel(new ByteArrayInputStream(new byte[]{3})), pool);
+        assertEquals(3, other.read());
+        other.release();
+        assertSame(buffer, pool.borrow());
+    }
+
+    @Test
+    public void factoriesRejectInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> BufferByteInput.from(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> BufferByteInput.from(new WhiteByteChannel(), 0));
+        assertThrows(NullPointerException.class, () -> BufferByteInput.from(new WhiteByteChannel(), (ByteBuffer) null));
+        assertThrows(NullPointerException.class,
+                     () -> BufferByteInput.from(new WhiteByteChannel(), (ByteBufferPool) null));
+    }
 }
@@ -24,11 +24,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 
 import static java.nio.ByteBuffer.allocate;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -69,4 +73,67 @@ public class ChannelByteOutputTest {
         assertThrows(IllegalArgumentException.class,
                      () -> new ChannelByteOutput(new BlackByteChannel(), allocate(0)));
     }
+
+    @Test
+    public void bufferedFactoryDrainsWholeBufferAndFlushesRest() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ChannelByteOutput output = BufferByteOutput.from(Channels.newChannel(bytes), 16);
+        for (int i = 0; i < 100; i++) {
+            output.write(i);
+        }
+        assertEquals(96, bytes.size());
+        output.flush();
+        assertEquals(100, bytes.size());
+        output.write(new byte[40], 0, 40);
+        output.flush();
+        assertEquals(140, bytes.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, bytes.toByteArray()[i]);
+        }
+    }
+
+    @Test
+    public void pooledFactoryFlushesAndReturnsBufferOnRelease() throws IOException {
+        final ByteBufferPool pool = new ByteBufferPool(1, 8, false);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ChannelByteOutput output = BufferByteOutput.from(Channels.newChannel(bytes), pool);
+        output.write(0x01);
+        output.write(0x02);
+        assertEquals(0, bytes.size());
+        output.release();
+        output.release(); // no-op once released
+        assertArrayEquals(new byte[]{0x01, 0x02}, bytes.toByteArray());
+        final ByteBuffer buffer = pool.borrow();
+        assertEquals(0, buffer.position());
+        pool.release(buffer);
+        final ChannelByteOutput other = BufferByteOutput.from(Channels.newChannel(bytes), pool);
+        other.release();
+        assertSame(buffer, pool.borrow());
+    }
+
+    @Test
+    public void closeFlushesReleasesAndClosesChannel() throws IOException {
+        final ByteBufferPool pool = new ByteBufferPool(1, 8, false);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final WritableByteChannel channel = Channels.newChannel(bytes);
+        final ByteBuffer buffer = pool.borrow();
+        pool.release(buffer);
+        final ChannelByteOutput output = BufferByteOutput.from(channel, pool);
+        output.write(new byte[]{0x01, 0x02, 0x03}, 0, 3);
+        assertEquals(0, bytes.size());
+        output.close();
+        assertArrayEquals(new byte[]{0x01, 0x02, 0x03}, bytes.toByteArray());
+        assertFalse(channel.isOpen());
+        assertSame(buffer, pool.borrow());
+    }
+
+    @Test
+    public void factoriesRejectInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> BufferByteOutput.from(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> BufferByteOutput.from(new BlackByteChannel(), 0));
+        assertThrows(NullPointerException.class,
+                     () -> BufferByteOutput.from(new BlackByteChannel(), (ByteBuffer) null));
+        assertThrows(NullPointerException.class,
+                     () -> BufferByteOutput.from(new BlackByteChannel(), (ByteBufferPool) null));
+    }
 }
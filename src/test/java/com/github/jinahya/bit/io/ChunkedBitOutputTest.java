@@ -0,0 +1,110 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link ChunkedBitOutput} class.
+ */
+class ChunkedBitOutputTest {
+
+    @Test
+    void growsAcrossChunksWithoutCopying() throws IOException {
+        final ChunkedBitOutput output = new ChunkedBitOutput(3);
+        output.writeUnsignedInt(4, 0x1);
+        output.writeInt32(0x23456789);
+        output.writeUnsignedInt(4, 0xA);
+        output.writeLong64(0x0102030405060708L);
+        final ByteBuffer[] buffers = output.toBuffers();
+        assertEquals(5, buffers.length);
+        assertSame(buffers[0].array(), output.toBuffers()[0].array());
+        assertEquals(1, buffers[4].remaining());
+        final byte[] expected = {0x12, 0x34, 0x56, 0x78, (byte) 0x9A, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08};
+        assertArrayEquals(expected, output.toByteArray());
+        final ByteBuffer joined = ByteBuffer.allocate(expected.length);
+        for (final ByteBuffer buffer : buffers) {
+            joined.put(buffer);
+        }
+        assertArrayEquals(expected, joined.array());
+    }
+
+    @Test
+    void writeThenReadRoundTrips() throws IOException {
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            final ChunkedBitOutput output = new ChunkedBitOutput(7, bitOrder);
+            final int[] sizes = new int[1024];
+            final long[] values = new long[sizes.length];
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                values[i] = ThreadLocalRandom.current().nextLong() & ((1L << sizes[i]) - 1L);
+                output.writeUnsignedLong(sizes[i], values[i]);
+            }
+            final long[] longs = new long[100];
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = ThreadLocalRandom.current().nextLong();
+            }
+            output.align(1);
+            output.writeLongs(Long.SIZE, longs, 0, longs.length);
+            final BitInput input = output.toBitInput();
+            for (int i = 0; i < sizes.length; i++) {
+                assertEquals(values[i], input.readUnsignedLong(sizes[i]));
+            }
+            input.align(1);
+            final long[] actual = new long[longs.length];
+            input.readLongs(Long.SIZE, actual, 0, actual.length);
+            assertArrayEquals(longs, actual);
+            assertThrows(EOFException.class, () -> input.readUnsignedInt(8));
+        }
+    }
+
+    @Test
+    void discardReusesChunks() throws IOException {
+        final ChunkedBitOutput output = new ChunkedBitOutput(2);
+        output.writeInt32(-1);
+        output.writeUnsignedInt(3, 1);
+        final byte[] first = output.toBuffers()[0].array();
+        output.discard();
+        assertEquals(0L, output.getCount());
+        assertEquals(0, output.toByteArray().length);
+        output.writeInt32(0x01020304);
+        final ByteBuffer[] buffers = output.toBuffers();
+        assertSame(first, buffers[0].array());
+        assertEquals(2, buffers.length);
+        assertArrayEquals(new byte[]{0x01, 0x02, 0x03, 0x04}, output.toByteArray());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedBitOutput(0));
+        assertThrows(NullPointerException.class, () -> new ChunkedBitOutput(1, null));
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link CompositeByteInput} class.
+ */
+class CompositeByteInputTest {
+
+    /**
+     * Splits specified bytes into fragments of random lengths, including empty ones.
+     */
+    private static byte[][] fragments(final byte[] bytes) {
+        final List<byte[]> fragments = new ArrayList<>();
+        for (int i = 0; i < bytes.length; ) {
+            final int length = Math.min(ThreadLocalRandom.current().nextInt(10), bytes.length - i);
+            fragments.add(Arrays.copyOfRange(bytes, i, i + length));
+            i += length;
+        }
+        return fragments.toArray(new byte[0][]);
+    }
+
+    @Test
+    void readsAcrossFragments() throws IOException {
+        final byte[] bytes = new byte[4096];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        final byte[][] fragments = fragments(bytes);
+        final List<ByteBuffer> buffers = new ArrayList<>();
+        for (final byte[] fragment : fragments) {
+            buffers.add(ByteBuffer.wrap(fragment));
+        }
+        for (final CompositeByteInput input : Arrays.asList(CompositeByteInput.from(fragments),
+                                                            CompositeByteInput.from(buffers))) {
+            final byte[] actual = new byte[bytes.length];
+            for (int i = 0; i < actual.length; ) {
+                switch (ThreadLocalRandom.current().nextInt(4)) {
+                    case 0:
+                        actual[i++] = (byte) input.read();
+                        break;
+                    case 1:
+                        final int length = Math.min(ThreadLocalRandom.current().nextInt(30), actual.length - i);
+                        input.read(actual, i, length);
+                        i += length;
+                        break;
+                    case 2:
+                        final ByteBuffer dst = ByteBuffer.wrap(
+                                actual, i, Math.min(ThreadLocalRandom.current().nextInt(30), actual.length - i));
+                        input.read(dst);
+                        assertFalse(dst.hasRemaining());
+                        i = dst.position();
+                        break;
+                    default:
+                        final int skipped = Math.min(ThreadLocalRandom.current().nextInt(20), actual.length - i);
+                        input.skip(skipped);
+                        System.arraycopy(bytes, i, actual, i, skipped);
+                        i += skipped;
+                        break;
+                }
+            }
+            assertArrayEquals(bytes, actual);
+            assertThrows(EOFException.class, input::read);
+            assertThrows(EOFException.class, () -> input.skip(1L));
+        }
+    }
+
+    @Test
+    void readsBitFieldsSpanningFragments() throws IOException {
+        final byte[][] fragments = {{0x12}, {}, {0x34, 0x56}, {0x78, (byte) 0x9A, (byte) 0xBC}, {(byte) 0xDE},
+                                    {(byte) 0xF0, 0x12}};
+        final BitInput input = new DefaultBitInput(CompositeByteInput.from(fragments));
+        assertEquals(0x1, input.readUnsignedInt(4));
+        assertEquals(0x23456789ABCDEF01L, input.readLong64());
+        assertEquals(0x2, input.readUnsignedInt(4));
+        assertThrows(EOFException.class, () -> input.readUnsignedInt(1));
+    }
+
+    @Test
+    void takesFragmentsAsTheyArrive() throws IOException, InterruptedException {
+        final BlockingQueue<ByteBuffer> queue = new ArrayBlockingQueue<>(2);
+        final CompositeByteInput input = new CompositeByteInput(new Iterator<ByteBuffer>() {
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public ByteBuffer next() {
+                return queue.poll();
+            }
+        });
+        queue.put(ByteBuffer.wrap(new byte[]{1, 2}));
+        assertEquals(1, input.read());
+        assertEquals(2, input.read());
+        queue.put(ByteBuffer.wrap(new byte[]{3}));
+        assertEquals(3, input.read());
+        assertThrows(EOFException.class, input::read);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> CompositeByteInput.from((byte[][]) null));
+        assertThrows(NullPointerException.class, () -> CompositeByteInput.from((List<ByteBuffer>) null));
+        assertThrows(NullPointerException.class, () -> new CompositeByteInput(null));
+        final CompositeByteInput input = CompositeByteInput.from(Collections.singletonList((ByteBuffer) null));
+        assertThrows(NullPointerException.class, input::read);
+    }
+}
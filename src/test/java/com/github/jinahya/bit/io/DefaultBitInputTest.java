@@ -60,4 +60,33 @@ public class DefaultBitInputTest {
 
         assertTrue(new DefaultBitInput(delegate).toString().contains("delegate=" + delegate));
     }
+
+    @Test
+    void retargetStartsOverWithDelegate() throws IOException {
+        final ArrayByteInput delegate = new ArrayByteInput(new byte[]{(byte) 0xF0});
+        final DefaultBitInput input = new DefaultBitInput(delegate);
+
+        assertEquals(0x0F, input.readUnsignedInt(4));
+        delegate.retarget(new byte[]{0x12, 0x34}, 0, 2);
+        input.retarget(delegate);
+        assertEquals(0L, input.getCount());
+        assertEquals(0x1234, input.readUnsignedInt(16));
+        assertThrows(NullPointerException.class, () -> input.retarget(null));
+    }
+
+    @Test
+    void multiOctetReadRejectsOutOfRangeValueFromShortSource() throws IOException {
+        final int[] octets = {0x01};
+        final ByteInput delegate = new AbstractByteInput<int[]>(octets) {
+            @Override
+            public int read() {
+                return index < source.length ? source[index++] : -1;
+            }
+
+            private int index;
+        };
+        final DefaultBitInput input = new DefaultBitInput(delegate);
+        final IOException thrown = assertThrows(IOException.class, () -> input.readUnsignedInt(16));
+        assertTrue(thrown.getMessage().contains("out-of-range"));
+    }
 }
@@ -24,8 +24,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -54,6 +58,22 @@ public class DefaultBitOutputTest {
         assertArrayEquals(new byte[]{0x00, 0x7F, (byte) 0xFF}, bytes.toByteArray());
     }
 
+    @Test
+    void flushKeepsPartialOctetAndClosePadsIt() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final WritableByteChannel channel = Channels.newChannel(bytes);
+        final DefaultBitOutput output = new DefaultBitOutput(BufferByteOutput.from(channel, 16));
+        output.writeUnsignedInt(12, 0xABC);
+        assertEquals(0, bytes.size());
+        output.flush();
+        assertArrayEquals(new byte[]{(byte) 0xAB}, bytes.toByteArray());
+        output.writeBoolean(true);
+        output.close();
+        assertArrayEquals(new byte[]{(byte) 0xAB, (byte) 0xC8}, bytes.toByteArray());
+        assertEquals(2L, output.getCount());
+        assertFalse(channel.isOpen());
+    }
+
     @Test
     void toStringIncludesDelegate() {
         final ByteOutput delegate = new StreamByteOutput(new ByteArrayOutputStream());
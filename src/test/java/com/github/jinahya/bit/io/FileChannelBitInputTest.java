@@ -0,0 +1,117 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link FileChannelBitInput} class.
+ */
+class FileChannelBitInputTest {
+
+    private static long bits(final byte[] source, final long offset, final int size) {
+        long value = 0L;
+        for (long i = offset; i < offset + size; i++) {
+            value = (value << 1) | ((source[(int) (i >> 3)] >> (7 - (i & 7))) & 0x01);
+        }
+        return value;
+    }
+
+    @Test
+    void seekMatchesBitByBitValues(@TempDir final File dir) throws IOException {
+        final byte[] source = new byte[65536];
+        ThreadLocalRandom.current().nextBytes(source);
+        final File file = new File(dir, "seek");
+        final FileOutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(source);
+        } finally {
+            stream.close();
+        }
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            raf.seek(16L);
+            final FileChannelBitInput input = new FileChannelBitInput(raf.getChannel());
+            final long length = (source.length - 16L) * Byte.SIZE;
+            for (int i = 0; i < 1024; i++) {
+                final long position = ThreadLocalRandom.current().nextLong(length - Long.SIZE);
+                final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                input.seek(position);
+                assertEquals(position, input.getPosition());
+                assertEquals(bits(source, 128L + position, size), input.readUnsignedLong(size));
+                assertEquals(position + size, input.getPosition());
+                if (i % 2 == 0) { // a short hop back, within the buffer
+                    input.mark();
+                    input.readUnsignedInt(5);
+                    input.reset();
+                    assertEquals(bits(source, 128L + position + size, 5), input.readUnsignedInt(5));
+                }
+            }
+            input.seek(length);
+            assertThrows(EOFException.class, input::readBoolean);
+            assertThrows(IllegalArgumentException.class, () -> input.seek(length + 1L));
+            assertThrows(IllegalArgumentException.class, () -> input.seek(-1L));
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void skipMovesAcrossBuffers(@TempDir final File dir) throws IOException {
+        final File file = new File(dir, "skip");
+        final FileOutputStream stream = new FileOutputStream(file);
+        try {
+            for (int i = 0; i < 65536; i++) {
+                stream.write(i);
+            }
+        } finally {
+            stream.close();
+        }
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannelBitInput input = new FileChannelBitInput(raf.getChannel());
+            assertEquals(0x00, input.readUnsignedInt(8));
+            input.skip(8L * 30000);
+            assertEquals(30001 & 0xFF, input.readUnsignedInt(8));
+            assertEquals(30002L, input.getCount());
+            input.seek(8L * 3);
+            assertEquals(0x03, input.readUnsignedInt(8));
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void rejectsNullSource() {
+        assertThrows(NullPointerException.class, () -> new FileChannelBitInput(null));
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link GatheringByteOutput} class.
+ *
+ * @see ScatteringByteInputTest
+ */
+class GatheringByteOutputTest {
+
+    /**
+     * A channel which records bytes written, at most {@code max} bytes per call, and counts the calls.
+     */
+    private static final class RecordingChannel
+            implements GatheringByteChannel {
+
+        private RecordingChannel(final int max) {
+            this.max = max;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs, final int offset, final int length) {
+            calls++;
+            long written = 0L;
+            for (int i = offset; i < offset + length && written < max; i++) {
+                while (srcs[i].hasRemaining() && written < max) {
+                    bytes.write(srcs[i].get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(final ByteBuffer src) {
+            return (int) write(new ByteBuffer[]{src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        private final int max;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private int calls;
+
+        private boolean open = true;
+    }
+
+    @Test
+    void drainsRingWithGatheringWrites() throws IOException {
+        final RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        final GatheringByteOutput output = new GatheringByteOutput(channel, 4, 8);
+        for (int i = 0; i < 31; i++) {
+            output.write(i);
+        }
+        assertEquals(0, channel.calls);
+        output.write(31);
+        assertEquals(1, channel.calls);
+        assertEquals(32, channel.bytes.size());
+        output.write(new byte[]{32, 33, 34}, 0, 3);
+        output.flush();
+        assertEquals(2, channel.calls);
+        final byte[] expected = new byte[35];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+        }
+        assertArrayEquals(expected, channel.bytes.toByteArray());
+    }
+
+    @Test
+    void writesInOrderOverPartialWrites() throws IOException {
+        for (final int max : new int[]{1, 3, 7, 100}) {
+            final RecordingChannel channel = new RecordingChannel(max);
+            final GatheringByteOutput output = new GatheringByteOutput(channel, 3, 5);
+            final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            for (int i = 0; i < 256; i++) {
+                if (ThreadLocalRandom.current().nextBoolean()) {
+                    final int value = ThreadLocalRandom.current().nextInt(256);
+                    output.write(value);
+                    expected.write(value);
+                    continue;
+                }
+                final byte[] bytes = new byte[ThreadLocalRandom.current().nextInt(40)];
+                ThreadLocalRandom.current().nextBytes(bytes);
+                output.write(bytes, 0, bytes.length);
+                expected.write(bytes, 0, bytes.length);
+            }
+            output.flush();
+            assertArrayEquals(expected.toByteArray(), channel.bytes.toByteArray());
+        }
+    }
+
+    @Test
+    void gathersLongRunsAfterBufferedBytes() throws IOException {
+        final RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        final GatheringByteOutput output = new GatheringByteOutput(channel, 2, 4);
+        output.write(1);
+        final ByteBuffer src = ByteBuffer.allocate(8);
+        src.put(7, (byte) 2);
+        output.write(src);
+        assertFalse(src.hasRemaining());
+        assertEquals(1, channel.calls);
+        assertArrayEquals(new byte[]{1, 0, 0, 0, 0, 0, 0, 0, 2}, channel.bytes.toByteArray());
+    }
+
+    @Test
+    void writeThenReadThroughBitOutput() throws IOException {
+        final RecordingChannel channel = new RecordingChannel(13);
+        final BitOutput output = new DefaultBitOutput(new GatheringByteOutput(channel, 3, 2));
+        output.writeUnsignedInt(4, 0x1);
+        output.writeLong64(0x23456789ABCDEF01L);
+        output.writeUnsignedInt(4, 0x2);
+        output.close();
+        assertFalse(channel.isOpen());
+        assertArrayEquals(new byte[]{0x12, 0x34, 0x56, 0x78, (byte) 0x9A, (byte) 0xBC, (byte) 0xDE, (byte) 0xF0, 0x12},
+                          channel.bytes.toByteArray());
+        assertTrue(channel.calls > 1);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        final RecordingChannel channel = new RecordingChannel(1);
+        assertThrows(NullPointerException.class, () -> new GatheringByteOutput(null));
+        assertThrows(IllegalArgumentException.class, () -> new GatheringByteOutput(channel, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GatheringByteOutput(channel, 1, 0));
+        assertThrows(NullPointerException.class, () -> new GatheringByteOutput(channel, (ByteBuffer[]) null));
+        assertThrows(IllegalArgumentException.class, () -> new GatheringByteOutput(channel, new ByteBuffer[0]));
+        assertThrows(NullPointerException.class, () -> new GatheringByteOutput(channel, new ByteBuffer[1]));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new GatheringByteOutput(channel, new ByteBuffer[]{ByteBuffer.allocate(0)}));
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link MappedFileBitInput} class.
+ */
+class MappedFileBitInputTest {
+
+    private static File write(final File dir, final byte[] source) throws IOException {
+        final File file = new File(dir, "mapped");
+        final FileOutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(source);
+        } finally {
+            stream.close();
+        }
+        return file;
+    }
+
+    private static long bits(final byte[] source, final long offset, final int size) {
+        long value = 0L;
+        for (long i = offset; i < offset + size; i++) {
+            value = (value << 1) | ((source[(int) (i >> 3)] >> (7 - (i & 7))) & 0x01);
+        }
+        return value;
+    }
+
+    @Test
+    void readsAcrossSegmentsAsArrayDoes(@TempDir final File dir) throws IOException {
+        final byte[] source = new byte[4099];
+        ThreadLocalRandom.current().nextBytes(source);
+        final RandomAccessFile raf = new RandomAccessFile(write(dir, source), "r");
+        try {
+            for (final BitOrder bitOrder : BitOrder.values()) {
+                raf.seek(0L);
+                final MappedFileBitInput actual = new MappedFileBitInput(raf.getChannel(), bitOrder, 7);
+                final ArrayBitInput expected = new ArrayBitInput(source, 0, source.length, bitOrder);
+                assertEquals(source.length, actual.getSize());
+                while (expected.getCount() < source.length - 40) {
+                    final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                    assertEquals(expected.readUnsignedLong(size), actual.readUnsignedLong(size));
+                    if (size % 3 == 0) {
+                        assertEquals(expected.readLong64(), actual.readLong64());
+                    }
+                }
+                assertEquals(expected.align(1), actual.align(1));
+                final long[] expectedLongs = new long[2];
+                final long[] actualLongs = new long[2];
+                expected.readLongs(Long.SIZE, expectedLongs, 0, 2);
+                actual.readLongs(Long.SIZE, actualLongs, 0, 2);
+                assertArrayEquals(expectedLongs, actualLongs);
+                assertEquals(expected.getCount(), actual.getCount());
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void seekMatchesBitByBitValues(@TempDir final File dir) throws IOException {
+        final byte[] source = new byte[65536];
+        ThreadLocalRandom.current().nextBytes(source);
+        final RandomAccessFile raf = new RandomAccessFile(write(dir, source), "r");
+        try {
+            raf.seek(16L);
+            final SeekableBitInput input = new MappedFileBitInput(raf.getChannel(), BitOrder.MSB_FIRST, 1000);
+            assertEquals(16L, raf.getChannel().position());
+            final long length = (source.length - 16L) * Byte.SIZE;
+            for (int i = 0; i < 1024; i++) {
+                final long position = ThreadLocalRandom.current().nextLong(length - Long.SIZE);
+                final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                input.seek(position);
+                assertEquals(position, input.getPosition());
+                assertEquals(bits(source, 128L + position, size), input.readUnsignedLong(size));
+                assertEquals(position + size, input.getPosition());
+                if (i % 2 == 0) {
+                    input.mark();
+                    input.readUnsignedInt(5);
+                    input.reset();
+                    assertEquals(bits(source, 128L + position + size, 5), input.readUnsignedInt(5));
+                }
+            }
+            input.seek(length);
+            assertThrows(EOFException.class, input::readBoolean);
+            assertThrows(IllegalArgumentException.class, () -> input.seek(length + 1L));
+            assertThrows(IllegalArgumentException.class, () -> input.seek(-1L));
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void skipMovesAcrossSegments(@TempDir final File dir) throws IOException {
+        final byte[] source = new byte[65536];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = (byte) i;
+        }
+        final RandomAccessFile raf = new RandomAccessFile(write(dir, source), "r");
+        try {
+            final SeekableBitInput input = BitInputs.from(raf.getChannel());
+            assertEquals(0x00, input.readUnsignedInt(8));
+            input.skip(8L * 30000);
+            assertEquals(30001 & 0xFF, input.readUnsignedInt(8));
+            assertEquals(30002L, input.getCount());
+            final MappedFileBitInput segmented = new MappedFileBitInput(raf.getChannel(), BitOrder.MSB_FIRST, 4096);
+            segmented.skip(8L * 30000);
+            assertEquals(30000 & 0xFF, segmented.readUnsignedInt(8));
+            segmented.seek(8L * 3);
+            assertEquals(0x03, segmented.readUnsignedInt(8));
+            assertThrows(EOFException.class, () -> segmented.skip(8L * source.length));
+            assertEquals(4L, segmented.getCount());
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void emptyFileReachesEndImmediately(@TempDir final File dir) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(write(dir, new byte[0]), "r");
+        try {
+            final MappedFileBitInput input = new MappedFileBitInput(raf.getChannel());
+            assertEquals(0L, input.getSize());
+            assertThrows(EOFException.class, input::readBoolean);
+            input.seek(0L);
+            assertThrows(IllegalArgumentException.class, () -> input.seek(1L));
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments(@TempDir final File dir) throws IOException {
+        assertThrows(NullPointerException.class, () -> new MappedFileBitInput(null));
+        final RandomAccessFile raf = new RandomAccessFile(write(dir, new byte[1]), "r");
+        try {
+            assertThrows(NullPointerException.class, () -> new MappedFileBitInput(raf.getChannel(), null));
+            assertThrows(IllegalArgumentException.class,
+                         () -> new MappedFileBitInput(raf.getChannel(), BitOrder.MSB_FIRST, 0));
+        } finally {
+            raf.close();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link MappedFileBitOutput} class.
+ *
+ * @see MappedFileBitInputTest
+ */
+class MappedFileBitOutputTest {
+
+    private static byte[] read(final File file) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            return bytes;
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    void writesAcrossWindowsAsArrayDoesAndTruncatesOnClose(@TempDir final File dir) throws IOException {
+        for (final BitOrder bitOrder : BitOrder.values()) {
+            for (final boolean force : new boolean[]{false, true}) {
+                final File file = new File(dir, bitOrder + "-" + force);
+                final byte[] array = new byte[8192];
+                final ArrayBitOutput expected = new ArrayBitOutput(array, 0, array.length, bitOrder);
+                final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                try {
+                    final MappedFileBitOutput actual = new MappedFileBitOutput(raf.getChannel(), bitOrder, 7, force);
+                    for (int i = 0; i < 256; i++) {
+                        final int size = ThreadLocalRandom.current().nextInt(1, Long.SIZE);
+                        final long value = ThreadLocalRandom.current().nextLong();
+                        expected.writeLong(size, value);
+                        actual.writeLong(size, value);
+                        if (i % 5 == 0) {
+                            expected.writeLong64(value);
+                            actual.writeLong64(value);
+                        }
+                    }
+                    final long[] longs = new long[2];
+                    longs[0] = ThreadLocalRandom.current().nextLong();
+                    longs[1] = ThreadLocalRandom.current().nextLong();
+                    expected.align(1);
+                    expected.writeLongs(Long.SIZE, longs, 0, 2);
+                    actual.align(1);
+                    actual.writeLongs(Long.SIZE, longs, 0, 2);
+                    expected.writeUnsignedInt(3, 5);
+                    actual.writeUnsignedInt(3, 5);
+                    expected.align(1);
+                    actual.close();
+                    actual.close(); // no-op once closed
+                    assertEquals(expected.getCount(), actual.getCount());
+                    assertEquals(0L, raf.getChannel().position());
+                } finally {
+                    raf.close();
+                }
+                assertArrayEquals(Arrays.copyOf(array, (int) expected.getCount()), read(file));
+            }
+        }
+    }
+
+    @Test
+    void startsAtChannelPositionAndReadsBackMapped(@TempDir final File dir) throws IOException {
+        final File file = new File(dir, "position");
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            final FileChannel channel = raf.getChannel();
+            raf.write(new byte[]{0x01, 0x02, 0x03});
+            final BitOutput output = BitOutputs.from(channel);
+            output.writeInt32(0xCAFEBABE);
+            output.writeBoolean(true);
+            output.close();
+            assertEquals(3L + 5L, channel.size());
+            channel.position(3L);
+            final BitInput input = BitInputs.from(channel);
+            assertEquals(0xCAFEBABE, input.readInt32());
+            assertEquals(0x80, input.readUnsignedInt(8));
+        } finally {
+            raf.close();
+        }
+        final byte[] expected = {0x01, 0x02, 0x03, (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, (byte) 0x80};
+        assertArrayEquals(expected, read(file));
+    }
+
+    @Test
+    void forcesAndClosesAcrossSmallChunks(@TempDir final File dir) throws IOException {
+        final File file = new File(dir, "force");
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        final byte[] expected = new byte[37];
+        try {
+            final MappedFileBitOutput output = new MappedFileBitOutput(raf.getChannel(), BitOrder.MSB_FIRST, 4, false);
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = (byte) i;
+                output.writeUnsignedInt(8, i);
+                if (i % 10 == 0) {
+                    output.force();
+                }
+            }
+            output.force();
+            assertEquals(40L, raf.length());
+            output.close();
+            assertEquals(37L, raf.length());
+            assertThrows(IOException.class, () -> output.writeUnsignedInt(8, 0));
+            assertThrows(IOException.class, () -> output.writeLong64(0L));
+            assertThrows(IOException.class, output::force);
+            output.close();
+        } finally {
+            raf.close();
+        }
+        assertArrayEquals(expected, read(file));
+    }
+
+    @Test
+    void rejectsInvalidArguments(@TempDir final File dir) throws IOException {
+        assertThrows(NullPointerException.class, () -> new MappedFileBitOutput(null));
+        final RandomAccessFile raf = new RandomAccessFile(new File(dir, "invalid"), "rw");
+        try {
+            assertThrows(NullPointerException.class, () -> new MappedFileBitOutput(raf.getChannel(), null));
+            assertThrows(IllegalArgumentException.class,
+                         () -> new MappedFileBitOutput(raf.getChannel(), BitOrder.MSB_FIRST, 0, false));
+        } finally {
+            raf.close();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A class for testing {@link NonBlockingBitInput} class.
+ */
+class NonBlockingBitInputTest {
+
+    /**
+     * Reads a 3-bit kind followed by a 12-bit length and as many bytes, unaligned.
+     */
+    private static final BitReader<long[]> MESSAGE = input -> {
+        final int kind = input.readUnsignedInt(3);
+        final int length = input.readUnsignedInt(12);
+        final long[] message = new long[length + 1];
+        message[0] = kind;
+        for (int i = 1; i <= length; i++) {
+            message[i] = input.readUnsignedInt(8);
+        }
+        return message;
+    };
+
+    private static byte[] messages(final long[][] messages) throws IOException {
+        final ChunkedBitOutput output = new ChunkedBitOutput(64);
+        for (final long[] message : messages) {
+            output.writeUnsignedInt(3, (int) message[0]);
+            output.writeUnsignedInt(12, message.length - 1);
+            for (int i = 1; i < message.length; i++) {
+                output.writeUnsignedInt(8, (int) message[i]);
+            }
+        }
+        output.align(1);
+        return output.toByteArray();
+    }
+
+    private static long[][] messages(final int count) {
+        final long[][] messages = new long[count][];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = new long[ThreadLocalRandom.current().nextInt(1, 100)];
+            messages[i][0] = ThreadLocalRandom.current().nextInt(8);
+            for (int j = 1; j < messages[i].length; j++) {
+                messages[i][j] = ThreadLocalRandom.current().nextInt(256);
+            }
+        }
+        return messages;
+    }
+
+    @Test
+    void decodesMessagesAppendedPieceByPiece() throws IOException {
+        final long[][] expected = messages(256);
+        final byte[] bytes = messages(expected);
+        final NonBlockingBitInput input = new NonBlockingBitInput();
+        int decoded = 0;
+        for (int i = 0; i < bytes.length; ) {
+            final int length = Math.min(ThreadLocalRandom.current().nextInt(1, 50), bytes.length - i);
+            input.append(bytes, i, length);
+            i += length;
+            for (long[] message; (message = input.decode(MESSAGE)) != null; ) {
+                assertArrayEquals(expected[decoded++], message);
+            }
+            assertTrue(input.isStarved());
+        }
+        assertEquals(expected.length, decoded);
+        assertTrue(input.available() <= 1);
+    }
+
+    @Test
+    void rewindsToUnalignedPositionWhenStarved() throws IOException {
+        final NonBlockingBitInput input = new NonBlockingBitInput();
+        input.append(new byte[]{(byte) 0xAB, (byte) 0xCD}, 0, 2);
+        assertEquals(0xA, input.readUnsignedInt(4));
+        final BitReader<Long> reader = i -> i.readUnsignedLong(32);
+        assertNull(input.decode(reader));
+        assertTrue(input.isStarved());
+        input.append(ByteBuffer.wrap(new byte[]{0x12, 0x34, 0x56}));
+        assertEquals(0xBCD12345L, (long) input.decode(reader));
+        assertFalse(input.isStarved());
+        assertEquals(0x6, input.readUnsignedInt(4));
+    }
+
+    @Test
+    void receivesFromNonBlockingChannelWithoutSpinning() throws IOException {
+        final long[][] expected = messages(64);
+        final byte[] bytes = messages(expected);
+        final Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        try {
+            final NonBlockingBitInput input = new NonBlockingBitInput(pipe.source());
+            assertEquals(0, input.receive());
+            assertNull(input.decode(MESSAGE));
+            int decoded = 0;
+            for (int i = 0; i < bytes.length; ) {
+                final int length = Math.min(ThreadLocalRandom.current().nextInt(1, 300), bytes.length - i);
+                final ByteBuffer src = ByteBuffer.wrap(bytes, i, length);
+                while (src.hasRemaining()) {
+                    pipe.sink().write(src);
+                }
+                i += length;
+                while (input.receive() > 0) {
+                    for (long[] message; (message = input.decode(MESSAGE)) != null; ) {
+                        assertArrayEquals(expected[decoded++], message);
+                    }
+                }
+            }
+            assertEquals(expected.length, decoded);
+            pipe.sink().close();
+            assertEquals(-1, input.receive());
+            assertEquals(-1, input.receive());
+            input.align(1);
+            assertThrows(EOFException.class, () -> input.decode(MESSAGE));
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    @Test
+    void growsBufferForLargeMessages() throws IOException {
+        final long[][] expected = {new long[4096], new long[4096], new long[4096]};
+        for (final long[] message : expected) {
+            message[4095] = 1;
+        }
+        final byte[] bytes = messages(expected);
+        assertTrue(bytes.length > NonBlockingBitInput.DEFAULT_BUFFER_SIZE);
+        final NonBlockingBitInput input = new NonBlockingBitInput();
+        input.append(bytes, 0, 1000);
+        assertNull(input.decode(MESSAGE));
+        input.append(bytes, 1000, bytes.length - 1000);
+        for (final long[] message : expected) {
+            assertArrayEquals(message, input.decode(MESSAGE));
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        final NonBlockingBitInput input = new NonBlockingBitInput();
+        assertThrows(NullPointerException.class, () -> new NonBlockingBitInput((Pipe.SourceChannel) null));
+        assertThrows(NullPointerException.class, () -> input.decode(null));
+        assertThrows(NullPointerException.class, () -> input.append(null, 0, 0));
+        assertThrows(NullPointerException.class, () -> input.append(null));
+        assertThrows(IllegalStateException.class, input::receive);
+    }
+}
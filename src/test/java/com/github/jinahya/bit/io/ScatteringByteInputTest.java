@@ -0,0 +1,181 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io
+ * %%
+ * Copyright (C) 2014 - 2026 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A class for testing {@link ScatteringByteInput} class.
+ *
+ * @see GatheringByteOutputTest
+ */
+class ScatteringByteInputTest {
+
+    /**
+     * A channel which reads from an array, at most {@code max} bytes per call, and counts the calls.
+     */
+    private static final class RecordingChannel
+            implements ScatteringByteChannel {
+
+        private RecordingChannel(final byte[] bytes, final int max) {
+            this.bytes = bytes;
+            this.max = max;
+        }
+
+        @Override
+        public long read(final ByteBuffer[] dsts, final int offset, final int length) {
+            calls++;
+            if (index == bytes.length) {
+                return -1L;
+            }
+            long read = 0L;
+            for (int i = offset; i < offset + length && read < max; i++) {
+                while (dsts[i].hasRemaining() && read < max && index < bytes.length) {
+                    dsts[i].put(bytes[index++]);
+                    read++;
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public long read(final ByteBuffer[] dsts) {
+            return read(dsts, 0, dsts.length);
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) {
+            return (int) read(new ByteBuffer[]{dst});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private final byte[] bytes;
+
+        private final int max;
+
+        private int index;
+
+        private int calls;
+    }
+
+    private static byte[] bytes(final int length) {
+        final byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void chargesRingWithScatteringReads() throws IOException {
+        final byte[] bytes = bytes(40);
+        final RecordingChannel channel = new RecordingChannel(bytes, Integer.MAX_VALUE);
+        final ScatteringByteInput input = new ScatteringByteInput(channel, 4, 8);
+        for (int i = 0; i < 32; i++) {
+            assertEquals(bytes[i] & 0xFF, input.read());
+        }
+        assertEquals(1, channel.calls);
+        for (int i = 32; i < bytes.length; i++) {
+            assertEquals(bytes[i] & 0xFF, input.read());
+        }
+        assertEquals(2, channel.calls);
+        assertThrows(EOFException.class, input::read);
+    }
+
+    @Test
+    void readsInOrderOverPartialReads() throws IOException {
+        for (final int max : new int[]{1, 3, 7, 100}) {
+            final byte[] bytes = bytes(4096);
+            final ScatteringByteInput input = new ScatteringByteInput(new RecordingChannel(bytes, max), 3, 5);
+            final byte[] actual = new byte[bytes.length];
+            for (int i = 0; i < actual.length; ) {
+                switch (ThreadLocalRandom.current().nextInt(3)) {
+                    case 0:
+                        actual[i++] = (byte) input.read();
+                        break;
+                    case 1:
+                        final int length = Math.min(ThreadLocalRandom.current().nextInt(40), actual.length - i);
+                        input.read(actual, i, length);
+                        i += length;
+                        break;
+                    default:
+                        final int skipped = Math.min(ThreadLocalRandom.current().nextInt(20), actual.length - i);
+                        input.skip(skipped);
+                        System.arraycopy(bytes, i, actual, i, skipped);
+                        i += skipped;
+                        break;
+                }
+            }
+            assertArrayEquals(bytes, actual);
+            assertThrows(EOFException.class, input::read);
+        }
+    }
+
+    @Test
+    void scattersLongReadsIntoDestinationFollowedByRing() throws IOException {
+        final byte[] bytes = bytes(20);
+        final RecordingChannel channel = new RecordingChannel(bytes, Integer.MAX_VALUE);
+        final ScatteringByteInput input = new ScatteringByteInput(channel, 2, 4);
+        final byte[] actual = new byte[12];
+        input.read(actual, 0, actual.length);
+        assertEquals(1, channel.calls);
+        for (int i = actual.length; i < bytes.length; i++) {
+            assertEquals(bytes[i] & 0xFF, input.read());
+        }
+        assertEquals(1, channel.calls);
+        assertThrows(EOFException.class, () -> input.read(new byte[1], 0, 1));
+    }
+
+    @Test
+    void writeThenReadThroughBitInput() throws IOException {
+        final byte[] bytes = {0x12, 0x34, 0x56, 0x78, (byte) 0x9A, (byte) 0xBC, (byte) 0xDE, (byte) 0xF0, 0x12};
+        final BitInput input = new DefaultBitInput(new ScatteringByteInput(new RecordingChannel(bytes, 5), 3, 2));
+        assertEquals(0x1, input.readUnsignedInt(4));
+        assertEquals(0x23456789ABCDEF01L, input.readLong64());
+        assertEquals(0x2, input.readUnsignedInt(4));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        final RecordingChannel channel = new RecordingChannel(new byte[0], 1);
+        assertThrows(NullPointerException.class, () -> new ScatteringByteInput(null));
+        assertThrows(IllegalArgumentException.class, () -> new ScatteringByteInput(channel, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ScatteringByteInput(channel, 1, 0));
+        assertThrows(NullPointerException.class, () -> new ScatteringByteInput(channel, (ByteBuffer[]) null));
+        assertThrows(IllegalArgumentException.class, () -> new ScatteringByteInput(channel, new ByteBuffer[0]));
+    }
+}
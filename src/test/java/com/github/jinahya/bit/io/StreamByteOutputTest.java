@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -50,6 +51,29 @@ public class StreamByteOutputTest {
         assertArrayEquals(new byte[]{0x00, 0x7F, (byte) 0xFF}, bytes.toByteArray());
     }
 
+    @Test
+    void flushAndCloseReachStream() throws IOException {
+        final int[] flushed = new int[1];
+        final int[] closed = new int[1];
+        final StreamByteOutput output = new StreamByteOutput(new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushed[0]++;
+            }
+
+            @Override
+            public void close() {
+                closed[0]++;
+            }
+        });
+        output.flush();
+        assertEquals(1, flushed[0]);
+        assertEquals(0, closed[0]);
+        output.close();
+        assertEquals(2, flushed[0]);
+        assertEquals(1, closed[0]);
+    }
+
     @Test
     void rejectsNullStream() {
         assertThrows(NullPointerException.class, () -> new StreamByteOutput(null));
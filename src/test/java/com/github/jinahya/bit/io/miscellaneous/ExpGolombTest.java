@@ -20,6 +20,7 @@ package com.github.jinahya.bit.io.miscellaneous;
  * #L%
  */
 
+import com.github.jinahya.bit.io.ArrayBitInput;
 import com.github.jinahya.bit.io.BitOutput;
 import com.github.jinahya.bit.io.DefaultBitOutput;
 import com.github.jinahya.bit.io.StreamByteOutput;
@@ -67,6 +68,13 @@ class ExpGolombTest {
         }
     }
 
+    @Test
+    void ueRejectsMalformedCodeAfterSixtyFourZeros() {
+        final ArrayBitInput input = new ArrayBitInput(new byte[64]);
+        assertThrows(IOException.class, () -> ExpGolombUE.readCodeNum(input));
+        assertEquals(8L, input.getCount()); // no more than 64 bits scanned
+    }
+
     @Test
     void ueRejectsNegativeValue() {
         assertThrows(IllegalArgumentException.class, () -> writeUe(-1L));
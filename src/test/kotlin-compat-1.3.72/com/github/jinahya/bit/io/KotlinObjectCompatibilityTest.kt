@@ -37,6 +37,7 @@ internal class KotlinObjectCompatibilityTest {
         output.writeObject(StringWriter.ofAscii(8), "Kotlin")
         output.writeObject(StringWriter(8, "UTF-8"), "compat")
         output.align(1)
+        output.flush()
 
         val input = BitInputs.from(ByteArrayInputStream(target.toByteArray()))
         assertArrayEquals(bytes, input.readObject(ByteArrayReader.Unsigned(4, 4)))
@@ -60,6 +61,7 @@ internal class KotlinObjectCompatibilityTest {
         nullableWriter.write(output, "present")
         nullableWriter.write(output, null)
         output.align(1)
+        output.flush()
 
         val input = BitInputs.from(ByteArrayInputStream(target.toByteArray()))
         assertEquals("present", nullableReader.read(input))
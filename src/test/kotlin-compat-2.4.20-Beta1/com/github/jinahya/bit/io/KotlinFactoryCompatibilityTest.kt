@@ -38,6 +38,7 @@ internal class KotlinFactoryCompatibilityTest {
         val streamOutput: BitOutput = BitOutputs.from(streamTarget)
         streamOutput.writeInt(true, 5, 31)
         streamOutput.align(1)
+        streamOutput.flush()
         val streamInput: BitInput = BitInputs.from(ByteArrayInputStream(streamTarget.toByteArray()))
         assertEquals(31, streamInput.readInt(true, 5))
 
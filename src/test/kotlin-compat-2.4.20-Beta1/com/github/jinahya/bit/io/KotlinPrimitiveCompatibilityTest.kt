@@ -35,6 +35,7 @@ internal class KotlinPrimitiveCompatibilityTest {
         output.writeFloat32Le(1.25f)
         output.writeDouble64(123.5)
         output.align(1)
+        output.flush()
 
         val input = BitInputs.from(ByteArrayInputStream(target.toByteArray()))
         assertEquals((-321).toShort(), input.readShort(false, 12))